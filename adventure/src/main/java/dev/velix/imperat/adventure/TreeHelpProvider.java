@@ -6,6 +6,7 @@ import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.exception.ImperatException;
 import dev.velix.imperat.help.HelpProvider;
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
@@ -16,11 +17,16 @@ import net.kyori.adventure.text.format.TextDecoration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * A highly customizable help provider that renders commands in a tree-like structure.
  * Supports custom themes, formatting options, and advanced styling.
+ * <p>
+ * The lines of a command's help are rendered once, then sent as they are,
+ * until subcommands or usages are added to the command or the theme changes.
  *
  * @param <S> The source type for command execution, extending Source
  */
@@ -74,235 +80,285 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
         private int maxDepth = -1; // -1 means no limit
         private boolean compactView = false;
 
+        // Bumped by every setter, so that the help rendered with older settings is rendered again
+        @Getter(AccessLevel.NONE)
+        private int modifications = 0;
+
         public Theme() {}
 
         public Theme setPrefix(Component prefix) {
             this.prefix = prefix;
+            this.modifications++;
             return this;
         }
 
         public Theme setPrefix(String prefix, TextColor color) {
             this.prefix = Component.text(prefix, color);
+            this.modifications++;
             return this;
         }
 
         public Theme setBranch(Component branch) {
             this.branch = branch;
+            this.modifications++;
             return this;
         }
 
         public Theme setBranch(String branch, TextColor color) {
             this.branch = Component.text(branch, color);
+            this.modifications++;
             return this;
         }
 
         public Theme setLastBranch(Component lastBranch) {
             this.lastBranch = lastBranch;
+            this.modifications++;
             return this;
         }
 
         public Theme setLastBranch(String lastBranch, TextColor color) {
             this.lastBranch = Component.text(lastBranch, color);
+            this.modifications++;
             return this;
         }
 
         public Theme setIndent(Component indent) {
             this.indent = indent;
+            this.modifications++;
             return this;
         }
 
         public Theme setIndent(String indent, TextColor color) {
             this.indent = Component.text(indent, color);
+            this.modifications++;
             return this;
         }
 
         public Theme setEmptyIndent(Component emptyIndent) {
             this.emptyIndent = emptyIndent;
+            this.modifications++;
             return this;
         }
 
         public Theme setEmptyIndent(String emptyIndent, TextColor color) {
             this.emptyIndent = Component.text(emptyIndent, color);
+            this.modifications++;
             return this;
         }
 
         public Theme setCommandNameColor(TextColor commandNameColor) {
             this.commandNameColor = commandNameColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setCommandNameColor(String hexColor) {
             this.commandNameColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setSubCommandNameColor(TextColor subCommandNameColor) {
             this.subCommandNameColor = subCommandNameColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setSubCommandNameColor(String hexColor) {
             this.subCommandNameColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setUsageColor(TextColor usageColor) {
             this.usageColor = usageColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setUsageColor(String hexColor) {
             this.usageColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setDescriptionColor(TextColor descriptionColor) {
             this.descriptionColor = descriptionColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setDescriptionColor(String hexColor) {
             this.descriptionColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setSeparatorColor(TextColor separatorColor) {
             this.separatorColor = separatorColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setSeparatorColor(String hexColor) {
             this.separatorColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setHeaderColor(TextColor headerColor) {
             this.headerColor = headerColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setHeaderColor(String hexColor) {
             this.headerColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setFooterColor(TextColor footerColor) {
             this.footerColor = footerColor;
+            this.modifications++;
             return this;
         }
 
         public Theme setFooterColor(String hexColor) {
             this.footerColor = TextColor.fromHexString(hexColor);
+            this.modifications++;
             return this;
         }
 
         public Theme setHeaderDecorations(TextDecoration... decorations) {
             this.headerDecorations = decorations;
+            this.modifications++;
             return this;
         }
 
         public Theme setFooterDecorations(TextDecoration... decorations) {
             this.footerDecorations = decorations;
+            this.modifications++;
             return this;
         }
 
         public Theme setCommandNameDecorations(List<TextDecoration> commandNameDecorations) {
             this.commandNameDecorations = commandNameDecorations;
+            this.modifications++;
             return this;
         }
 
         public Theme setCommandNameDecorations(TextDecoration... decorations) {
             this.commandNameDecorations = Arrays.asList(decorations);
+            this.modifications++;
             return this;
         }
 
         public Theme setSubCommandNameDecorations(List<TextDecoration> subCommandNameDecorations) {
             this.subCommandNameDecorations = subCommandNameDecorations;
+            this.modifications++;
             return this;
         }
 
         public Theme setSubCommandNameDecorations(TextDecoration... decorations) {
             this.subCommandNameDecorations = Arrays.asList(decorations);
+            this.modifications++;
             return this;
         }
 
         public Theme setUsageDecorations(List<TextDecoration> usageDecorations) {
             this.usageDecorations = usageDecorations;
+            this.modifications++;
             return this;
         }
 
         public Theme setUsageDecorations(TextDecoration... decorations) {
             this.usageDecorations = Arrays.asList(decorations);
+            this.modifications++;
             return this;
         }
 
         public Theme setDescriptionDecorations(List<TextDecoration> descriptionDecorations) {
             this.descriptionDecorations = descriptionDecorations;
+            this.modifications++;
             return this;
         }
 
         public Theme setDescriptionDecorations(TextDecoration... decorations) {
             this.descriptionDecorations = Arrays.asList(decorations);
+            this.modifications++;
             return this;
         }
 
         public Theme setSeparator(String separator) {
             this.separator = separator;
+            this.modifications++;
             return this;
         }
 
         public Theme setUsagePrefix(String usagePrefix) {
             this.usagePrefix = usagePrefix;
+            this.modifications++;
             return this;
         }
 
         public Theme setShowDescriptions(boolean showDescriptions) {
             this.showDescriptions = showDescriptions;
+            this.modifications++;
             return this;
         }
 
         public Theme setShowUsage(boolean showUsage) {
             this.showUsage = showUsage;
+            this.modifications++;
             return this;
         }
 
         public Theme setShowSubCommandCount(boolean showSubCommandCount) {
             this.showSubCommandCount = showSubCommandCount;
+            this.modifications++;
             return this;
         }
 
         public Theme setShowFooter(boolean showFooter) {
             this.showFooter = showFooter;
+            this.modifications++;
             return this;
         }
 
         public Theme setShowHeader(boolean showHeader) {
             this.showHeader = showHeader;
+            this.modifications++;
             return this;
         }
 
         public Theme setHeaderMessage(String headerMessage) {
             this.headerMessage = headerMessage;
+            this.modifications++;
             return this;
         }
 
         public Theme setNoCommandsMessage(String noCommandsMessage) {
             this.noCommandsMessage = noCommandsMessage;
+            this.modifications++;
             return this;
         }
 
         public Theme setFooterMessage(String footerMessage) {
             this.footerMessage = footerMessage;
+            this.modifications++;
             return this;
         }
 
         public Theme setMaxDepth(int maxDepth) {
             this.maxDepth = maxDepth;
+            this.modifications++;
             return this;
         }
 
         public Theme setCompactView(boolean compactView) {
             this.compactView = compactView;
+            this.modifications++;
             return this;
         }
 
@@ -470,6 +526,9 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
     private final ResponseHandler<S> responseHandler;
     private Function<String, String> footerCommandFormatter = cmd -> cmd;
 
+    //the lines rendered for each command
+    private final Map<Command<S>, RenderedHelp> renderedHelp = new ConcurrentHashMap<>();
+
     /**
      * Functional interface to handle how responses are sent to the source
      */
@@ -504,12 +563,36 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
      */
     public TreeHelpProvider<S> setFooterCommandFormatter(Function<String, String> formatter) {
         this.footerCommandFormatter = formatter;
+        this.renderedHelp.clear();
         return this;
     }
 
+    /**
+     * Drops the rendered help of every command, to be called when
+     * a list of decorations of the theme is modified in place.
+     * Modifying a command, e.g. describing it or adding usages to it, already renders its help again.
+     */
+    public void invalidate() {
+        renderedHelp.clear();
+    }
+
     @Override
     public void provide(ExecutionContext<S> context, S source) {
         Command<S> command = context.command();
+        int modifications = command.modifications();
+        RenderedHelp rendered = renderedHelp.get(command);
+        if (rendered == null || rendered.modifications != modifications || rendered.themeModifications != config.modifications) {
+            rendered = new RenderedHelp(modifications, config.modifications, render(command));
+            renderedHelp.put(command, rendered);
+        }
+
+        for (Component line : rendered.lines) {
+            responseHandler.reply(source, line);
+        }
+    }
+
+    private List<Component> render(Command<S> command) {
+        List<Component> lines = new ArrayList<>();
 
         // Display main command with usage
         TextComponent.Builder headerBuilder = Component.text();
@@ -544,7 +627,7 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
             headerBuilder.append(descComponent);
         }
 
-        responseHandler.reply(source, headerBuilder.build());
+        lines.add(headerBuilder.build());
 
         // Display subcommands
         List<Command<S>> subCommands = new ArrayList<>(command.getSubCommands());
@@ -552,30 +635,31 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
             // No need to show usage again if we already showed it in the header and it's not empty
             String mainUsage = CommandUsage.format((String)null, command.getMainUsage());
             if (mainUsage.isEmpty() || !config.isShowUsage()) {
-                responseHandler.reply(source, Component.text(config.getNoCommandsMessage(), config.getHeaderColor()));
+                lines.add(Component.text(config.getNoCommandsMessage(), config.getHeaderColor()));
             }
         } else {
             // Show header if enabled
             if (config.isShowHeader()) {
-                responseHandler.reply(source, Component.text(config.getHeaderMessage(), config.getHeaderColor()).decorate(config.getHeaderDecorations()));
+                lines.add(Component.text(config.getHeaderMessage(), config.getHeaderColor()).decorate(config.getHeaderDecorations()));
             }
 
             // Process each subcommand
             for (int i = 0; i < subCommands.size(); i++) {
                 boolean isLast = i == subCommands.size() - 1;
-                displaySubCommand(source, subCommands.get(i), isLast, new ArrayList<>(), 0);
+                displaySubCommand(lines, subCommands.get(i), isLast, new ArrayList<>(), 0);
             }
 
             // Show footer if enabled
             if (config.isShowFooter()) {
                 String footerText = config.getFooterMessage().replace("{command}",
                         footerCommandFormatter.apply(command.name()));
-                responseHandler.reply(source, Component.text(footerText, config.getFooterColor()).decorate(config.getFooterDecorations()));
+                lines.add(Component.text(footerText, config.getFooterColor()).decorate(config.getFooterDecorations()));
             }
         }
+        return lines;
     }
 
-    private void displaySubCommand(S source, Command<S> command, boolean isLast,
+    private void displaySubCommand(List<Component> lines, Command<S> command, boolean isLast,
                                    List<Boolean> indentationPattern, int depth) {
         // Check if we've reached the max depth
         if (config.getMaxDepth() > 0 && depth >= config.getMaxDepth()) {
@@ -616,7 +700,7 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
         }
 
         // Send the complete line
-        responseHandler.reply(source, Component.empty()
+        lines.add(Component.empty()
                 .append(prefix)
                 .append(nameComponent)
                 .append(usageComponent)
@@ -629,7 +713,7 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
 
             for (int i = 0; i < children.size(); i++) {
                 boolean isLastChild = i == children.size() - 1;
-                displaySubCommand(source, children.get(i), isLastChild, newPattern, depth + 1);
+                displaySubCommand(lines, children.get(i), isLastChild, newPattern, depth + 1);
             }
         }
     }
@@ -667,4 +751,8 @@ public class TreeHelpProvider<S extends Source> implements HelpProvider<S> {
         }
         return usageComponent;
     }
+
+    //the lines rendered for a command, along with what they were rendered from
+    private record RenderedHelp(int modifications, int themeModifications, List<Component> lines) {
+    }
 }
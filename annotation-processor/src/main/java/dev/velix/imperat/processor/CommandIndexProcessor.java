@@ -0,0 +1,280 @@
+package dev.velix.imperat.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Generates an index for every class holding commands, along with the classes nested in it,
+ * recording the order its methods and inner classes are declared in and a caller invoking each of its methods directly,
+ * so that Imperat reads the class without reading its class file back nor generating callers at runtime.
+ * <p>
+ * The generated classes implement {@code dev.velix.imperat.annotations.base.GeneratedCommandIndex},
+ * which describes how they're named and found.
+ * A class which can't be indexed, e.g. because its methods refer to types that don't exist yet,
+ * is simply left without an index and read at runtime as it always was.
+ */
+@SupportedAnnotationTypes({
+    "dev.velix.imperat.annotations.Command",
+    "dev.velix.imperat.annotations.SubCommand",
+    "dev.velix.imperat.annotations.Usage",
+    "dev.velix.imperat.annotations.ExternalSubCommand"
+})
+public final class CommandIndexProcessor extends AbstractProcessor {
+
+    private static final String INDEX_INTERFACE = "dev.velix.imperat.annotations.base.GeneratedCommandIndex";
+    private static final String CALLER_INTERFACE = "dev.velix.imperat.util.asm.MethodCaller";
+    private static final String SUFFIX = "_ImperatIndex";
+
+    //the binary names of the classes already indexed, as a class may be met in several rounds
+    private final Set<String> indexed = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement outermost = outermostTypeOf(element);
+                if (outermost != null) {
+                    index(outermost, outermost);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static TypeElement outermostTypeOf(Element element) {
+        TypeElement outermost = null;
+        for (Element current = element; current != null && !(current instanceof PackageElement); current = current.getEnclosingElement()) {
+            if (current instanceof TypeElement type) {
+                outermost = type;
+            }
+        }
+        return outermost;
+    }
+
+    private void index(TypeElement type, TypeElement origin) {
+        if (!indexed.add(binaryNameOf(type))) {
+            return;
+        }
+        try {
+            write(type, origin);
+        } catch (UnresolvedTypeException ex) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "Not indexing '" + type.getQualifiedName() + "', it refers to an unresolved type",
+                type
+            );
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.WARNING,
+                "Failed to write the index of '" + type.getQualifiedName() + "': " + ex.getMessage(),
+                type
+            );
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            index(nested, origin);
+        }
+    }
+
+    private void write(TypeElement type, TypeElement origin) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = binaryNameOf(type);
+        String nestedName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String indexName = nestedName.replace('$', '_') + SUFFIX;
+
+        List<String> methods = new ArrayList<>();
+        List<String> callers = new ArrayList<>();
+        boolean callable = isAccessible(type, packageName);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String signature = signatureOf(method);
+            methods.add(signature);
+            if (callable && isCallable(method, packageName)) {
+                callers.add("            case \"" + signature + "\":\n                return " + callerOf(type, method) + ";\n");
+            }
+        }
+
+        List<String> innerClasses = new ArrayList<>();
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            innerClasses.add(binaryNameOf(nested));
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(CommandIndexProcessor.class.getName()).append("\")\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(indexName).append(" implements ").append(INDEX_INTERFACE).append(" {\n\n")
+            .append("    @Override\n")
+            .append("    public java.util.List<java.lang.String> methods() {\n")
+            .append("        return ").append(listOf(methods)).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public java.util.List<java.lang.String> innerClasses() {\n")
+            .append("        return ").append(listOf(innerClasses)).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(CALLER_INTERFACE).append(" caller(java.lang.String method) {\n")
+            .append("        switch (method) {\n");
+        callers.forEach(source::append);
+        source.append("            default:\n")
+            .append("                return null;\n")
+            .append("        }\n")
+            .append("    }\n")
+            .append("}\n");
+
+        String qualifiedIndexName = packageName.isEmpty() ? indexName : packageName + "." + indexName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedIndexName, origin).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private static String listOf(List<String> values) {
+        if (values.isEmpty()) {
+            return "java.util.List.of()";
+        }
+        StringBuilder list = new StringBuilder("java.util.List.of(");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                list.append(", ");
+            }
+            list.append('"').append(values.get(i)).append('"');
+        }
+        return list.append(')').toString();
+    }
+
+    private String callerOf(TypeElement type, ExecutableElement method) {
+        StringBuilder call = new StringBuilder();
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            call.append(sourceNameOf(type.asType()));
+        } else {
+            call.append("((").append(sourceNameOf(type.asType())).append(") instance)");
+        }
+        call.append('.').append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                call.append(", ");
+            }
+            call.append('(').append(sourceNameOf(parameters.get(i).asType())).append(") arguments[").append(i).append(']');
+        }
+        call.append(')');
+
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            return "(instance, arguments) -> {\n                    " + call + ";\n                    return null;\n                }";
+        }
+        return "(instance, arguments) -> " + call;
+    }
+
+    private boolean isCallable(ExecutableElement method, String packageName) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.ABSTRACT) || !method.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        TypeMirror returnType = method.getReturnType();
+        if (returnType.getKind() != TypeKind.VOID && !isAccessible(returnType, packageName)) {
+            return false;
+        }
+        for (VariableElement parameter : method.getParameters()) {
+            if (!isAccessible(parameter.asType(), packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessible(TypeMirror type, String packageName) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case ARRAY -> isAccessible(((ArrayType) erased).getComponentType(), packageName);
+            case DECLARED -> isAccessible((TypeElement) ((DeclaredType) erased).asElement(), packageName);
+            case BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE -> true;
+            default -> false;
+        };
+    }
+
+    //whether the type, and every type it's nested in, can be referred to from the package
+    private boolean isAccessible(TypeElement type, String packageName) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().contentEquals(packageName);
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //the erasure of the type as written in source, without the annotations its string form may hold
+    private String sourceNameOf(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case ARRAY -> sourceNameOf(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+            default -> erased.getKind().name().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private String signatureOf(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(descriptorOf(parameter.asType()));
+        }
+        return signature.append(')').append(descriptorOf(method.getReturnType())).toString();
+    }
+
+    private String descriptorOf(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case CHAR -> "C";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case VOID -> "V";
+            case ARRAY -> "[" + descriptorOf(((ArrayType) erased).getComponentType());
+            case DECLARED -> "L" + binaryNameOf((TypeElement) ((DeclaredType) erased).asElement()).replace('.', '/') + ";";
+            default -> throw new UnresolvedTypeException();
+        };
+    }
+
+    private String binaryNameOf(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static final class UnresolvedTypeException extends RuntimeException {
+
+        private UnresolvedTypeException() {
+            super(null, null, false, false);
+        }
+    }
+}
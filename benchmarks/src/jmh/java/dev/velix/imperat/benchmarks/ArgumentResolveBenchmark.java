@@ -0,0 +1,27 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.context.ResolvedContext;
+import dev.velix.imperat.exception.ImperatException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving the raw arguments of an already matched usage into values,
+ * {@code ResolvedContext#resolve()} which runs the {@code ParameterValueAssigner} chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentResolveBenchmark {
+
+    @Benchmark
+    public ResolvedContext<BenchmarkSource> resolve(FixtureState state) throws ImperatException {
+        ResolvedContext<BenchmarkSource> resolvedContext = state.imperat.config().getContextFactory()
+            .createResolvedContext(state.context, state.usage);
+        resolvedContext.resolve();
+        return resolvedContext;
+    }
+}
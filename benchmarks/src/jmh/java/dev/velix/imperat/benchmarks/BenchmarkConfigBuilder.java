@@ -0,0 +1,20 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.ConfigBuilder;
+import org.jetbrains.annotations.NotNull;
+
+public final class BenchmarkConfigBuilder extends ConfigBuilder<BenchmarkSource, BenchmarkImperat, BenchmarkConfigBuilder> {
+
+    private BenchmarkConfigBuilder() {
+        super();
+    }
+
+    public static BenchmarkConfigBuilder builder() {
+        return new BenchmarkConfigBuilder();
+    }
+
+    @Override
+    public @NotNull BenchmarkImperat build() {
+        return new BenchmarkImperat(config);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.BaseImperat;
+import dev.velix.imperat.ImperatConfig;
+
+public final class BenchmarkImperat extends BaseImperat<BenchmarkSource> {
+
+    BenchmarkImperat(ImperatConfig<BenchmarkSource> config) {
+        super(config);
+    }
+
+    @Override
+    public BenchmarkSource wrapSender(Object sender) {
+        return new BenchmarkSource(String.valueOf(sender));
+    }
+
+    @Override
+    public Object getPlatform() {
+        return null;
+    }
+
+    @Override
+    public void shutdownPlatform() {
+        throw new IllegalStateException("A benchmark fixture failed to register");
+    }
+}
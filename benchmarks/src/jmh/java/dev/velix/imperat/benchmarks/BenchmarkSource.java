@@ -0,0 +1,43 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.context.Source;
+
+/**
+ * A silent {@link Source} used by the benchmarks, every message sent to it
+ * is discarded so that console I/O never shows up in the measurements.
+ */
+public final class BenchmarkSource implements Source {
+
+    private final String name;
+
+    public BenchmarkSource(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Object origin() {
+        return this;
+    }
+
+    @Override
+    public void reply(String message) {
+    }
+
+    @Override
+    public void warn(String message) {
+    }
+
+    @Override
+    public void error(String message) {
+    }
+
+    @Override
+    public boolean isConsole() {
+        return true;
+    }
+}
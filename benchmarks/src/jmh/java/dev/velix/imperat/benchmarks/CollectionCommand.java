@@ -0,0 +1,25 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.SubCommand;
+import dev.velix.imperat.annotations.Usage;
+
+import java.util.List;
+import java.util.Map;
+
+@Command("collections")
+public final class CollectionCommand {
+
+    @Usage
+    public void def(BenchmarkSource source) {
+    }
+
+    @SubCommand("list")
+    public void list(BenchmarkSource source, @Named("values") List<String> values) {
+    }
+
+    @SubCommand("map")
+    public void map(BenchmarkSource source, @Named("entries") Map<String, String> entries) {
+    }
+}
@@ -0,0 +1,267 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.command.AttachmentMode;
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.type.ParameterTypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * The command shapes the benchmarks are parameterized over,
+ * each fixture interprets the {@code size} parameter as described on its constant.
+ */
+public enum CommandFixture {
+
+    /**
+     * A chain of {@code size} nested subcommands, each taking one required argument:
+     * {@code /deep s1 <a1> s2 <a2> ... sN <aN>}
+     */
+    DEEP_SUBCOMMANDS("deep") {
+        @Override
+        void register(BenchmarkImperat imperat, int size) {
+            Command<BenchmarkSource> child = null;
+            for (int i = size; i >= 1; i--) {
+                var builder = Command.create(imperat, "s" + i)
+                    .usage(CommandUsage.<BenchmarkSource>builder()
+                        .parameters(CommandParameter.requiredText("a" + i))
+                        .execute((source, context) -> {
+                        }));
+                if (child != null) {
+                    builder.subCommand(child, AttachmentMode.MAIN);
+                }
+                child = builder.build();
+            }
+            imperat.registerCommand(
+                Command.create(imperat, label())
+                    .defaultExecution((source, context) -> {
+                    })
+                    .subCommand(child, AttachmentMode.MAIN)
+                    .build()
+            );
+        }
+
+        @Override
+        String arguments(int size) {
+            StringJoiner joiner = new StringJoiner(" ");
+            for (int i = 1; i <= size; i++) {
+                joiner.add("s" + i).add("v" + i);
+            }
+            return joiner.toString();
+        }
+
+        @Override
+        String[] completionArguments(int size) {
+            List<String> args = new ArrayList<>();
+            for (int i = 1; i < size; i++) {
+                args.add("s" + i);
+                args.add("v" + i);
+            }
+            args.add("s");
+            return args.toArray(String[]::new);
+        }
+    },
+
+    /**
+     * {@code size} sibling subcommands under one root, the input targets the last registered one:
+     * {@code /wide sub<N-1> <value>}
+     */
+    WIDE_SUBCOMMANDS("wide") {
+        @Override
+        void register(BenchmarkImperat imperat, int size) {
+            var builder = Command.create(imperat, label())
+                .defaultExecution((source, context) -> {
+                });
+            for (int i = 0; i < size; i++) {
+                builder.subCommand(
+                    "sub" + i,
+                    CommandUsage.<BenchmarkSource>builder()
+                        .parameters(CommandParameter.requiredText("value"))
+                        .execute((source, context) -> {
+                        })
+                );
+            }
+            imperat.registerCommand(builder.build());
+        }
+
+        @Override
+        String arguments(int size) {
+            return "sub" + (size - 1) + " value";
+        }
+
+        @Override
+        String[] completionArguments(int size) {
+            return new String[]{"sub"};
+        }
+    },
+
+    /**
+     * One required argument followed by {@code size} consecutive optional flags,
+     * alternating between switches and integer-valued flags:
+     * {@code /flags <target> [-switcha] [-valueb <int>] ...}
+     */
+    OPTIONAL_FLAGS("flags") {
+        @Override
+        void register(BenchmarkImperat imperat, int size) {
+            List<CommandParameter<BenchmarkSource>> parameters = new ArrayList<>();
+            parameters.add(CommandParameter.<BenchmarkSource>requiredText("target").build());
+            for (int i = 0; i < size; i++) {
+                parameters.add(
+                    i % 2 == 0
+                        ? CommandParameter.<BenchmarkSource>flagSwitch("switch" + suffix(i)).build()
+                        : CommandParameter.<BenchmarkSource, Integer>flag("value" + suffix(i), ParameterTypes.numeric(Integer.class)).build()
+                );
+            }
+            imperat.registerCommand(
+                Command.create(imperat, label())
+                    .usage(CommandUsage.<BenchmarkSource>builder()
+                        .parameters(parameters)
+                        .execute((source, context) -> {
+                        }))
+                    .build()
+            );
+        }
+
+        @Override
+        String arguments(int size) {
+            StringJoiner joiner = new StringJoiner(" ");
+            joiner.add("target");
+            for (int i = 0; i < size; i++) {
+                if (i % 2 == 0) {
+                    joiner.add("-switch" + suffix(i));
+                } else {
+                    joiner.add("-value" + suffix(i)).add(String.valueOf(i));
+                }
+            }
+            return joiner.toString();
+        }
+
+        @Override
+        String[] completionArguments(int size) {
+            return new String[]{"target", ""};
+        }
+    },
+
+    /**
+     * A greedy string consuming {@code size} words:
+     * {@code /greedy <target> <message...>}
+     */
+    GREEDY_STRING("greedy") {
+        @Override
+        void register(BenchmarkImperat imperat, int size) {
+            imperat.registerCommand(
+                Command.create(imperat, label())
+                    .usage(CommandUsage.<BenchmarkSource>builder()
+                        .parameters(
+                            CommandParameter.requiredText("target"),
+                            CommandParameter.requiredGreedy("message")
+                        )
+                        .execute((source, context) -> {
+                        }))
+                    .build()
+            );
+        }
+
+        @Override
+        String arguments(int size) {
+            StringJoiner joiner = new StringJoiner(" ");
+            joiner.add("target");
+            for (int i = 0; i < size; i++) {
+                joiner.add("word" + i);
+            }
+            return joiner.toString();
+        }
+
+        @Override
+        String[] completionArguments(int size) {
+            return new String[]{"target", "w"};
+        }
+    },
+
+    /**
+     * A {@code List<String>} parameter receiving {@code size} elements:
+     * {@code /collections list <values...>}
+     */
+    COLLECTION_PARAMETER("collections") {
+        @Override
+        void register(BenchmarkImperat imperat, int size) {
+            imperat.registerCommand(new CollectionCommand());
+        }
+
+        @Override
+        String arguments(int size) {
+            StringJoiner joiner = new StringJoiner(" ");
+            joiner.add("list");
+            for (int i = 0; i < size; i++) {
+                joiner.add("e" + i);
+            }
+            return joiner.toString();
+        }
+
+        @Override
+        String[] completionArguments(int size) {
+            return new String[]{"l"};
+        }
+    },
+
+    /**
+     * A {@code Map<String, String>} parameter receiving {@code size} entries:
+     * {@code /collections map <entries...>}
+     */
+    MAP_PARAMETER("collections") {
+        @Override
+        void register(BenchmarkImperat imperat, int size) {
+            imperat.registerCommand(new CollectionCommand());
+        }
+
+        @Override
+        String arguments(int size) {
+            StringJoiner joiner = new StringJoiner(" ");
+            joiner.add("map");
+            for (int i = 0; i < size; i++) {
+                joiner.add("k" + i + ",v" + i);
+            }
+            return joiner.toString();
+        }
+
+        @Override
+        String[] completionArguments(int size) {
+            return new String[]{"map", ""};
+        }
+    };
+
+    private final String label;
+
+    CommandFixture(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    abstract void register(BenchmarkImperat imperat, int size);
+
+    /**
+     * @param size the fixture size
+     * @return the raw arguments (without the label) that must dispatch successfully
+     */
+    abstract String arguments(int size);
+
+    /**
+     * @param size the fixture size
+     * @return the arguments as sent by a platform while the last one is being completed
+     */
+    abstract String[] completionArguments(int size);
+
+    /**
+     * Flag input must be alphabetic (see {@link dev.velix.imperat.util.Patterns}),
+     * so indices are mapped onto letters.
+     */
+    private static String suffix(int index) {
+        return String.valueOf((char) ('a' + index));
+    }
+}
@@ -0,0 +1,23 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end execution through {@code BaseImperat#dispatch(Source, String)}:
+ * line splitting, tree matching, processors, argument resolution and the (empty) execution.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DispatchBenchmark {
+
+    @Benchmark
+    public CommandDispatch.Result dispatch(FixtureState state) {
+        return state.imperat.dispatch(state.source, state.line);
+    }
+}
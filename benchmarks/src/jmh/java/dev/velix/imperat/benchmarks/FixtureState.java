@@ -0,0 +1,80 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.suggestions.CompletionArg;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.SuggestionContext;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Registers one {@link CommandFixture} into a fresh imperat instance and
+ * prepares every intermediate object the benchmarks may start from.
+ */
+@State(Scope.Benchmark)
+public class FixtureState {
+
+    @Param
+    public CommandFixture fixture;
+
+    @Param({"1", "4", "8"})
+    public int size;
+
+    public BenchmarkImperat imperat;
+    public BenchmarkSource source;
+    public Command<BenchmarkSource> command;
+
+    /**
+     * The full command line, label included.
+     */
+    public String line;
+    public ArgumentQueue arguments;
+    public Context<BenchmarkSource> context;
+    public CommandUsage<BenchmarkSource> usage;
+
+    public String[] completionArguments;
+    public SuggestionContext<BenchmarkSource> suggestionContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        imperat = BenchmarkConfigBuilder.builder().build();
+        source = new BenchmarkSource("benchmark");
+        fixture.register(imperat, size);
+
+        command = imperat.getCommand(fixture.label());
+        if (command == null) {
+            throw new IllegalStateException("Fixture " + fixture + " did not register '" + fixture.label() + "'");
+        }
+
+        String rawArguments = fixture.arguments(size);
+        line = fixture.label() + " " + rawArguments;
+        arguments = ArgumentQueue.parse(rawArguments);
+        context = imperat.config().getContextFactory()
+            .createContext(imperat, source, command, fixture.label(), arguments);
+
+        CommandDispatch<BenchmarkSource> dispatch = command.contextMatch(context);
+        usage = dispatch.toUsage();
+        if (dispatch.getResult() != CommandDispatch.Result.COMPLETE || usage == null) {
+            throw new IllegalStateException("Fixture " + fixture + " does not match its own input '" + line + "'");
+        }
+        if (imperat.dispatch(source, line) != CommandDispatch.Result.COMPLETE) {
+            throw new IllegalStateException("Fixture " + fixture + " failed to execute '" + line + "'");
+        }
+
+        completionArguments = fixture.completionArguments(size);
+        String last = completionArguments[completionArguments.length - 1];
+        CompletionArg argToComplete = new CompletionArg(last, completionArguments.length - 1);
+        suggestionContext = imperat.config().getContextFactory()
+            .createSuggestionContext(
+                imperat, source, command, fixture.label(),
+                ArgumentQueue.parseAutoCompletion(completionArguments, argToComplete.isEmpty()),
+                argToComplete
+            );
+    }
+}
@@ -0,0 +1,35 @@
+package dev.velix.imperat.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggestion collection for the argument being typed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TabCompleteBenchmark {
+
+    /**
+     * {@code CommandTree#tabComplete} against a prepared suggestion context.
+     */
+    @Benchmark
+    public List<String> tabComplete(FixtureState state) {
+        return state.command.tree().tabComplete(state.imperat, state.suggestionContext);
+    }
+
+    /**
+     * The full path a platform goes through on every keystroke,
+     * re-parsing the arguments and waiting for the completion future.
+     */
+    @Benchmark
+    public List<String> autoComplete(FixtureState state) {
+        return state.imperat.autoComplete(state.command, state.source, state.command.name(), state.completionArguments)
+            .join();
+    }
+}
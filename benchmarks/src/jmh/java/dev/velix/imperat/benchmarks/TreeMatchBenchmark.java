@@ -0,0 +1,22 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching pre-tokenized input against the command tree with {@code CommandTree#contextMatch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TreeMatchBenchmark {
+
+    @Benchmark
+    public CommandDispatch<BenchmarkSource> contextMatch(FixtureState state) {
+        return state.command.tree().contextMatch(state.arguments, state.imperat.config());
+    }
+}
@@ -9,21 +9,27 @@ import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.command.Description;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.FlagParameter;
 import dev.velix.imperat.command.suggestions.CompletionArg;
+import dev.velix.imperat.command.suggestions.SuggestionCollector;
 import dev.velix.imperat.command.tree.CommandNode;
+import dev.velix.imperat.command.tree.FlagBagNode;
 import dev.velix.imperat.command.tree.ParameterNode;
 import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.util.ImperatDebugger;
 import dev.velix.imperat.util.TypeUtility;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,32 +48,59 @@ public abstract non-sealed class BaseBrigadierManager<S extends Source> implemen
     public @NotNull <T> LiteralCommandNode<T> parseCommandIntoNode(@NotNull Command<S> command) {
         var tree = command.tree();
         var root = tree.getRoot();
-        return this.<T>convertRoot(root).build();
+        return this.convertRoot(root);
     }
 
     @SuppressWarnings("unchecked")
-    private <T> LiteralArgumentBuilder<T> convertRoot(CommandNode<S> root) {
+    private <T> LiteralCommandNode<T> convertRoot(CommandNode<S> root) {
         LiteralArgumentBuilder<T> builder = (LiteralArgumentBuilder<T>) literal(root.getData().name())
             .requires((obj) -> {
                 var source = wrapCommandSource(obj);
                 return root.getData().isIgnoringACPerms()
                     || dispatcher.config().getPermissionResolver().hasPermission(source, root.getData().permission());
             });
-        executor(builder);
+        executor(builder, root, root);
 
-        for (var child : root.getChildren()) {
-            builder.then(convertNode(root, root, child));
+        LiteralCommandNode<T> rootNode = builder.build();
+        addChildren(root, root, rootNode);
+        return rootNode;
+    }
+
+    private <T> void addChildren(CommandNode<S> root, ParameterNode<S, ?> node, com.mojang.brigadier.tree.CommandNode<T> brigadierNode) {
+        for (var child : node.getChildren()) {
+            if (child instanceof FlagBagNode<?> bag) {
+                var bagNode = (FlagBagNode<S>) bag;
+                // flags of a bag may come in any order, so each of them leads back to the node owning the bag,
+                // the parameters following the flags are reachable from there as well.
+                for (var flag : bagNode.getFlags()) {
+                    brigadierNode.addChild(this.<T>createBuilder(root, node, null, flag, false).redirect(brigadierNode).build());
+                }
+                continue;
+            }
+            brigadierNode.addChild(convertNode(root, node, child));
         }
-        return builder;
     }
 
-    private <T> com.mojang.brigadier.tree.CommandNode<T> convertNode(CommandNode<S> root, ParameterNode<?, ?> parent, ParameterNode<S, ?> node) {
+    private <T> com.mojang.brigadier.tree.CommandNode<T> convertNode(CommandNode<S> root, ParameterNode<S, ?> parent, ParameterNode<S, ?> node) {
+        ArgumentBuilder<T, ?> childBuilder = createBuilder(root, parent, node, node.getData(), node instanceof CommandNode<?>);
+        var childNode = childBuilder.build();
+        addChildren(root, node, childNode);
+        return childNode;
+    }
+
+    private <T> ArgumentBuilder<T, ?> createBuilder(
+        CommandNode<S> root,
+        ParameterNode<S, ?> parent,
+        @Nullable ParameterNode<S, ?> node,
+        CommandParameter<S> parameter,
+        boolean literal
+    ) {
 
-        var argType = getArgumentType(node.getData());
+        var argType = getArgumentType(parameter);
 
-        ArgumentBuilder<T, ?> childBuilder = node instanceof CommandNode<?> ?
-            LiteralArgumentBuilder.literal(node.getData().name())
-            : RequiredArgumentBuilder.argument(node.getData().name(), argType);
+        ArgumentBuilder<T, ?> childBuilder = literal ?
+            LiteralArgumentBuilder.literal(parameter.name())
+            : RequiredArgumentBuilder.argument(parameter.name(), argType);
         
         childBuilder.requires((obj) -> {
             var permissionResolver = dispatcher.config().getPermissionResolver();
@@ -77,30 +110,26 @@ public abstract non-sealed class BaseBrigadierManager<S extends Source> implemen
             if (parent != root && parent instanceof CommandNode<?> parentCmdNode) {
                 isIgnoringAC = isIgnoringAC && parentCmdNode.getData().isIgnoringACPerms();
             }
-            if (node instanceof CommandNode<?> commandNode) {
-                isIgnoringAC = isIgnoringAC && commandNode.getData().isIgnoringACPerms();
+            if (parameter instanceof Command<?> command) {
+                isIgnoringAC = isIgnoringAC && command.isIgnoringACPerms();
             }
             if (isIgnoringAC) {
                 return true;
             }
             boolean hasParentPerm = permissionResolver.hasPermission(source, parent.getData().permission());
-            boolean hasNodePerm = permissionResolver.hasPermission(source, node.getData().permission());
+            boolean hasNodePerm = permissionResolver.hasPermission(source, parameter.permission());
 
             return (hasParentPerm && hasNodePerm);
         });
 
-        executor(childBuilder);
-        if (!(node instanceof CommandNode<?>)) {
+        executor(childBuilder, root, node);
+        if (!literal) {
             ((RequiredArgumentBuilder<T, ?>) childBuilder).suggests(
-                createSuggestionProvider(root.getData(), node.getData())
+                createSuggestionProvider(root.getData(), parameter)
             );
         }
 
-        for (var innerChild : node.getChildren()) {
-            childBuilder.then(convertNode(root, node, innerChild));
-        }
-
-        return childBuilder.build();
+        return childBuilder;
     }
 
 
@@ -118,46 +147,116 @@ public abstract non-sealed class BaseBrigadierManager<S extends Source> implemen
             String input = context.getInput();
             String label = input.substring(0, input.indexOf(' '));
 
-            boolean hadExtraSpace = Character.isWhitespace(input.charAt(input.length() - 1));
-            String[] processed = processedInput(input);
-
-            ArgumentQueue args = ArgumentQueue.parseAutoCompletion(processed, hadExtraSpace);
+            ArgumentQueue args = argumentsOf(context);
+            String remaining = builder.getRemaining();
+            if (args == null || isCompound(remaining)) {
+                boolean hadExtraSpace = Character.isWhitespace(input.charAt(input.length() - 1));
+                args = ArgumentQueue.parseAutoCompletion(argumentsLine(input), hadExtraSpace);
+            } else {
+                // a blank argument stands for the one about to be entered, as when tokenizing the input
+                args.add(remaining.isEmpty() ? " " : remaining);
+            }
 
             CompletionArg arg = new CompletionArg(args.isEmpty() ? "" : args.getLast(), args.size() - 1);
             SuggestionContext<S> ctx = dispatcher.config().getContextFactory().createSuggestionContext(dispatcher, source, command, label, args, arg);
 
             return dispatcher.config().getParameterSuggestionResolver(parameter).asyncAutoComplete(ctx, parameter)
                 .thenCompose((results) -> {
-                    results
-                        .stream()
-                        .filter(c -> arg.isEmpty() || c.toLowerCase().startsWith(arg.value().toLowerCase()))
-                        .distinct()
-                        .sorted(String.CASE_INSENSITIVE_ORDER)
-                        .forEach((res) -> builder.suggest(res, tooltip));
+                    //brigadier sorts the suggestions it's built with, only the best ones are collected
+                    SuggestionCollector collector = new SuggestionCollector(
+                        dispatcher.config().getSuggestionLimit(),
+                        dispatcher.config().getSuggestionRanking().forSource(source),
+                        arg.value()
+                    );
+                    collector.acceptAll(results);
+                    for (String res : collector.toList()) {
+                        builder.suggest(res, tooltip);
+                    }
                     return builder.buildFuture();
                 });
         };
     }
 
-    private void executor(ArgumentBuilder<?, ?> builder) {
+    /**
+     * Sets the executor of a node, which executes the usage ending at the imperat node directly
+     * when brigadier's parse reached it without redirects, since that parse already matched the input against the same tree.
+     * Otherwise, the whole input is dispatched through imperat.
+     *
+     * @param builder the builder of the brigadier node
+     * @param root    the root of the tree
+     * @param node    the imperat node the brigadier node was converted from, null if it has no single counterpart
+     */
+    private void executor(ArgumentBuilder<?, ?> builder, CommandNode<S> root, @Nullable ParameterNode<S, ?> node) {
         builder.executes((context) -> {
             String input = context.getInput();
             S sender = this.wrapCommandSource(context.getSource());
-            dispatcher.dispatch(sender, input);
+            CommandUsage<S> usage = node == null ? null : node.getExecutableUsage();
+
+            // a context starting past the beginning of the input comes from a redirect (e.g. flags)
+            if (usage == null || context.getRange().getStart() != 0) {
+                dispatcher.dispatch(sender, input);
+                return com.mojang.brigadier.Command.SINGLE_SUCCESS;
+            }
+
+            int labelEnd = input.indexOf(' ');
+            String label = labelEnd == -1 ? input : input.substring(0, labelEnd);
+            ArgumentQueue arguments = argumentsOf(context);
+            var contextFactory = dispatcher.config().getContextFactory();
+            Context<S> imperatContext = contextFactory.createContext(dispatcher, sender, root.getData(), label, arguments);
+            try {
+                dispatcher.execute(imperatContext, usage);
+            } finally {
+                contextFactory.release(imperatContext);
+            }
             return com.mojang.brigadier.Command.SINGLE_SUCCESS;
         });
     }
 
-    private String[] processedInput(final String input) {
-        String result = input;
-        if (result.charAt(0) == '/')
-            result = result.substring(1);
+    /**
+     * Reads the arguments brigadier's parse matched from the ranges of its nodes, after the label's node,
+     * instead of tokenizing the input again.
+     * The range of a node spanning several words or quotes, e.g. of a greedy argument, is tokenized on its own.
+     *
+     * @param context the context of brigadier's parse
+     * @return the arguments, or null if the context doesn't start at the label, e.g. after a redirect
+     */
+    private static @Nullable ArgumentQueue argumentsOf(CommandContext<?> context) {
+        if (context.getRange().getStart() != 0) {
+            return null;
+        }
+        String input = context.getInput();
+        var nodes = context.getNodes();
+        ArgumentQueue arguments = ArgumentQueue.of(argumentsLine(input));
+        for (int i = 1; i < nodes.size(); i++) {
+            var range = nodes.get(i).getRange();
+            String raw = input.substring(range.getStart(), range.getEnd());
+            if (isCompound(raw)) {
+                arguments.addAll(ArgumentQueue.parse(raw));
+            } else {
+                arguments.add(raw);
+            }
+        }
+        return arguments;
+    }
 
-        String[] split = result.split(" ");
-        String[] argumentsOnly = new String[split.length - 1];
-        System.arraycopy(split, 1, argumentsOnly, 0, split.length - 1);
+    private static boolean isCompound(String raw) {
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (Character.isWhitespace(c) || c == '"' || c == '\'') {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return argumentsOnly;
+    /**
+     * @param input the whole input, label included
+     * @return the input after the label
+     */
+    private static String argumentsLine(final String input) {
+        int start = input.charAt(0) == '/' ? 1 : 0;
+        int labelEnd = input.indexOf(' ', start);
+        return labelEnd == -1 ? "" : input.substring(labelEnd + 1);
     }
 
     //resolvers methods
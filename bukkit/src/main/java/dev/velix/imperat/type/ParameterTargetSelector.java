@@ -4,6 +4,7 @@ import dev.velix.imperat.BukkitSource;
 import dev.velix.imperat.Version;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.BaseParameterType;
+import dev.velix.imperat.command.suggestions.SuggestionIndex;
 import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.context.internal.CommandInputStream;
@@ -29,6 +30,7 @@ public final class ParameterTargetSelector extends BaseParameterType<BukkitSourc
     private final static char PARAMETER_END = ']';
 
     private final SuggestionResolver<BukkitSource> suggestionResolver;
+    private final SuggestionIndex selectorIds;
 
     public ParameterTargetSelector() {
         super();
@@ -36,6 +38,7 @@ public final class ParameterTargetSelector extends BaseParameterType<BukkitSourc
             .filter(type -> type != SelectionType.UNKNOWN)
             .map(SelectionType::id)
             .forEach((id) -> suggestions.add(SelectionType.MENTION_CHARACTER + id));
+        selectorIds = SuggestionIndex.of(suggestions);
         suggestionResolver = new TargetSelectorSuggestionResolver();
     }
 
@@ -153,9 +156,14 @@ public final class ParameterTargetSelector extends BaseParameterType<BukkitSourc
             CommandParameter<BukkitSource> parameter
         ) {
             //ImperatDebugger.debug("SUGGESTING for TargetSelector");
-            List<String> completions = new ArrayList<>(suggestions);
-            Bukkit.getOnlinePlayers().stream().
-                map(Player::getName).forEach(completions::add);
+            String input = context.getArgToComplete().value();
+            List<String> completions = new ArrayList<>(selectorIds.withPrefix(input));
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                String name = player.getName();
+                if (input == null || name.regionMatches(true, 0, input, 0, input.length())) {
+                    completions.add(name);
+                }
+            }
             return completions;
         }
     }
@@ -13,10 +13,14 @@ import dev.velix.imperat.context.ArgumentQueue;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.ResolvedContext;
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.context.internal.Argument;
+import dev.velix.imperat.context.internal.ContextFactory;
 import dev.velix.imperat.exception.AmbiguousUsageAdditionException;
+import dev.velix.imperat.exception.ImperatException;
 import dev.velix.imperat.exception.InvalidCommandUsageException;
 import dev.velix.imperat.exception.InvalidSyntaxException;
 import dev.velix.imperat.exception.PermissionDeniedException;
+import dev.velix.imperat.resolvers.PermissionScope;
 import dev.velix.imperat.util.ImperatDebugger;
 import dev.velix.imperat.util.Preconditions;
 import dev.velix.imperat.util.TypeWrap;
@@ -25,16 +29,22 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public abstract class BaseImperat<S extends Source> implements Imperat<S> {
 
     protected final ImperatConfig<S> config;
     private @NotNull AnnotationParser<S> annotationParser;
     private final Map<String, Command<S>> commands = new HashMap<>();
+    //the commands prepared by registerCommands(Collection), about to be registered
+    private final Set<Command<S>> prepared = Collections.newSetFromMap(new IdentityHashMap<>());
 
     protected BaseImperat(@NotNull ImperatConfig<S> config) {
         this.config = config;
@@ -71,22 +81,69 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     @Override
     public void registerCommand(Command<S> command) {
         try {
-            var verifier = config.getUsageVerifier();
-            for (CommandUsage<S> usage : command.usages()) {
-                if (!verifier.verify(usage)) throw new InvalidCommandUsageException(command, usage);
-
-                for (CommandUsage<S> other : command.usages()) {
-                    if (other.equals(usage)) continue;
-                    if (verifier.areAmbiguous(usage, other))
-                        throw new AmbiguousUsageAdditionException(command, usage, other);
-                }
+            //already prepared by registerCommands(Collection)
+            if (prepared.remove(command)) {
+                this.registerCmd(command);
+                return;
             }
+            prepare(command);
             this.registerCmd(command);
         } catch (RuntimeException ex) {
             ImperatDebugger.error(BaseImperat.class, "registerCommand(CommandProcessingChain command)", ex);
             shutdownPlatform();
         }
     }
+
+    /**
+     * Registers many commands at once, parsing the annotated command classes among them
+     * in parallel on the common fork-join pool, along with verifying the usages of every command
+     * and compiling its tree.
+     * The commands are then registered one by one on the calling thread,
+     * only if all of them loaded fine, so either all of them are registered or none is.
+     *
+     * @param commands the commands and annotated command instances to register
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void registerCommands(Collection<?> commands) {
+        List<Command<S>> loaded;
+        try {
+            //safe, as loading a command only reads the registered parameter types, never adding suggestions to them
+            loaded = commands.parallelStream()
+                .flatMap((command) -> command instanceof Command<?> commandObj
+                    ? Stream.of((Command<S>) commandObj)
+                    : annotationParser.loadCommandClass(command).stream())
+                .map((command) -> {
+                    prepare(command);
+                    return command;
+                })
+                .toList();
+        } catch (RuntimeException ex) {
+            ImperatDebugger.error(BaseImperat.class, "registerCommands(Collection<?> commands)", ex);
+            shutdownPlatform();
+            return;
+        }
+
+        prepared.addAll(loaded);
+        try {
+            for (Command<S> command : loaded) {
+                registerCommand(command);
+            }
+        } finally {
+            prepared.clear();
+        }
+    }
+
+    //verifies the usages of the command and compiles its tree, touching nothing but the command itself
+    private void prepare(Command<S> command) {
+        var verifier = config.getUsageVerifier();
+        for (CommandUsage<S> usage : command.usages()) {
+            if (!verifier.verify(usage)) throw new InvalidCommandUsageException(command, usage);
+        }
+        var ambiguities = verifier.findAmbiguities(command.usages());
+        if (!ambiguities.isEmpty()) throw new AmbiguousUsageAdditionException(command, ambiguities);
+        if (command.tree() != null) command.tree().compile();
+    }
     private void registerCmd(@NotNull Command<S> command) {
         this.commands.put(command.name().trim().toLowerCase(), command);
         for(var aliases : command.aliases()) {
@@ -226,7 +283,10 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
 
     @Override
     public @NotNull CommandDispatch.Result dispatch(Context<S> context) {
-        try {
+        try (
+            PermissionScope ignored = config.getPermissionResolver().openScope();
+            ImperatException.StacklessScope ignoredErrors = ImperatException.openStacklessScope(config.isStacklessUserErrors())
+        ) {
             return handleExecution(context);
         } catch (Throwable ex) {
             config.handleExecutionThrowable(ex, context, BaseImperat.class, "dispatch");
@@ -234,13 +294,28 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         }
     }
 
+    @Override
+    public @NotNull CommandDispatch.Result execute(Context<S> context, CommandUsage<S> usage) {
+        try (
+            PermissionScope ignored = config.getPermissionResolver().openScope();
+            ImperatException.StacklessScope ignoredErrors = ImperatException.openStacklessScope(config.isStacklessUserErrors())
+        ) {
+            Command<S> command = context.command();
+            if (!config.getPermissionResolver().hasPermission(context.source(), command.permission())) {
+                throw new PermissionDeniedException();
+            }
+            executeUsage(command, context.source(), context, usage);
+            return CommandDispatch.Result.COMPLETE;
+        } catch (Throwable ex) {
+            config.handleExecutionThrowable(ex, context, BaseImperat.class, "execute");
+            return CommandDispatch.Result.FAILURE;
+        }
+    }
+
     @Override
     public @NotNull CommandDispatch.Result dispatch(S source, Command<S> command, String commandName, String[] rawInput) {
         ArgumentQueue rawArguments = ArgumentQueue.parse(rawInput);
-        Context<S> plainContext = config.getContextFactory()
-            .createContext(this, source, command, commandName, rawArguments);
-
-        return dispatch(plainContext);
+        return dispatchAndRelease(source, command, commandName, rawArguments);
     }
 
     @Override
@@ -255,15 +330,44 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
 
     @Override
     public @NotNull CommandDispatch.Result dispatch(S sender, String commandName, String rawArgsOneLine) {
-        return dispatch(sender, commandName, rawArgsOneLine.split(" "));
+        Command<S> command = getCommand(commandName);
+        if (command == null) {
+            sender.error("Unknown command input: '" + commandName + "'");
+            return CommandDispatch.Result.UNKNOWN;
+        }
+        ArgumentQueue rawArguments = ArgumentQueue.parse(stripTrailingSpaces(rawArgsOneLine));
+        return dispatchAndRelease(sender, command, commandName, rawArguments);
+    }
+
+    private CommandDispatch.Result dispatchAndRelease(S source, Command<S> command, String commandName, ArgumentQueue rawArguments) {
+        ContextFactory<S> contextFactory = config.getContextFactory();
+        Context<S> plainContext = contextFactory.createContext(this, source, command, commandName, rawArguments);
+        try {
+            return dispatch(plainContext);
+        } finally {
+            contextFactory.release(plainContext);
+        }
     }
 
     @Override
     public CommandDispatch.Result dispatch(S sender, String line) {
-        String[] lineArgs = line.split(" ");
-        String[] argumentsOnly = new String[lineArgs.length - 1];
-        System.arraycopy(lineArgs, 1, argumentsOnly, 0, lineArgs.length - 1);
-        return dispatch(sender, lineArgs[0], argumentsOnly);
+        int labelEnd = line.indexOf(' ');
+        if (labelEnd == -1) {
+            return dispatch(sender, line, "");
+        }
+        return dispatch(sender, line.substring(0, labelEnd), line.substring(labelEnd + 1));
+    }
+
+    /**
+     * Trailing spaces are dropped so that the raw line of the context stays
+     * the same as when the arguments are split on spaces and joined back.
+     */
+    private static String stripTrailingSpaces(String rawArgsOneLine) {
+        int end = rawArgsOneLine.length();
+        while (end > 0 && rawArgsOneLine.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return end == rawArgsOneLine.length() ? rawArgsOneLine : rawArgsOneLine.substring(0, end);
     }
     
     private CommandDispatch.Result handleExecution(Context<S> context) throws Throwable {
@@ -308,23 +412,40 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         }
         
         // MEASURE: Context resolution (this is likely the biggest bottleneck)
-        ResolvedContext<S> resolvedContext = config.getContextFactory().createResolvedContext(context, usage);
-        resolvedContext.resolve();
-        
-        // MEASURE: Global post-processing
-        if (!postProcess(resolvedContext)) {
-            return;
-        }
-        
-        // MEASURE: Command post-processing
-        if (!command.postProcess(this, resolvedContext, usage)) {
-            return;
+        ContextFactory<S> contextFactory = config.getContextFactory();
+        ResolvedContext<S> resolvedContext = contextFactory.createResolvedContext(context, usage);
+        try {
+            resolvedContext.resolve();
+
+            // MEASURE: Global post-processing
+            if (!postProcess(resolvedContext)) {
+                return;
+            }
+
+            // MEASURE: Command post-processing
+            if (!command.postProcess(this, resolvedContext, usage)) {
+                return;
+            }
+
+            // MEASURE: Actual usage execution
+            usage.execute(this, source, resolvedContext);
+
+            final var ranking = config.getSuggestionRanking();
+            for (Argument<S> argument : resolvedContext.getResolvedArguments()) {
+                if (argument.raw() != null && hasSuggestions(argument.parameter())) {
+                    ranking.remember(source, argument.raw());
+                }
+            }
+        } finally {
+            contextFactory.release(resolvedContext);
         }
-        
-        // MEASURE: Actual usage execution
-        usage.execute(this, source, resolvedContext);
     }
     
+    //arguments of other parameters, e.g. free text, aren't worth remembering nor kept in memory
+    private static <S extends Source> boolean hasSuggestions(CommandParameter<S> parameter) {
+        return parameter.getSuggestionResolver() != null || parameter.type().getSuggestionResolver() != null;
+    }
+
     private boolean preProcess(
         @NotNull Context<S> context,
         @NotNull CommandUsage<S> usage
@@ -3,6 +3,7 @@ package dev.velix.imperat;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
@@ -48,6 +49,15 @@ public sealed interface CommandRegistrar<S extends Source> permits Imperat {
         }
     }
 
+    /**
+     * Registers many commands at once, {@link Command}s and annotated command instances alike,
+     * loading them in parallel before registering all of them, or none if any of them failed to load.
+     *
+     * @param commands the commands to register
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    void registerCommands(Collection<?> commands);
+
     /**
      * Unregisters a command from the internal registry
      *
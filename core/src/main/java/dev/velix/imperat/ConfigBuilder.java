@@ -7,20 +7,27 @@ import dev.velix.imperat.command.parameters.type.ParameterType;
 import dev.velix.imperat.command.processors.CommandPostProcessor;
 import dev.velix.imperat.command.processors.CommandPreProcessor;
 import dev.velix.imperat.command.processors.CommandProcessingChain;
+import dev.velix.imperat.command.suggestions.SuggestionCachePolicy;
+import dev.velix.imperat.command.suggestions.SuggestionRanking;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.internal.ContextFactory;
 import dev.velix.imperat.exception.ThrowableResolver;
 import dev.velix.imperat.help.HelpProvider;
 import dev.velix.imperat.placeholders.Placeholder;
+import dev.velix.imperat.resolvers.CachingPermissionResolver;
 import dev.velix.imperat.resolvers.ContextResolver;
 import dev.velix.imperat.resolvers.DependencySupplier;
 import dev.velix.imperat.resolvers.PermissionResolver;
 import dev.velix.imperat.resolvers.SourceResolver;
 import dev.velix.imperat.resolvers.SuggestionResolver;
+import dev.velix.imperat.util.ImperatExecutors;
 import dev.velix.imperat.verification.UsageVerifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -36,6 +43,9 @@ public abstract class ConfigBuilder<S extends Source, I extends Imperat<S>, B ex
 
     protected final ImperatConfig<S> config;
 
+    //the time to live of the permission cache, kept to wrap resolvers set after it
+    private @Nullable Duration permissionCacheTtl;
+
     protected ConfigBuilder() {
         config = new ImperatConfigImpl<>();
     }
@@ -62,7 +72,22 @@ public abstract class ConfigBuilder<S extends Source, I extends Imperat<S>, B ex
      */
     // Permission Resolver
     public B permissionResolver(PermissionResolver<S> permissionResolver) {
-        config.setPermissionResolver(permissionResolver);
+        config.setPermissionResolver(permissionCacheTtl == null ? permissionResolver : CachingPermissionResolver.of(permissionResolver, permissionCacheTtl));
+        return (B) this;
+    }
+
+    /**
+     * Memoizes the results of the current {@link PermissionResolver} per source for a short time,
+     * and within each dispatch or completion request, see {@link CachingPermissionResolver}.
+     * A permission resolver set afterward is memoized as well.
+     *
+     * @param ttl how long the results of a source are memoized, zero to only memoize them within a request
+     * @return the current {@link ConfigBuilder} instance for method chaining and further configuration
+     */
+    // Permission Cache
+    public B permissionCache(@NotNull Duration ttl) {
+        this.permissionCacheTtl = ttl;
+        config.setPermissionResolver(CachingPermissionResolver.of(config.getPermissionResolver(), ttl));
         return (B) this;
     }
 
@@ -78,6 +103,54 @@ public abstract class ConfigBuilder<S extends Source, I extends Imperat<S>, B ex
         return (B) this;
     }
 
+    /**
+     * Sets the executor running the suggestions of commands, instead of the common fork-join pool.
+     *
+     * @param executor the executor to run the suggestions on, see {@link ImperatExecutors} for presets
+     * @return the current instance of {@code ConfigBuilder} for method chaining
+     */
+    // Suggestion Executor
+    public B suggestionExecutor(Executor executor) {
+        config.setSuggestionExecutor(executor);
+        return (B) this;
+    }
+
+    /**
+     * Sets the maximum number of suggestions for an argument, only the best ranked ones are kept.
+     *
+     * @param limit the maximum number of suggestions, must be positive
+     * @return the current {@link ConfigBuilder} instance for method chaining
+     */
+    // Suggestion Limit
+    public B suggestionLimit(int limit) {
+        config.setSuggestionLimit(limit);
+        return (B) this;
+    }
+
+    /**
+     * Sets the ranking deciding which suggestions match an argument and in which order they're shown.
+     *
+     * @param ranking the ranking of suggestions
+     * @return the current {@link ConfigBuilder} instance for method chaining
+     */
+    // Suggestion Ranking
+    public B suggestionRanking(@NotNull SuggestionRanking ranking) {
+        config.setSuggestionRanking(ranking);
+        return (B) this;
+    }
+
+    /**
+     * Sets the executor running asynchronous command executions, instead of the common fork-join pool.
+     *
+     * @param executor the executor to run the asynchronous executions on, see {@link ImperatExecutors} for presets
+     * @return the current instance of {@code ConfigBuilder} for method chaining
+     */
+    // Command Executor
+    public B commandExecutor(Executor executor) {
+        config.setCommandExecutor(executor);
+        return (B) this;
+    }
+
     /**
      * Sets the usage verifier for the configuration.
      *
@@ -263,6 +336,32 @@ public abstract class ConfigBuilder<S extends Source, I extends Imperat<S>, B ex
         return (B) this;
     }
 
+    /**
+     * Caches the suggestions of a resolver according to a policy,
+     * for resolvers too expensive to be called on every completion request.
+     *
+     * @param suggestionResolver the suggestion resolver
+     * @param policy             the cache policy
+     * @return the current instance of {@code ConfigBuilder} for method chaining
+     */
+    // Suggestion Cache Policy
+    public B suggestionCachePolicy(SuggestionResolver<S> suggestionResolver, @NotNull SuggestionCachePolicy policy) {
+        config.setSuggestionCachePolicy(suggestionResolver, policy);
+        return (B) this;
+    }
+
+    /**
+     * Caches the suggestions of the parameters of a value type according to a policy.
+     *
+     * @param type   the value type of the parameters
+     * @param policy the cache policy
+     * @return the current instance of {@code ConfigBuilder} for method chaining
+     */
+    public B suggestionCachePolicy(Type type, @NotNull SuggestionCachePolicy policy) {
+        config.setSuggestionCachePolicy(type, policy);
+        return (B) this;
+    }
+
     /**
      * Sets the default suggestion resolver for providing autocomplete suggestions
      * for command arguments or parameters in the configuration.
@@ -303,6 +402,30 @@ public abstract class ConfigBuilder<S extends Source, I extends Imperat<S>, B ex
         return (B) this;
     }
 
+    /**
+     * Caches the results of replacing placeholders per input string,
+     * only suitable when the placeholders always resolve to the same value.
+     *
+     * @param cache whether to cache the results
+     * @return the current {@link ConfigBuilder} instance for chaining further configuration.
+     */
+    public B cachePlaceholderResults(boolean cache) {
+        config.setCachePlaceholderResults(cache);
+        return (B) this;
+    }
+
+    /**
+     * Sets whether the exceptions reporting mistakes of users skip capturing their stack trace.
+     *
+     * @param stackless whether user errors are stackless
+     * @return the current {@link ConfigBuilder} instance for chaining further configuration.
+     * @see ImperatConfig#setStacklessUserErrors(boolean)
+     */
+    public B stacklessUserErrors(boolean stackless) {
+        config.setStacklessUserErrors(stackless);
+        return (B) this;
+    }
+
     /**
      * Sets the help provider to be used for providing help messages.
      *
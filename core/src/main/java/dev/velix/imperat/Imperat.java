@@ -2,6 +2,7 @@ package dev.velix.imperat;
 
 
 import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.command.tree.CommandDispatch;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.Source;
@@ -50,6 +51,21 @@ public non-sealed interface Imperat<S extends Source> extends AnnotationInjector
     @NotNull
     CommandDispatch.Result dispatch(Context<S> context);
 
+    /**
+     * Executes a usage that was already matched against the arguments of the {@link Context},
+     * skipping the matching of the input against the command's tree.
+     * <p>
+     * This is meant for platforms parsing the input on their own (e.g. brigadier),
+     * the usage must be the one the command's tree would have matched.
+     *
+     * @param context the context
+     * @param usage   the usage matched
+     * @return the usage match setResult
+     */
+    @ApiStatus.Internal
+    @NotNull
+    CommandDispatch.Result execute(Context<S> context, CommandUsage<S> usage);
+
     /**
      * Dispatches and executes a command with certain raw arguments
      * using {@link Command}
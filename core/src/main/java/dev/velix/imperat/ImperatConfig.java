@@ -2,13 +2,16 @@ package dev.velix.imperat;
 
 import dev.velix.imperat.annotations.base.AnnotationReplacer;
 import dev.velix.imperat.annotations.base.element.ParameterElement;
+import dev.velix.imperat.command.CommandCoordinator;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.command.ContextResolverFactory;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.ParameterType;
+import dev.velix.imperat.command.suggestions.SuggestionRanking;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.context.internal.CommandInputStream;
 import dev.velix.imperat.context.internal.ContextFactory;
 import dev.velix.imperat.exception.ThrowableResolver;
@@ -17,6 +20,8 @@ import dev.velix.imperat.placeholders.PlaceholderResolver;
 import dev.velix.imperat.resolvers.ContextResolver;
 import dev.velix.imperat.resolvers.DependencySupplier;
 import dev.velix.imperat.resolvers.PermissionResolver;
+import dev.velix.imperat.resolvers.SuggestionResolver;
+import dev.velix.imperat.util.ImperatExecutors;
 import dev.velix.imperat.verification.UsageVerifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -24,6 +29,8 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The {@code ImperatConfig} interface defines the core configuration and interaction points
@@ -245,6 +252,45 @@ public sealed interface ImperatConfig<S extends Source> extends
     @NotNull
     String[] replacePlaceholders(String[] array);
 
+    /**
+     * Checks whether the results of {@link #replacePlaceholders(String)} are cached per input.
+     *
+     * @return {@code true} if the results are cached, {@code false} otherwise.
+     * @see #setCachePlaceholderResults(boolean)
+     */
+    boolean isCachingPlaceholderResults();
+
+    /**
+     * Enables or disables caching the results of {@link #replacePlaceholders(String)} per input.
+     * <p>
+     * This is only correct if the resolvers of the registered placeholders always return the same value,
+     * which is usually the case for the placeholders used in annotations.
+     * </p>
+     *
+     * @param cache {@code true} to cache the results, {@code false} to resolve each input every time.
+     * @see #isCachingPlaceholderResults()
+     */
+    void setCachePlaceholderResults(boolean cache);
+
+    /**
+     * Checks whether the exceptions reporting mistakes of users skip capturing their stack trace.
+     *
+     * @return {@code true} if user errors are stackless, {@code false} otherwise.
+     * @see #setStacklessUserErrors(boolean)
+     */
+    boolean isStacklessUserErrors();
+
+    /**
+     * Sets whether the exceptions reporting mistakes of users, such as invalid input or a missing permission,
+     * skip capturing their stack trace while commands are dispatched, as it's the costliest part of throwing them
+     * while they're only ever handled by replying to the user.
+     * Enabled by default, stack traces are still captured while {@link dev.velix.imperat.util.ImperatDebugger debugging}.
+     *
+     * @param stackless {@code true} to skip the stack traces of user errors, {@code false} to capture them.
+     * @see #isStacklessUserErrors()
+     */
+    void setStacklessUserErrors(boolean stackless);
+
     /**
      * sets the context factory {@link ContextFactory} for the contexts
      *
@@ -252,6 +298,70 @@ public sealed interface ImperatConfig<S extends Source> extends
      */
     void setContextFactory(ContextFactory<S> contextFactory);
 
+    /**
+     * @return the executor running the suggestions of commands,
+     * including {@link SuggestionResolver#asyncAutoComplete(SuggestionContext, CommandParameter)}
+     * @see #setSuggestionExecutor(Executor)
+     */
+    @NotNull Executor getSuggestionExecutor();
+
+    /**
+     * Sets the executor running the suggestions of commands, so that slow suggestion resolvers
+     * run off the threads requesting the suggestions (e.g. network threads of a proxy).
+     * By default, this is {@link ForkJoinPool#commonPool()}.
+     *
+     * @param executor the executor to run the suggestions on
+     * @see ImperatExecutors
+     */
+    void setSuggestionExecutor(@NotNull Executor executor);
+
+    /**
+     * @return the maximum number of suggestions for an argument
+     * @see #setSuggestionLimit(int)
+     */
+    int getSuggestionLimit();
+
+    /**
+     * Sets the maximum number of suggestions for an argument, only the best ranked ones are kept,
+     * and resolvers are told to stop once no better suggestion can come.
+     * By default, suggestions are not limited.
+     *
+     * @param limit the maximum number of suggestions, must be positive
+     * @see #setSuggestionRanking(SuggestionRanking)
+     */
+    void setSuggestionLimit(int limit);
+
+    /**
+     * @return the ranking deciding which suggestions match an argument and in which order they're shown
+     * @see #setSuggestionRanking(SuggestionRanking)
+     */
+    @NotNull SuggestionRanking getSuggestionRanking();
+
+    /**
+     * Sets the ranking deciding which suggestions match an argument and in which order they're shown.
+     * By default, this is {@link SuggestionRanking#prefix()}.
+     *
+     * @param ranking the ranking of suggestions
+     */
+    void setSuggestionRanking(@NotNull SuggestionRanking ranking);
+
+    /**
+     * @return the executor running the asynchronous work of command executions
+     * @see #setCommandExecutor(Executor)
+     */
+    @NotNull Executor getCommandExecutor();
+
+    /**
+     * Sets the executor running the asynchronous work of command executions,
+     * which are the usages coordinated by {@link CommandCoordinator#async()}
+     * and the resolution of {@link java.util.concurrent.CompletableFuture} parameters.
+     * By default, this is {@link ForkJoinPool#commonPool()}.
+     *
+     * @param executor the executor to run the asynchronous executions on
+     * @see ImperatExecutors
+     */
+    void setCommandExecutor(@NotNull Executor executor);
+
     /**
      * Registers the dependency to the type
      *
@@ -3,6 +3,7 @@ package dev.velix.imperat;
 import dev.velix.imperat.annotations.base.AnnotationReplacer;
 import dev.velix.imperat.annotations.base.element.ParameterElement;
 import dev.velix.imperat.command.*;
+import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.NumericRange;
 import dev.velix.imperat.command.parameters.type.ParameterType;
 import dev.velix.imperat.command.processors.CommandPostProcessor;
@@ -10,12 +11,16 @@ import dev.velix.imperat.command.processors.CommandPreProcessor;
 import dev.velix.imperat.command.processors.CommandProcessingChain;
 import dev.velix.imperat.command.processors.impl.DefaultProcessors;
 import dev.velix.imperat.command.returns.ReturnResolver;
+import dev.velix.imperat.command.suggestions.SuggestionCachePolicy;
+import dev.velix.imperat.command.suggestions.SuggestionRanking;
 import dev.velix.imperat.command.suggestions.SuggestionResolverRegistry;
+import dev.velix.imperat.command.suggestions.SuggestionSink;
 import dev.velix.imperat.command.tree.ClosestUsageSearch;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.ParamTypeRegistry;
 import dev.velix.imperat.context.ResolvedContext;
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.context.internal.ContextFactory;
 import dev.velix.imperat.exception.CooldownException;
 import dev.velix.imperat.exception.InvalidSourceException;
@@ -61,18 +66,29 @@ import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 final class ImperatConfigImpl<S extends Source> implements ImperatConfig<S> {
 
+    //marks the classes having no handler among the resolved handlers
+    private static final ThrowableResolver<?, ?> NO_HANDLER = (exception, imperat, context) -> {};
+
     private @NotNull SuggestionResolver<S> defaultSuggestionResolver =
             (context, input) ->
             Collections.emptyList();
 
     private @NotNull PermissionResolver<S> permissionResolver = (source, permission) -> true;
     private @NotNull ContextFactory<S> contextFactory;
+    private @NotNull Executor suggestionExecutor = ForkJoinPool.commonPool();
+    private @NotNull Executor commandExecutor = ForkJoinPool.commonPool();
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private @NotNull SuggestionRanking suggestionRanking = SuggestionRanking.prefix();
     private @NotNull UsageVerifier<S> verifier;
     private @Nullable HelpProvider<S> provider = null;
 
@@ -85,13 +101,18 @@ final class ImperatConfigImpl<S extends Source> implements ImperatConfig<S> {
     private final SourceResolverRegistry<S> sourceResolverRegistry;
     private final ReturnResolverRegistry<S> returnResolverRegistry;
 
-    private final Map<Class<? extends Throwable>, ThrowableResolver<?, S>> handlers = new HashMap<>();
+    //concurrent, as handlers are looked up while dispatching, possibly while others are being set
+    private final Map<Class<? extends Throwable>, ThrowableResolver<?, S>> handlers = new ConcurrentHashMap<>();
+    //the handler found for each thrown class, walking up its superclasses, cleared whenever a handler is set
+    private final Map<Class<?>, ThrowableResolver<?, S>> resolvedHandlers = new ConcurrentHashMap<>();
+    private volatile int handlersGeneration;
 
     private @NotNull CommandProcessingChain<S, CommandPreProcessor<S>> globalPreProcessors;
     private @NotNull CommandProcessingChain<S, CommandPostProcessor<S>> globalPostProcessors;
 
     private boolean strictCommandTree = false;
     private boolean overlapOptionalParameterSuggestions = false;
+    private boolean stacklessUserErrors = true;
     
     private String commandPrefix = "/";
 
@@ -345,6 +366,79 @@ final class ImperatConfigImpl<S extends Source> implements ImperatConfig<S> {
         this.contextFactory = contextFactory;
     }
 
+    /**
+     * @return the executor running the suggestions of commands
+     */
+    @Override
+    public @NotNull Executor getSuggestionExecutor() {
+        return suggestionExecutor;
+    }
+
+    /**
+     * Sets the executor running the suggestions of commands
+     *
+     * @param executor the executor to run the suggestions on
+     */
+    @Override
+    public void setSuggestionExecutor(@NotNull Executor executor) {
+        this.suggestionExecutor = executor;
+    }
+
+    /**
+     * @return the maximum number of suggestions for an argument
+     */
+    @Override
+    public int getSuggestionLimit() {
+        return suggestionLimit;
+    }
+
+    /**
+     * Sets the maximum number of suggestions for an argument
+     *
+     * @param limit the maximum number of suggestions, must be positive
+     */
+    @Override
+    public void setSuggestionLimit(int limit) {
+        Preconditions.checkArgument(limit > 0, "limit must be positive");
+        this.suggestionLimit = limit;
+    }
+
+    /**
+     * @return the ranking of suggestions
+     */
+    @Override
+    public @NotNull SuggestionRanking getSuggestionRanking() {
+        return suggestionRanking;
+    }
+
+    /**
+     * Sets the ranking of suggestions
+     *
+     * @param ranking the ranking of suggestions
+     */
+    @Override
+    public void setSuggestionRanking(@NotNull SuggestionRanking ranking) {
+        this.suggestionRanking = ranking;
+    }
+
+    /**
+     * @return the executor running the asynchronous work of command executions
+     */
+    @Override
+    public @NotNull Executor getCommandExecutor() {
+        return commandExecutor;
+    }
+
+    /**
+     * Sets the executor running the asynchronous work of command executions
+     *
+     * @param executor the executor to run the asynchronous executions on
+     */
+    @Override
+    public void setCommandExecutor(@NotNull Executor executor) {
+        this.commandExecutor = executor;
+    }
+
     /**
      * Checks whether the valueType has
      * a registered context-resolver
@@ -638,6 +732,38 @@ final class ImperatConfigImpl<S extends Source> implements ImperatConfig<S> {
         suggestionResolverRegistry.registerNamedResolver(name.toLowerCase(), suggestionResolver);
     }
 
+    /**
+     * Caches the suggestions of a resolver according to a policy
+     *
+     * @param resolver the suggestion resolver
+     * @param policy   the cache policy, null to stop caching its suggestions
+     */
+    @Override
+    public void setSuggestionCachePolicy(SuggestionResolver<S> resolver, @Nullable SuggestionCachePolicy policy) {
+        suggestionResolverRegistry.setCachePolicy(resolver, policy);
+    }
+
+    /**
+     * Caches the suggestions of the parameters of a value type according to a policy
+     *
+     * @param type   the value type of the parameters
+     * @param policy the cache policy, null to stop caching their suggestions
+     */
+    @Override
+    public void setSuggestionCachePolicy(Type type, @Nullable SuggestionCachePolicy policy) {
+        suggestionResolverRegistry.setCachePolicy(type, policy);
+    }
+
+    @Override
+    public List<String> resolveSuggestions(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter) {
+        return suggestionResolverRegistry.autoComplete(resolver, context, parameter);
+    }
+
+    @Override
+    public void resolveSuggestions(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter, SuggestionSink sink) {
+        suggestionResolverRegistry.autoComplete(resolver, context, parameter, sink);
+    }
+
     /**
      * Registers a placeholder
      *
@@ -682,6 +808,38 @@ final class ImperatConfigImpl<S extends Source> implements ImperatConfig<S> {
         return placeholderRegistry.resolvedArray(array);
     }
 
+    /**
+     * Checks whether the results of {@link #replacePlaceholders(String)} are cached per input.
+     *
+     * @return {@code true} if the results are cached, {@code false} otherwise.
+     * @see #setCachePlaceholderResults(boolean)
+     */
+    @Override
+    public boolean isCachingPlaceholderResults() {
+        return placeholderRegistry.isCachingResults();
+    }
+
+    /**
+     * Enables or disables caching the results of {@link #replacePlaceholders(String)} per input.
+     *
+     * @param cache {@code true} to cache the results, {@code false} to resolve each input every time.
+     * @see #isCachingPlaceholderResults()
+     */
+    @Override
+    public void setCachePlaceholderResults(boolean cache) {
+        placeholderRegistry.setCachingResults(cache);
+    }
+
+    @Override
+    public boolean isStacklessUserErrors() {
+        return stacklessUserErrors;
+    }
+
+    @Override
+    public void setStacklessUserErrors(boolean stackless) {
+        this.stacklessUserErrors = stackless;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable <R> SourceResolver<S, R> getSourceResolver(Type type) {
@@ -767,20 +925,37 @@ final class ImperatConfigImpl<S extends Source> implements ImperatConfig<S> {
     @Nullable
     @SuppressWarnings("unchecked")
     public <T extends Throwable> ThrowableResolver<T, S> getThrowableResolver(Class<T> exception) {
+        var resolved = resolvedHandlers.get(exception);
+        if (resolved == null) {
+            final int expectedGeneration = handlersGeneration;
+            resolved = findThrowableResolver(exception);
+            resolvedHandlers.putIfAbsent(exception, resolved);
+            if (expectedGeneration != handlersGeneration) {
+                // a handler was set meanwhile, the result may be stale
+                resolvedHandlers.remove(exception);
+            }
+        }
+        return resolved == NO_HANDLER ? null : (ThrowableResolver<T, S>) resolved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ThrowableResolver<?, S> findThrowableResolver(Class<?> exception) {
         Class<?> current = exception;
         while (current != null && Throwable.class.isAssignableFrom(current)) {
             var resolver = handlers.get(current);
             if (resolver != null) {
-                return (ThrowableResolver<T, S>) resolver;
+                return resolver;
             }
             current = current.getSuperclass();
         }
-        return null;
+        return (ThrowableResolver<?, S>) NO_HANDLER;
     }
 
     @Override
     public <T extends Throwable> void setThrowableResolver(Class<T> exception, ThrowableResolver<T, S> handler) {
         this.handlers.put(exception, handler);
+        handlersGeneration++;
+        this.resolvedHandlers.clear();
     }
     
     @Override
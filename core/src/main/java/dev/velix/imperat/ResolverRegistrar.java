@@ -4,18 +4,23 @@ import dev.velix.imperat.command.ContextResolverFactory;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.ParameterType;
 import dev.velix.imperat.command.returns.ReturnResolver;
+import dev.velix.imperat.command.suggestions.SuggestionCachePolicy;
+import dev.velix.imperat.command.suggestions.SuggestionSink;
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.placeholders.Placeholder;
 import dev.velix.imperat.resolvers.ContextResolver;
 import dev.velix.imperat.resolvers.SourceResolver;
 import dev.velix.imperat.resolvers.SuggestionResolver;
 import dev.velix.imperat.util.ImperatDebugger;
 import dev.velix.imperat.util.TypeWrap;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -153,6 +158,48 @@ public sealed interface ResolverRegistrar<S extends Source> permits ImperatConfi
      */
     void registerNamedSuggestionResolver(String name, SuggestionResolver<S> suggestionResolver);
 
+    /**
+     * Caches the suggestions of a resolver according to a policy,
+     * for resolvers too expensive to be called for every completion request.
+     *
+     * @param resolver the suggestion resolver
+     * @param policy   the cache policy, null to stop caching its suggestions
+     */
+    void setSuggestionCachePolicy(SuggestionResolver<S> resolver, @Nullable SuggestionCachePolicy policy);
+
+    /**
+     * Caches the suggestions of the parameters of a value type according to a policy,
+     * a policy set for the suggestion resolver of a parameter takes precedence.
+     *
+     * @param type   the value type of the parameters
+     * @param policy the cache policy, null to stop caching their suggestions
+     */
+    void setSuggestionCachePolicy(Type type, @Nullable SuggestionCachePolicy policy);
+
+    /**
+     * Fetches the suggestions of a resolver for a parameter,
+     * reusing cached ones if a {@link SuggestionCachePolicy} applies to them.
+     *
+     * @param resolver  the suggestion resolver
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @return the suggestions
+     */
+    @ApiStatus.Internal
+    List<String> resolveSuggestions(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter);
+
+    /**
+     * Pushes the suggestions of a resolver for a parameter to a sink,
+     * reusing cached ones if a {@link SuggestionCachePolicy} applies to them.
+     *
+     * @param resolver  the suggestion resolver
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @param sink      the sink receiving the suggestions
+     */
+    @ApiStatus.Internal
+    void resolveSuggestions(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter, SuggestionSink sink);
+
     /**
      * Fetches the {@link SourceResolver} from an internal registry.
      *
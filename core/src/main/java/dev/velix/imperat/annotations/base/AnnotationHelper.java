@@ -111,8 +111,7 @@ public final class AnnotationHelper {
                     paramsInstances[i] = flagValue;
                 }
             } else {
-                var ctxArg = context.getArgument(name);
-                paramsInstances[i] = ctxArg;
+                paramsInstances[i] = context.getArgument(parameter);
             }
 
         }
@@ -6,10 +6,12 @@ import dev.velix.imperat.annotations.Usage;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.util.Set;
 
 /**
  * Represents a class with a single responsibility of
@@ -41,6 +43,18 @@ public abstract class AnnotationParser<S extends Source> {
      */
     public abstract <T> void parseCommandClass(T instance);
 
+    /**
+     * Parses annotated command class of valueType {@linkplain T}
+     * into {@link Command} POJOs without registering them,
+     * it's safe to call from several threads at once as long as nothing is being registered in the config meanwhile.
+     *
+     * @param instance the instance of the command class
+     * @param <T>      the valueType of annotated command class to parse
+     * @return the commands loaded from the class, in the order they'd be registered in
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    public abstract <T> @NotNull Set<Command<S>> loadCommandClass(T instance);
+
     /**
      * Registers a valueType of annotations so that it can be
      * detected by {@link AnnotationReader} , it's useful as it allows that valueType of annotation
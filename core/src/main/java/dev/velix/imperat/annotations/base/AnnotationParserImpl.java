@@ -5,12 +5,15 @@ import dev.velix.imperat.annotations.base.element.CommandClassVisitor;
 import dev.velix.imperat.annotations.base.element.MethodElement;
 import dev.velix.imperat.annotations.base.element.selector.ElementSelector;
 import dev.velix.imperat.annotations.base.element.selector.MethodRules;
+import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.util.Set;
 
 @ApiStatus.Internal
 final class AnnotationParserImpl<S extends Source> extends AnnotationParser<S> {
@@ -39,6 +42,12 @@ final class AnnotationParserImpl<S extends Source> extends AnnotationParser<S> {
         reader.accept(visitor);
     }
 
+    @Override
+    public <T> @NotNull Set<Command<S>> loadCommandClass(T instance) {
+        AnnotationReader<S> reader = AnnotationReader.read(imperat, methodSelector, this, instance);
+        return visitor.visitCommandClass(reader.getParsedClass());
+    }
+
 
     /**
      * Registers a valueType of annotations so that it can be
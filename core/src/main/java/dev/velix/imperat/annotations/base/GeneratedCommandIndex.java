@@ -0,0 +1,56 @@
+package dev.velix.imperat.annotations.base;
+
+import dev.velix.imperat.util.asm.MethodCaller;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * What the {@code imperat-annotation-processor} records at compile time about a class holding commands,
+ * so that reading the class doesn't need to read its class file back to find the order its members are declared in,
+ * nor to generate callers for its methods.
+ * <p>
+ * An index is generated in the package of the class it describes, named after the class's nesting
+ * with {@code _} instead of {@code $}, followed by {@value #SUFFIX},
+ * e.g. {@code com.example.Outer_Inner_ImperatIndex} for {@code com.example.Outer$Inner}.
+ * Classes without an index are read as they always were.
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public interface GeneratedCommandIndex {
+
+    /**
+     * The suffix of the name of the generated indexes
+     */
+    String SUFFIX = "_ImperatIndex";
+
+    /**
+     * @param clazz the class
+     * @return the binary name of the index generated for the class
+     */
+    static @NotNull String indexNameOf(@NotNull Class<?> clazz) {
+        String packageName = clazz.getPackageName();
+        String nestedName = packageName.isEmpty() ? clazz.getName() : clazz.getName().substring(packageName.length() + 1);
+        String indexName = nestedName.replace('$', '_') + SUFFIX;
+        return packageName.isEmpty() ? indexName : packageName + "." + indexName;
+    }
+
+    /**
+     * @return the methods declared by the class, in the order they're declared in,
+     * each as its name followed by its descriptor, e.g. {@code "ban(Ljava/lang/String;I)V"}
+     */
+    @NotNull List<String> methods();
+
+    /**
+     * @return the binary names of the classes declared inside the class, in the order they're declared in
+     */
+    @NotNull List<String> innerClasses();
+
+    /**
+     * @param method the name of the method followed by its descriptor, as in {@link #methods()}
+     * @return a caller invoking the method directly, null if it couldn't be generated,
+     * e.g. when the method is private
+     */
+    @Nullable MethodCaller caller(@NotNull String method);
+}
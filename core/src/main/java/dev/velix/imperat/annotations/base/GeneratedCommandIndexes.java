@@ -0,0 +1,60 @@
+package dev.velix.imperat.annotations.base;
+
+import dev.velix.imperat.util.ImperatDebugger;
+import dev.velix.imperat.util.asm.MethodCaller;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Finds the {@link GeneratedCommandIndex} of a class, looked up once per class.
+ */
+@ApiStatus.Internal
+final class GeneratedCommandIndexes {
+
+    private static final ClassValue<Optional<GeneratedCommandIndex>> INDEXES = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedCommandIndex> computeValue(Class<?> clazz) {
+            return Optional.ofNullable(load(clazz));
+        }
+    };
+
+    private GeneratedCommandIndexes() {
+        throw new AssertionError();
+    }
+
+    private static @Nullable GeneratedCommandIndex load(Class<?> clazz) {
+        ClassLoader loader = clazz.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        try {
+            Class<?> indexClass = Class.forName(GeneratedCommandIndex.indexNameOf(clazz), true, loader);
+            if (!GeneratedCommandIndex.class.isAssignableFrom(indexClass)) {
+                return null;
+            }
+            return (GeneratedCommandIndex) indexClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return null;
+        } catch (ReflectiveOperationException ex) {
+            ImperatDebugger.debug("Ignoring the generated index of '%s': %s", clazz.getName(), ex);
+            return null;
+        }
+    }
+
+    static @Nullable GeneratedCommandIndex of(Class<?> clazz) {
+        return INDEXES.get(clazz).orElse(null);
+    }
+
+    /**
+     * @param method the method
+     * @return the generated caller of the method, null if it has none
+     */
+    static @Nullable MethodCaller callerOf(Method method) {
+        GeneratedCommandIndex index = of(method.getDeclaringClass());
+        return index == null ? null : index.caller(method.getName() + Type.getMethodDescriptor(method));
+    }
+}
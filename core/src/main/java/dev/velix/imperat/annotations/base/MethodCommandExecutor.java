@@ -34,7 +34,11 @@ public class MethodCommandExecutor<S extends Source> implements CommandExecution
             this.method = method;
 
             ClassElement methodOwner = (ClassElement) method.getParent();
-            boundMethodCaller = DefaultMethodCallerFactory.INSTANCE.createFor(method.getElement()).bindTo(methodOwner.getObjectInstance());
+            MethodCaller caller = GeneratedCommandIndexes.callerOf(method.getElement());
+            if (caller == null) {
+                caller = DefaultMethodCallerFactory.INSTANCE.createFor(method.getElement());
+            }
+            boundMethodCaller = caller.bindTo(methodOwner.getObjectInstance());
 
             this.fullParameters = fullParameters;
         } catch (Throwable e) {
@@ -14,9 +14,19 @@ import java.util.*;
 public class SourceOrderHelper {
 
     /**
-     * Gets methods in their original source code declaration order
+     * Gets methods in their original source code declaration order,
+     * as recorded by the {@link GeneratedCommandIndex generated index} of the class if it has one,
+     * otherwise read from its class file
      */
     public static List<Method> getMethodsInSourceOrder(Class<?> clazz) throws Exception {
+        GeneratedCommandIndex index = GeneratedCommandIndexes.of(clazz);
+        if (index != null) {
+            List<Method> indexed = getIndexedMethods(clazz, index);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         String className = clazz.getName().replace('.', '/') + ".class";
         try (InputStream stream = clazz.getClassLoader().getResourceAsStream(className)) {
             if (stream == null) {
@@ -48,11 +58,44 @@ public class SourceOrderHelper {
         }
     }
     
+    //null if the index doesn't match the class, e.g. when it was compiled again without the processor
+    private static List<Method> getIndexedMethods(Class<?> clazz, GeneratedCommandIndex index) {
+        Map<String, Method> methodMap = new HashMap<>();
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (!method.isSynthetic()) {
+                methodMap.put(method.getName() + Type.getMethodDescriptor(method), method);
+            }
+        }
+
+        List<String> signatures = index.methods();
+        if (signatures.size() != methodMap.size()) {
+            return null;
+        }
+        List<Method> orderedMethods = new ArrayList<>(signatures.size());
+        for (String signature : signatures) {
+            Method method = methodMap.get(signature);
+            if (method == null) {
+                return null;
+            }
+            orderedMethods.add(method);
+        }
+        return orderedMethods;
+    }
+
     /**
-     * Gets inner classes (both static and non-static) in their original source code declaration order
-     * Debug version with detailed logging
+     * Gets inner classes (both static and non-static) in their original source code declaration order,
+     * as recorded by the {@link GeneratedCommandIndex generated index} of the class if it has one,
+     * otherwise read from its class file
      */
     public static List<Class<?>> getInnerClassesInSourceOrder(Class<?> outerClass) throws Exception {
+        GeneratedCommandIndex index = GeneratedCommandIndexes.of(outerClass);
+        if (index != null) {
+            List<Class<?>> indexed = getIndexedInnerClasses(outerClass, index);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         String className = outerClass.getName().replace('.', '/') + ".class";
         try (InputStream stream = outerClass.getClassLoader().getResourceAsStream(className)) {
             if (stream == null) {
@@ -102,6 +145,27 @@ public class SourceOrderHelper {
         }
     }
 
+    private static List<Class<?>> getIndexedInnerClasses(Class<?> outerClass, GeneratedCommandIndex index) {
+        Map<String, Class<?>> classMap = new HashMap<>();
+        for (Class<?> innerClass : outerClass.getDeclaredClasses()) {
+            classMap.put(innerClass.getName(), innerClass);
+        }
+
+        List<String> names = index.innerClasses();
+        if (names.size() != classMap.size()) {
+            return null;
+        }
+        List<Class<?>> orderedClasses = new ArrayList<>(names.size());
+        for (String name : names) {
+            Class<?> innerClass = classMap.get(name);
+            if (innerClass == null) {
+                return null;
+            }
+            orderedClasses.add(innerClass);
+        }
+        return orderedClasses;
+    }
+
     /**
      * Gets all static inner classes, including those defined in inner classes
      */
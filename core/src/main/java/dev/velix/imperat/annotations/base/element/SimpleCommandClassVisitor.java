@@ -83,7 +83,8 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
         @NotNull ClassElement clazz
     ) {
 
-        Set<Command<S>> commands = new HashSet<>();
+        //every command loaded from the class, in the order they were loaded, to be registered by the caller
+        Set<Command<S>> commands = new LinkedHashSet<>();
 
         Annotation commandAnnotation = getCommandAnnotation(clazz);
         if (clazz.isRootClass() && commandAnnotation != null && clazz.isAnnotationPresent(SubCommand.class)) {
@@ -97,20 +98,20 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
                 throw new IllegalArgumentException("Abnormal root class '%s'".formatted(clazz.getName()));
             }
             
-            Command<S> cmd = loadCommand(null, clazz, commandAnnotation);
+            Command<S> cmd = loadCommand(null, clazz, commandAnnotation, commands);
 
             //if cmd=null → loading @CommandProcessingChain methods only from this class
             if (cmd != null) {
-                loadCommandMethods(clazz);
+                loadCommandMethods(clazz, commands);
                 commands.add(cmd);
             }
         } else {
             //no annotation
             for (ParseElement<?> element : clazz.getChildren()) {
                 if (element.isAnnotationPresent(dev.velix.imperat.annotations.Command.class)) {
-                    var cmd = loadCommand(null, element, Objects.requireNonNull(element.getAnnotation(dev.velix.imperat.annotations.Command.class)));
+                    var cmd = loadCommand(null, element, Objects.requireNonNull(element.getAnnotation(dev.velix.imperat.annotations.Command.class)), commands);
                     if (cmd != null) {
-                        imperat.registerCommand(cmd);
+                        commands.add(cmd);
                     }
                 }
             }
@@ -132,12 +133,15 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
     }
 
 
-    private void loadCommandMethods(ClassElement clazz) {
+    private void loadCommandMethods(ClassElement clazz, Set<Command<S>> commands) {
         for (ParseElement<?> element : clazz.getChildren()) {
             if (element instanceof MethodElement method && method.isAnnotationPresent(dev.velix.imperat.annotations.Command.class)) {
                 var cmdAnn = method.getAnnotation(dev.velix.imperat.annotations.Command.class);
                 assert cmdAnn != null;
-                imperat.registerCommand(loadCommand(null, method, cmdAnn));
+                var cmd = loadCommand(null, method, cmdAnn, commands);
+                if (cmd != null) {
+                    commands.add(cmd);
+                }
             }
         }
     }
@@ -238,7 +242,8 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
     private @Nullable Command<S> loadCommand(
         @Nullable Command<S> parentCmd,
         ParseElement<?> parseElement,
-        @NotNull Annotation annotation
+        @NotNull Annotation annotation,
+        Set<Command<S>> commands
     ) {
         if(AnnotationHelper.isAbnormalClass(parseElement)) {
             //sub abnormal class
@@ -283,7 +288,7 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
                     if(method.isAnnotationPresent(SubCommand.class)) {
                         var subAnn = method.getAnnotation(SubCommand.class);
                         assert subAnn != null;
-                        cmd.addSubCommand(loadCommand(cmd, method, subAnn),  extractAttachmentMode(commandClass, subAnn));
+                        cmd.addSubCommand(loadCommand(cmd, method, subAnn, commands),  extractAttachmentMode(commandClass, subAnn));
                     }
 
                     if(method.isAnnotationPresent(Usage.class)) {
@@ -299,9 +304,10 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
                         //separate embedded command
                         var innerCmdAnn = innerClass.getAnnotation(dev.velix.imperat.annotations.Command.class);
                         assert innerCmdAnn != null;
-                        imperat.registerCommand(
-                            loadCommand(null, innerClass, innerCmdAnn)
-                        );
+                        var innerCmd = loadCommand(null, innerClass, innerCmdAnn, commands);
+                        if (innerCmd != null) {
+                            commands.add(innerCmd);
+                        }
                         return null;
                     } else if (innerClass.isAnnotationPresent(SubCommand.class)) {
                         if (cmd == null) {
@@ -311,7 +317,7 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
                         assert subCommandAnn != null;
 
                         cmd.addSubCommand(
-                            loadCommand(cmd, innerClass, subCommandAnn), extractAttachmentMode(commandClass, subCommandAnn)
+                            loadCommand(cmd, innerClass, subCommandAnn, commands), extractAttachmentMode(commandClass, subCommandAnn)
                         );
                     }
 
@@ -598,7 +604,7 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
         SuggestionResolver<S> suggestionResolver = null;
 
         if (suggestAnnotation != null) {
-            suggestionResolver = SuggestionResolver.plain(
+            suggestionResolver = SuggestionResolver.indexed(
                 config.replacePlaceholders(suggestAnnotation.value())
             );
         } else if (suggestionProvider != null) {
@@ -649,7 +655,7 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
         if (flag != null) {
             String[] flagAliases = flag.value();
             if (suggestAnnotation != null) {
-                suggestionResolver = SuggestionResolver.plain(config.replacePlaceholders(suggestAnnotation.value()));
+                suggestionResolver = SuggestionResolver.indexed(config.replacePlaceholders(suggestAnnotation.value()));
             }
 
             return AnnotationParameterDecorator.decorate(
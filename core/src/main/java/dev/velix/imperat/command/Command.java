@@ -351,6 +351,16 @@ public interface Command<S extends Source> extends CommandParameter<S>, FlagRegi
     @NotNull
     Collection<? extends Command<S>> getSubCommands();
 
+    /**
+     * A count bumped whenever this command or one of its subcommands changes,
+     * e.g. gains a usage, a subcommand, an alias or a description,
+     * so that what's derived from the command, such as its rendered help, can tell whether it's outdated.
+     *
+     * @return the number of modifications of this command and its subcommands
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    int modifications();
+
     default @Nullable CommandUsage<S> getUsage(Predicate<CommandUsage<S>> usagePredicate) {
         for (var usage : usages()) {
             if (usagePredicate.test(usage)) {
@@ -1,14 +1,15 @@
 package dev.velix.imperat.command;
 
 import dev.velix.imperat.Imperat;
+import dev.velix.imperat.ImperatConfig;
 import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 
 public interface CommandCoordinator<S extends Source> {
 
@@ -18,18 +19,42 @@ public interface CommandCoordinator<S extends Source> {
         };
     }
 
-    static <S extends Source> CommandCoordinator<S> async(final @Nullable ExecutorService service) {
+    /**
+     * @param service the executor to run the executions on,
+     *                null for the {@link ImperatConfig#getCommandExecutor() command executor} of the config
+     * @return a coordinator running the executions asynchronously
+     */
+    static <S extends Source> CommandCoordinator<S> async(final @Nullable Executor service) {
         return ((api, source, context, execution) -> {
-            ExecutorService executorService = service;
+            Executor executorService = service;
             if (executorService == null) {
-                executorService = ForkJoinPool.commonPool();
+                executorService = api.config().getCommandExecutor();
+            }
+            // the context outlives the dispatch, so it must not be reused until the execution is done
+            var contextFactory = api.config().getContextFactory();
+            contextFactory.retain(context);
+            try {
+                CompletableFuture.runAsync((UnsafeRunnable) () -> {
+                    try {
+                        execution.execute(source, context);
+                    } finally {
+                        contextFactory.release(context);
+                    }
+                }, executorService);
+            } catch (RuntimeException ex) {
+                // the task was rejected, so it won't release the context
+                contextFactory.release(context);
+                throw ex;
             }
-            CompletableFuture.runAsync((UnsafeRunnable) () -> execution.execute(source, context), executorService);
         });
     }
 
+    static <S extends Source> CommandCoordinator<S> async(final @Nullable ExecutorService service) {
+        return async((Executor) service);
+    }
+
     static <S extends Source> CommandCoordinator<S> async() {
-        return async(null);
+        return async((Executor) null);
     }
 
     void coordinate(
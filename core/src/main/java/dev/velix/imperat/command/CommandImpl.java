@@ -51,6 +51,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
     private boolean suppressACPermissionChecks = false;
     private CommandUsage<S> mainUsage = null;
     private CommandUsage<S> defaultUsage;
+    private volatile int modifications;
 
     private final @NotNull CommandProcessingChain<S, CommandPreProcessor<S>> preProcessors =
             CommandProcessingChain.<S>preProcessors()
@@ -115,6 +116,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
     @Override
     public void permission(@Nullable String permission) {
         this.permission = permission;
+        modified();
     }
 
     /**
@@ -128,6 +130,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
     @Override
     public void describe(Description description) {
         this.description = description;
+        modified();
     }
 
     /**
@@ -313,6 +316,14 @@ final class CommandImpl<S extends Source> implements Command<S> {
     public void addAliases(List<String> aliases) {
         for (String alias : aliases)
             this.aliases.add(alias.toLowerCase());
+        modified();
+
+        // the root's compiled tree indexes subcommands by their aliases
+        Command<S> root = this;
+        while (root.parent() != null) {
+            root = root.parent();
+        }
+        if (root.tree() != null) root.tree().invalidate();
     }
 
     /**
@@ -332,6 +343,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
     @Override
     public void setDefaultUsage(@NotNull CommandUsage<S> usage) {
         this.defaultUsage = Objects.requireNonNull(usage, "Default usage cannot be null");
+        modified();
     }
     
 
@@ -353,6 +365,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
         }
 
         if (commandTree != null) commandTree.parseUsage(usage);
+        modified();
     }
 
     @Override
@@ -430,6 +443,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
     @Override
     public void registerSubCommand(Command<S> command) {
         children.put(command.name(), command);
+        modified();
     }
 
     /**
@@ -519,6 +533,20 @@ final class CommandImpl<S extends Source> implements Command<S> {
         return children.values();
     }
 
+    @Override
+    public int modifications() {
+        return modifications;
+    }
+
+    //counted for the parents as well, as their modifications include those of their subcommands
+    private void modified() {
+        for (Command<S> command = this; command != null; command = command.parent()) {
+            if (command instanceof CommandImpl<S> impl) {
+                impl.modifications++;
+            }
+        }
+    }
+
     /**
      * whether to ignore permission checks on the auto-completion of command and
      * sub commands or not
@@ -11,6 +11,7 @@ import dev.velix.imperat.context.FlagData;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.exception.UnknownFlagException;
 import dev.velix.imperat.util.Preconditions;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -122,6 +123,14 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
      */
     List<CommandParameter<S>> getParameters();
 
+    /**
+     * @return the slots of this usage's parameters, by which
+     * the arguments resolved for this usage are stored in a context
+     * @see ParameterSlots
+     */
+    @ApiStatus.Internal
+    @NotNull ParameterSlots<S> getParameterSlots();
+
     /**
      * @return the parameters without flags
      * @see CommandParameter
@@ -384,7 +393,10 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
             impl.describe(description);
             impl.setCooldown(cooldown);
             impl.addParameters(
-                parameters.stream().peek((p) -> p.parent(command)).toList()
+                //a merged usage holds its subcommand, which must not become its own parent
+                parameters.stream().peek((p) -> {
+                    if (p != command) p.parent(command);
+                }).toList()
             );
             flags.forEach(impl::addFlag);
             impl.getUsedFreeFlags().forEach(command::registerFlag);
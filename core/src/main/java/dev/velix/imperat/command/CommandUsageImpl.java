@@ -29,6 +29,7 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
     
     private final List<CommandParameter<S>> parameters = new ArrayList<>(EXPECTED_PARAMETERS_CAPACITY);
     private final List<CommandParameter<S>> parametersWithoutFlags = new ArrayList<>(EXPECTED_PARAMETERS_CAPACITY);
+    private @NotNull ParameterSlots<S> parameterSlots = ParameterSlots.of(parameters);
     private final @NotNull CommandExecution<S> execution;
     private final boolean help;
     private String permission = null;
@@ -175,6 +176,7 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
             }
             parametersWithoutFlags.add(param);
         }
+        parameterSlots = ParameterSlots.of(parameters);
     }
 
     /**
@@ -186,6 +188,11 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
         return parameters;
     }
 
+    @Override
+    public @NotNull ParameterSlots<S> getParameterSlots() {
+        return parameterSlots;
+    }
+
     @Override
     public List<CommandParameter<S>> getParametersWithoutFlags() {
         return parametersWithoutFlags;
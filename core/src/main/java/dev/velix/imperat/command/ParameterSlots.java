@@ -0,0 +1,84 @@
+package dev.velix.imperat.command;
+
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The layout of the arguments resolved for a {@link CommandUsage},
+ * assigning each of its parameters a slot, which is its position in {@link CommandUsage#getParameters()}.
+ * <p>
+ * It's computed once per usage when its parameters are added,
+ * so that a context may store its resolved arguments in flat arrays indexed by slot.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.Internal
+public final class ParameterSlots<S extends Source> {
+
+    private final CommandParameter<S>[] parameters;
+    //the last slot of each name, as a later argument of the same name overrides an earlier one
+    private final Map<String, Integer> slotsByName;
+
+    @SuppressWarnings("unchecked")
+    private ParameterSlots(List<CommandParameter<S>> parameters) {
+        this.parameters = parameters.toArray(new CommandParameter[0]);
+        this.slotsByName = new HashMap<>(Math.max(4, this.parameters.length * 2));
+        for (int slot = 0; slot < this.parameters.length; slot++) {
+            slotsByName.put(this.parameters[slot].name(), slot);
+        }
+    }
+
+    static <S extends Source> ParameterSlots<S> of(List<CommandParameter<S>> parameters) {
+        return new ParameterSlots<>(parameters);
+    }
+
+    /**
+     * @return the number of slots
+     */
+    public int size() {
+        return parameters.length;
+    }
+
+    /**
+     * @param slot the slot
+     * @return the parameter occupying the slot
+     */
+    public @NotNull CommandParameter<S> parameterAt(int slot) {
+        return parameters[slot];
+    }
+
+    /**
+     * Finds the slot of a parameter, which is expected to be one of the usage's own parameters,
+     * otherwise, the slot of the last parameter sharing its name is returned.
+     *
+     * @param parameter the parameter
+     * @param hint      the slot the parameter is expected to be at, checked first
+     * @return the slot of the parameter, or -1 if there's none
+     */
+    public int slotOf(CommandParameter<S> parameter, int hint) {
+        if (hint >= 0 && hint < parameters.length && parameters[hint] == parameter) {
+            return hint;
+        }
+        for (int slot = 0; slot < parameters.length; slot++) {
+            if (parameters[slot] == parameter) {
+                return slot;
+            }
+        }
+        return slotOf(parameter.name());
+    }
+
+    /**
+     * @param name the name of a parameter
+     * @return the last slot of a parameter with that name, or -1 if there's none
+     */
+    public int slotOf(String name) {
+        Integer slot = slotsByName.get(name);
+        return slot == null ? -1 : slot;
+    }
+}
@@ -76,7 +76,29 @@ public interface CooldownHandler<S extends Source> {
      */
     Optional<Instant> getLastTimeExecuted(S source);
 
+    /**
+     * Creates the default thread-safe handler, which drops the moments of execution
+     * once their cooldown has expired.
+     *
+     * @param usage the usage
+     * @param <S>   the source type
+     * @return the default handler
+     */
     static <S extends Source> CooldownHandler<S> createDefault(CommandUsage<S> usage) {
         return new DefaultCooldownHandler<>(usage);
     }
+
+    /**
+     * Creates the default thread-safe handler, bounding the number of sources
+     * it keeps track of. Once full, the sources that executed the usage the longest time ago
+     * are forgotten first.
+     *
+     * @param usage      the usage
+     * @param maxEntries the maximum number of sources to keep track of
+     * @param <S>        the source type
+     * @return the default handler
+     */
+    static <S extends Source> CooldownHandler<S> createDefault(CommandUsage<S> usage, int maxEntries) {
+        return new DefaultCooldownHandler<>(usage, maxEntries);
+    }
 }
@@ -0,0 +1,267 @@
+package dev.velix.imperat.command.cooldown;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A thread-safe map from source keys to the last moment (in epoch millis) they executed a usage.
+ * <p>
+ * The entries are spread over a fixed number of stripes, each guarded by its own lock
+ * and storing the moments as primitive longs in an open-addressing table.
+ * Expired entries are swept from a stripe once enough entries were written to it since its last sweep,
+ * so the cost of sweeping is amortized over the writes and the map doesn't grow without bound.
+ * A bounded stripe that is full evicts its oldest entries in batches, amortizing the cost of eviction the same way.
+ */
+@ApiStatus.Internal
+final class CooldownMap {
+
+    /**
+     * Returned by {@link #get(Object)} when there's no entry for a key
+     */
+    static final long ABSENT = Long.MIN_VALUE;
+
+    private static final int STRIPES = 16;
+    private static final int MIN_SWEEP_INTERVAL = 64;
+    //the fraction of a full stripe's capacity evicted at once
+    private static final int EVICTION_DIVISOR = 8;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * @param maxEntries the maximum number of entries, or {@link Integer#MAX_VALUE} for no bound
+     */
+    CooldownMap(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive, got " + maxEntries);
+        }
+        final int stripeCapacity = maxEntries == Integer.MAX_VALUE
+            ? Integer.MAX_VALUE : Math.max(1, (maxEntries + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private Stripe stripeOf(int hash) {
+        return stripes[(hash >>> 28) & (STRIPES - 1)];
+    }
+
+    /**
+     * @param key the source key
+     * @return the moment stored for the key, or {@link #ABSENT}
+     */
+    long get(@NotNull Object key) {
+        final int hash = hash(key);
+        return stripeOf(hash).get(key, hash);
+    }
+
+    /**
+     * Stores the moment for the key, sweeping the key's stripe if it's due
+     *
+     * @param key           the source key
+     * @param moment        the moment of execution
+     * @param expiredBefore entries whose moment is before this one are considered expired
+     */
+    void put(@NotNull Object key, long moment, long expiredBefore) {
+        final int hash = hash(key);
+        stripeOf(hash).put(key, hash, moment, expiredBefore);
+    }
+
+    /**
+     * @param key the source key
+     */
+    void remove(@NotNull Object key) {
+        final int hash = hash(key);
+        stripeOf(hash).remove(key, hash, ABSENT);
+    }
+
+    /**
+     * Removes the entry of the key only if it still holds the given moment,
+     * so that a moment stored concurrently is not lost
+     *
+     * @param key    the source key
+     * @param moment the expected moment
+     */
+    void remove(@NotNull Object key, long moment) {
+        final int hash = hash(key);
+        stripeOf(hash).remove(key, hash, moment);
+    }
+
+    /**
+     * @return the number of entries, expired entries that were not swept yet included
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+
+        private final int capacity;
+
+        private Object[] keys = new Object[16];
+        private long[] moments = new long[16];
+        private int size;
+        private int writesSinceSweep;
+        private int sweepInterval = MIN_SWEEP_INTERVAL;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long get(Object key, int hash) {
+            final int slot = find(key, hash);
+            return slot == -1 ? ABSENT : moments[slot];
+        }
+
+        synchronized void put(Object key, int hash, long moment, long expiredBefore) {
+            int slot = find(key, hash);
+            if (slot != -1) {
+                moments[slot] = moment;
+                return;
+            }
+
+            if (++writesSinceSweep >= sweepInterval) {
+                sweep(expiredBefore);
+            }
+            if (size >= capacity) {
+                evictOldest();
+            }
+            if ((size + 1) << 1 > keys.length) {
+                resize(keys.length << 1);
+            }
+
+            slot = hash & (keys.length - 1);
+            while (keys[slot] != null) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            keys[slot] = key;
+            moments[slot] = moment;
+            size++;
+        }
+
+        synchronized void remove(Object key, int hash, long expected) {
+            final int slot = find(key, hash);
+            if (slot != -1 && (expected == ABSENT || moments[slot] == expected)) {
+                delete(slot);
+            }
+        }
+
+        private int find(Object key, int hash) {
+            final int mask = keys.length - 1;
+            int slot = hash & mask;
+            Object current;
+            while ((current = keys[slot]) != null) {
+                if (current.equals(key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Removes the entry at the slot, shifting back the entries
+         * of the same probe sequence so that no tombstones are needed.
+         */
+        private void delete(int slot) {
+            final int mask = keys.length - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            Object key;
+            while ((key = keys[next]) != null) {
+                final int home = hash(key) & mask;
+                // move the entry into the hole if its home slot isn't cyclically within (hole, next]
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = key;
+                    moments[hole] = moments[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = null;
+            size--;
+        }
+
+        private void sweep(long expiredBefore) {
+            removeExpired(expiredBefore);
+            // the next sweep is due after as many writes as the entries left, amortizing its cost
+            writesSinceSweep = 0;
+            sweepInterval = Math.max(MIN_SWEEP_INTERVAL, size);
+        }
+
+        private void removeExpired(long expiredBefore) {
+            final Object[] oldKeys = keys;
+            final long[] oldMoments = moments;
+            int live = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null && oldMoments[i] >= expiredBefore) {
+                    live++;
+                }
+            }
+            if (live == size) {
+                return;
+            }
+            int length = 16;
+            while (length < (live + 1) << 1) {
+                length <<= 1;
+            }
+            rehash(oldKeys, oldMoments, length, expiredBefore);
+        }
+
+        /**
+         * Evicts the oldest entries, an eighth of the capacity at least, so that a full stripe
+         * sorts its moments once per as many writes rather than scanning them on every write.
+         * Entries as old as the last evicted one are evicted along with it.
+         */
+        private void evictOldest() {
+            final long[] live = new long[size];
+            int count = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    live[count++] = moments[i];
+                }
+            }
+            Arrays.sort(live);
+            final long newestEvicted = live[Math.min(size, Math.max(1, capacity / EVICTION_DIVISOR)) - 1];
+            removeExpired(newestEvicted == Long.MAX_VALUE ? newestEvicted : newestEvicted + 1);
+        }
+
+        private void resize(int length) {
+            rehash(keys, moments, length, Long.MIN_VALUE);
+        }
+
+        private void rehash(Object[] oldKeys, long[] oldMoments, int length, long expiredBefore) {
+            keys = new Object[length];
+            moments = new long[length];
+            size = 0;
+            final int mask = length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                final Object key = oldKeys[i];
+                if (key == null || oldMoments[i] < expiredBefore) {
+                    continue;
+                }
+                int slot = hash(key) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                moments[slot] = oldMoments[i];
+                size++;
+            }
+        }
+    }
+}
@@ -4,19 +4,39 @@ import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.context.Source;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
+/**
+ * The default {@link CooldownHandler}, safe to use from multiple threads.
+ * <p>
+ * Moments of execution are only stored while the usage has a cooldown,
+ * and are dropped once expired (see {@link CooldownMap}).
+ */
 final class DefaultCooldownHandler<S extends Source> implements CooldownHandler<S> {
 
-    private final Map<String, Instant> lastTimeExecuted = new HashMap<>();
+    private final CooldownMap lastTimeExecuted;
     private final CommandUsage<S> usage;
 
     DefaultCooldownHandler(CommandUsage<S> usage) {
+        this(usage, Integer.MAX_VALUE);
+    }
+
+    DefaultCooldownHandler(CommandUsage<S> usage, int maxEntries) {
         this.usage = usage;
+        this.lastTimeExecuted = new CooldownMap(maxEntries);
     }
 
+    /**
+     * Identifies a source across executions, by its unique id when it has one
+     * and otherwise by its name.
+     */
+    private static Object keyOf(Source source) {
+        if (source.isConsole()) {
+            return Source.CONSOLE_UUID;
+        }
+        var uuid = source.uuid();
+        return uuid == null || Source.CONSOLE_UUID.equals(uuid) ? source.name() : uuid;
+    }
 
     /**
      * Sets the last time of execution to this
@@ -26,7 +46,12 @@ final class DefaultCooldownHandler<S extends Source> implements CooldownHandler<
      */
     @Override
     public void registerExecutionMoment(S source) {
-        lastTimeExecuted.put(source.name(), Instant.now());
+        UsageCooldown cooldown = usage.getCooldown();
+        if (cooldown == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastTimeExecuted.put(keyOf(source), now, now - cooldown.toDuration().toMillis());
     }
 
     /**
@@ -39,6 +64,24 @@ final class DefaultCooldownHandler<S extends Source> implements CooldownHandler<
         return Optional.ofNullable(usage.getCooldown());
     }
 
+    @Override
+    public boolean hasCooldown(S source) {
+        UsageCooldown cooldown = usage.getCooldown();
+        if (cooldown == null) {
+            return false;
+        }
+        Object key = keyOf(source);
+        long lastTime = lastTimeExecuted.get(key);
+        if (lastTime == CooldownMap.ABSENT) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastTime < cooldown.toDuration().toMillis()) {
+            return true;
+        }
+        lastTimeExecuted.remove(key, lastTime);
+        return false;
+    }
+
     /**
      * Unregisters the user's cached cooldown
      * when it's expired!
@@ -47,7 +90,7 @@ final class DefaultCooldownHandler<S extends Source> implements CooldownHandler<
      */
     @Override
     public void removeCooldown(S source) {
-        lastTimeExecuted.remove(source.name());
+        lastTimeExecuted.remove(keyOf(source));
     }
 
     /**
@@ -59,6 +102,7 @@ final class DefaultCooldownHandler<S extends Source> implements CooldownHandler<
      */
     @Override
     public Optional<Instant> getLastTimeExecuted(S source) {
-        return Optional.ofNullable(lastTimeExecuted.get(source.name()));
+        long lastTime = lastTimeExecuted.get(keyOf(source));
+        return lastTime == CooldownMap.ABSENT ? Optional.empty() : Optional.of(Instant.ofEpochMilli(lastTime));
     }
 }
@@ -13,6 +13,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public final class ConstrainedParameterTypeDecorator<S extends Source, T> extends BaseParameterType<S,  T> {
@@ -27,7 +29,8 @@ public final class ConstrainedParameterTypeDecorator<S extends Source, T> extend
         this.original = original;
         this.allowedValues = allowedValues;
         this.caseSensitive = caseSensitive;
-        allowedValues.forEach(original::withSuggestions);
+        //kept apart from the original's suggestions, as the original may be shared by other parameters
+        this.suggestions.addAll(allowedValues);
     }
 
     public static <S extends Source, T> ConstrainedParameterTypeDecorator<S, T> of(ParameterType<S, T> original, Set<String> allowedValues, boolean caseSensitive) {
@@ -61,7 +64,21 @@ public final class ConstrainedParameterTypeDecorator<S extends Source, T> extend
 
     @Override
     public SuggestionResolver<S> getSuggestionResolver() {
-        return original.getSuggestionResolver();
+        SuggestionResolver<S> originalResolver = original.getSuggestionResolver();
+        SuggestionResolver<S> allowedResolver = super.getSuggestionResolver();
+        if (originalResolver == null || allowedResolver == null) {
+            return originalResolver == null ? allowedResolver : originalResolver;
+        }
+        return (context, parameter) -> {
+            List<String> results = new ArrayList<>(originalResolver.autoComplete(context, parameter));
+            results.addAll(allowedResolver.autoComplete(context, parameter));
+            return results;
+        };
+    }
+
+    @Override
+    public Type type() {
+        return original.type();
     }
 
     @Override
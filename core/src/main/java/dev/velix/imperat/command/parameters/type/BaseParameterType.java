@@ -79,6 +79,7 @@ public abstract class BaseParameterType<S extends Source, T>
      */
     @Override
     public SuggestionResolver<S> getSuggestionResolver() {
+        //live, as subclasses may change the suggestions at any time
         return suggestions.isEmpty() ?  null : SuggestionResolver.plain(suggestions);
     }
 
@@ -0,0 +1,152 @@
+package dev.velix.imperat.command.parameters.type;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Validates numeric input in a single pass without throwing, accepting exactly
+ * what {@link Long#parseLong(String)} and {@link Double#parseDouble(String)} accept,
+ * so that input known to be valid can then be parsed by them safely.
+ */
+@ApiStatus.Internal
+final class NumberScanner {
+
+    private NumberScanner() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param input the input
+     * @param min   the minimum value, inclusive, not positive
+     * @param max   the maximum value, inclusive, not negative
+     * @return whether the input is a decimal integer between min and max
+     */
+    static boolean isInteger(String input, long min, long max) {
+        final int length = input.length();
+        if (length == 0) {
+            return false;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            negative = first == '-';
+            i++;
+        }
+
+        // accumulated negatively, as the negative range is the larger one
+        final long limit = negative ? min : -max;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            char c = input.charAt(i);
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                return c > 0x7F && isIntegerSlow(input, min, max);
+            }
+            if (result < multiplyLimit) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    // non-ascii digits (e.g. arabic-indic ones) are rare enough to be left to the jdk
+    private static boolean isIntegerSlow(String input, long min, long max) {
+        try {
+            long value = Long.parseLong(input);
+            return value >= min && value <= max;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * @param input the input
+     * @return whether the input is a floating point number, as accepted by {@link Double#parseDouble(String)}
+     */
+    static boolean isDecimal(String input) {
+        int end = input.length();
+        int i = 0;
+        while (i < end && input.charAt(i) <= ' ') i++;
+        while (end > i && input.charAt(end - 1) <= ' ') end--;
+        if (i == end) {
+            return false;
+        }
+
+        char c = input.charAt(i);
+        if (c == '-' || c == '+') {
+            i++;
+        }
+        if (input.startsWith("NaN", i)) {
+            return i + 3 == end;
+        }
+        if (input.startsWith("Infinity", i)) {
+            return i + 8 == end;
+        }
+        if (i + 1 < end && input.charAt(i) == '0' && (input.charAt(i + 1) | 0x20) == 'x') {
+            return isDecimalSlow(input);
+        }
+
+        int digits = 0;
+        while (i < end && isDigit(input.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < end && input.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(input.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        if (i < end && (input.charAt(i) | 0x20) == 'e') {
+            i++;
+            if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < end && isDigit(input.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+
+        if (i < end) {
+            char suffix = (char) (input.charAt(i) | 0x20);
+            if (suffix == 'f' || suffix == 'd') {
+                i++;
+            }
+        }
+        return i == end;
+    }
+
+    // hexadecimal floating point literals
+    private static boolean isDecimalSlow(String input) {
+        try {
+            Double.parseDouble(input);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -33,15 +33,26 @@ public final class ParameterCompletableFuture<S extends Source, T> extends BaseP
         }
         CommandInputStream<S> copyStream = inputStream.copy();
         //CommandInputStream<S> singleStream = CommandInputStream.ofSingleString(inputStream.currentParameter().orElseThrow(), input);
-        return CompletableFuture.supplyAsync(()-> {
-            try {
-                return typeResolver.resolve(context, copyStream, input);
-            } catch (ImperatException e) {
-                context.imperatConfig()
-                        .handleExecutionThrowable(e,context, ParameterCompletableFuture.class, "resolve");
-                return null;
-            }
-        });
+        // the context is used after the dispatch returns, so it must not be reused until then
+        var contextFactory = context.imperatConfig().getContextFactory();
+        contextFactory.retain(context);
+        try {
+            return CompletableFuture.supplyAsync(()-> {
+                try {
+                    return typeResolver.resolve(context, copyStream, input);
+                } catch (ImperatException e) {
+                    context.imperatConfig()
+                            .handleExecutionThrowable(e,context, ParameterCompletableFuture.class, "resolve");
+                    return null;
+                } finally {
+                    contextFactory.release(context);
+                }
+            }, context.imperatConfig().getCommandExecutor());
+        } catch (RuntimeException ex) {
+            // the task was rejected, so it won't release the context
+            contextFactory.release(context);
+            throw ex;
+        }
     }
 
     @Override
@@ -9,17 +9,27 @@ import dev.velix.imperat.exception.parse.InvalidEnumException;
 import dev.velix.imperat.util.TypeUtility;
 import dev.velix.imperat.util.TypeWrap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class ParameterEnum<S extends Source> extends BaseParameterType<S, Enum<?>> {
 
+    private final Map<String, Enum<?>> constants = new HashMap<>();
+    // names in lower case, for input not matching any name exactly
+    private final Map<String, Enum<?>> foldedConstants = new HashMap<>();
+
     public ParameterEnum(TypeWrap<Enum<?>> typeWrap) {
         super(typeWrap.getType());
         Class<? extends Enum<?>> type = (Class<? extends Enum<?>>) typeWrap.getType();
         for (var constantEnum : type.getEnumConstants()) {
             suggestions.add(constantEnum.name());
+            constants.put(constantEnum.name(), constantEnum);
+            foldedConstants.putIfAbsent(constantEnum.name().toLowerCase(Locale.ROOT), constantEnum);
         }
     }
 
@@ -31,6 +41,14 @@ public final class ParameterEnum<S extends Source> extends BaseParameterType<S,
             .map(CommandParameter::valueType)
             .orElse(type);
 
+        if (enumType == type) {
+            Enum<?> constant = tryParse(input);
+            if (constant == null) {
+                throw new InvalidEnumException(input, (Class<? extends Enum>) enumType);
+            }
+            return constant;
+        }
+
         try {
             return Enum.valueOf((Class<? extends Enum>) enumType, input);
         } catch (IllegalArgumentException | EnumConstantNotPresentException ex) {
@@ -40,15 +58,20 @@ public final class ParameterEnum<S extends Source> extends BaseParameterType<S,
 
     @Override
     public boolean matchesInput(String input, CommandParameter<S> parameter) {
-        try {
-            if (!TypeWrap.of(type).isSubtypeOf(Enum.class)) {
-                return true;
-            }
-            Enum.valueOf((Class<? extends Enum>) type, input);
-            return true;
-        } catch (IllegalArgumentException | EnumConstantNotPresentException ex) {
-            return false;
-        }
+        return tryParse(input) != null;
+    }
+
+    /**
+     * Looks up the constant named by the input, ignoring its case
+     * when it doesn't match the name of a constant exactly.
+     *
+     * @param input the input string.
+     * @return the constant, or {@code null} if there is none of that name.
+     */
+    @Override
+    public @Nullable Enum<?> tryParse(@NotNull String input) {
+        Enum<?> constant = constants.get(input);
+        return constant != null ? constant : foldedConstants.get(input.toLowerCase(Locale.ROOT));
     }
 
 }
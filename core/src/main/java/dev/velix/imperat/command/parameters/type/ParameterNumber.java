@@ -33,6 +33,10 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
 
     @Override
     public @Nullable N resolve(@NotNull ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream, @NotNull String input) throws ImperatException {
+        N value = tryParse(input);
+        if (value != null) {
+            return value;
+        }
         try {
             return parse(input);
         } catch (NumberFormatException ex) {
@@ -42,6 +46,22 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
 
     @Override
     public boolean matchesInput(String input, CommandParameter<S> parameter) {
+        return isValid(input);
+    }
+
+    @Override
+    public @Nullable N tryParse(@NotNull String input) {
+        return isValid(input) ? parse(input) : null;
+    }
+
+    /**
+     * Checks whether the input is a valid number of this type.
+     * By default, the input is parsed, the built-in number types override this to check it without throwing.
+     *
+     * @param input the input
+     * @return whether {@link #parse(String)} would succeed on this input
+     */
+    public boolean isValid(String input) {
         try {
             parse(input);
             return true;
@@ -65,6 +85,11 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "integer";
         }
 
+        @Override
+        public boolean isValid(String input) {
+            return NumberScanner.isInteger(input, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
         @Override
         public Integer parse(String input) throws NumberFormatException {
             return Integer.parseInt(input);
@@ -82,6 +107,11 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "float";
         }
 
+        @Override
+        public boolean isValid(String input) {
+            return NumberScanner.isDecimal(input);
+        }
+
         @Override
         public Float parse(String input) throws NumberFormatException {
             return Float.parseFloat(input);
@@ -99,6 +129,11 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "long";
         }
 
+        @Override
+        public boolean isValid(String input) {
+            return NumberScanner.isInteger(input, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
         @Override
         public Long parse(String input) throws NumberFormatException {
             return Long.parseLong(input);
@@ -116,6 +151,11 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "double";
         }
 
+        @Override
+        public boolean isValid(String input) {
+            return NumberScanner.isDecimal(input);
+        }
+
         @Override
         public Double parse(String input) throws NumberFormatException {
             return Double.parseDouble(input);
@@ -60,6 +60,20 @@ public interface ParameterType<S extends Source, T> {
      */
     boolean matchesInput(String input, CommandParameter<S> parameter);
 
+    /**
+     * Parses the given input string without a context, never throwing on invalid input,
+     * so that it can be used to cheaply test input during matching and suggestions.
+     * By default, this returns {@code null}, as most types need a context to be resolved.
+     *
+     * @param input the input string.
+     * @return the parsed value, or {@code null} if the input is invalid
+     * or this type cannot be parsed without a context.
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    default @Nullable T tryParse(@NotNull String input) {
+        return null;
+    }
+
     /**
      * Returns the default value supplier for the given source and command parameter.
      * By default, this returns an empty supplier, indicating no default value.
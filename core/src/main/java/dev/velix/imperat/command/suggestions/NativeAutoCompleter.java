@@ -4,6 +4,7 @@ import dev.velix.imperat.Imperat;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.SuggestionContext;
+import dev.velix.imperat.resolvers.PermissionScope;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -16,7 +17,7 @@ final class NativeAutoCompleter<S extends Source> extends AutoCompleter<S> {
 
     /**
      * Autocompletes an argument from the whole position of the
-     * argument-raw input
+     * argument-raw input, on the suggestion executor of the config
      *
      * @param imperat the command dispatcher
      * @param context the context for suggestions
@@ -24,7 +25,14 @@ final class NativeAutoCompleter<S extends Source> extends AutoCompleter<S> {
      */
     @Override
     public CompletableFuture<List<String>> autoComplete(Imperat<S> imperat, SuggestionContext<S> context) {
-        return CompletableFuture.supplyAsync(()-> command.tree().tabComplete(imperat, context));
+        return CompletableFuture.supplyAsync(
+            () -> {
+                try (PermissionScope ignored = imperat.config().getPermissionResolver().openScope()) {
+                    return command.tree().tabComplete(imperat, context);
+                }
+            },
+            imperat.config().getSuggestionExecutor()
+        );
     }
 
 }
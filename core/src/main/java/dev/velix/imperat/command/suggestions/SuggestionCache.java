@@ -0,0 +1,143 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.context.SuggestionContext;
+import dev.velix.imperat.resolvers.SuggestionResolver;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the suggestions of the resolvers having a {@link SuggestionCachePolicy}.
+ * <p>
+ * An entry holds the suggestions resolved for an input, a longer input starting with it is answered from the entry.
+ * If the {@link SuggestionRanking ranking} is {@link SuggestionRanking#isPrefixBased() prefix based},
+ * entries are narrowed down to the suggestions starting with their input ignoring case, as the ranking may match no other,
+ * otherwise they're kept whole for the ranking to decide.
+ * Expired entries are swept every few resolutions.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.Internal
+final class SuggestionCache<S extends Source> {
+
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final Map<SuggestionResolver<S>, SuggestionCachePolicy> policiesByResolver = new ConcurrentHashMap<>();
+    private final Map<Type, SuggestionCachePolicy> policiesByType = new ConcurrentHashMap<>();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    void setPolicy(SuggestionResolver<S> resolver, @Nullable SuggestionCachePolicy policy) {
+        if (policy == null) {
+            policiesByResolver.remove(resolver);
+        } else {
+            policiesByResolver.put(resolver, policy);
+        }
+        entries.clear();
+    }
+
+    void setPolicy(Type type, @Nullable SuggestionCachePolicy policy) {
+        if (policy == null) {
+            policiesByType.remove(type);
+        } else {
+            policiesByType.put(type, policy);
+        }
+        entries.clear();
+    }
+
+    private @Nullable SuggestionCachePolicy policyOf(SuggestionResolver<S> resolver, CommandParameter<S> parameter) {
+        if (!policiesByResolver.isEmpty()) {
+            SuggestionCachePolicy policy = policiesByResolver.get(resolver);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return policiesByType.isEmpty() ? null : policiesByType.get(parameter.valueType());
+    }
+
+    void autoComplete(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter, SuggestionSink sink) {
+        if (policyOf(resolver, parameter) == null) {
+            resolver.autoComplete(context, parameter, sink);
+        } else {
+            sink.acceptAll(autoComplete(resolver, context, parameter));
+        }
+    }
+
+    List<String> autoComplete(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter) {
+        SuggestionCachePolicy policy = policyOf(resolver, parameter);
+        if (policy == null) {
+            return resolver.autoComplete(context, parameter);
+        }
+
+        CompletionArg arg = context.getArgToComplete();
+        String input = arg.isEmpty() ? "" : arg.value();
+        Key key = new Key(
+            resolver,
+            parameter,
+            policy.isPerSource() ? sourceKey(context.source()) : null,
+            precedingArguments(context.arguments(), arg.index())
+        );
+
+        boolean prefixBased = context.imperatConfig().getSuggestionRanking().isPrefixBased();
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - now > 0 && (prefixBased || !entry.narrowed) && startsWithIgnoreCase(input, entry.input)) {
+            return !entry.narrowed || input.length() == entry.input.length() ? entry.suggestions : narrow(entry.suggestions, input);
+        }
+
+        List<String> resolved = resolver.autoComplete(context, parameter);
+        List<String> suggestions = prefixBased ? narrow(resolved, input) : narrow(resolved, "");
+        entries.put(key, new Entry(input, prefixBased, suggestions, now + policy.ttlNanos()));
+        if (resolutions.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            entries.values().removeIf((e) -> e.expiresAt - now <= 0);
+        }
+        return suggestions;
+    }
+
+    private static List<String> narrow(Collection<String> suggestions, String input) {
+        if (suggestions instanceof SuggestionIndex index) {
+            return index.withPrefix(input);
+        }
+        if (input.isEmpty()) {
+            return Collections.unmodifiableList(new ArrayList<>(suggestions));
+        }
+        List<String> narrowed = new ArrayList<>();
+        for (String suggestion : suggestions) {
+            if (startsWithIgnoreCase(suggestion, input)) {
+                narrowed.add(suggestion);
+            }
+        }
+        return Collections.unmodifiableList(narrowed);
+    }
+
+    private static boolean startsWithIgnoreCase(String value, String prefix) {
+        return value.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static List<String> precedingArguments(List<String> arguments, int index) {
+        int end = Math.max(0, Math.min(index, arguments.size()));
+        return end == 0 ? List.of() : List.copyOf(arguments.subList(0, end));
+    }
+
+    private static Object sourceKey(Source source) {
+        var uuid = source.uuid();
+        return source.isConsole() || uuid == null || Source.CONSOLE_UUID.equals(uuid) ? source.name() : uuid;
+    }
+
+    private record Key(Object resolver, Object parameter, @Nullable Object source, List<String> precedingArguments) {
+    }
+
+    //narrowed, whether the suggestions only hold those starting with the input, ignoring case
+    private record Entry(String input, boolean narrowed, List<String> suggestions, long expiresAt) {
+    }
+}
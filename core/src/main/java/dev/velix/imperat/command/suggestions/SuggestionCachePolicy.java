@@ -0,0 +1,70 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.util.Preconditions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Describes how the suggestions of a resolver are cached, see
+ * {@link dev.velix.imperat.ResolverRegistrar#setSuggestionCachePolicy(dev.velix.imperat.resolvers.SuggestionResolver, SuggestionCachePolicy)}.
+ * <p>
+ * The suggestions are cached per parameter and per arguments entered before the one being completed,
+ * and for a while, are reused for any input starting with the input they were resolved for,
+ * since typing more of an argument only narrows its suggestions down.
+ * Only cache the suggestions of resolvers which don't depend on anything else than that.
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public final class SuggestionCachePolicy {
+
+    private final long ttlNanos;
+    private final boolean perSource;
+
+    private SuggestionCachePolicy(Duration ttl, boolean perSource) {
+        Preconditions.checkArgument(!ttl.isNegative() && !ttl.isZero(), "the time to live must be positive");
+        this.ttlNanos = ttl.toNanos();
+        this.perSource = perSource;
+    }
+
+    /**
+     * Suggestions shared by all sources, suited for suggestions which don't depend on who asks for them,
+     * e.g. the names of offline players.
+     *
+     * @param ttl how long the suggestions are reused
+     * @return the policy
+     */
+    public static @NotNull SuggestionCachePolicy global(@NotNull Duration ttl) {
+        return new SuggestionCachePolicy(ttl, false);
+    }
+
+    /**
+     * Suggestions cached separately for each source, suited for suggestions depending on who asks for them,
+     * e.g. the homes of a player.
+     *
+     * @param ttl how long the suggestions are reused
+     * @return the policy
+     */
+    public static @NotNull SuggestionCachePolicy perSource(@NotNull Duration ttl) {
+        return new SuggestionCachePolicy(ttl, true);
+    }
+
+    /**
+     * @return how long the suggestions are reused, in nanoseconds
+     */
+    public long ttlNanos() {
+        return ttlNanos;
+    }
+
+    /**
+     * @return whether the suggestions are cached separately for each source
+     */
+    public boolean isPerSource() {
+        return perSource;
+    }
+
+    @Override
+    public String toString() {
+        return "SuggestionCachePolicy{ttl=" + Duration.ofNanos(ttlNanos) + ", perSource=" + perSource + '}';
+    }
+}
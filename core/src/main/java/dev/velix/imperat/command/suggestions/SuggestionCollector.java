@@ -0,0 +1,120 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.util.Preconditions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the best ranked suggestions matching an input, up to a limit, without duplicates.
+ * <p>
+ * Only the best suggestions are held, so suggesting from thousands of candidates
+ * never builds nor sorts a list of all of them, and once the limit is reached
+ * with suggestions of the {@link SuggestionRanking#topRank() top rank},
+ * no better one can come and the resolvers are told to stop.
+ * Suggestions of the same rank are kept in the order they came in.
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public final class SuggestionCollector implements SuggestionSink {
+
+    private final int limit;
+    private final SuggestionRanking ranking;
+    private final String input;
+
+    //the suggestions held, from the best ranked to the worst
+    private final List<String> suggestions = new ArrayList<>();
+    private int[] ranks = new int[16];
+    private final Set<String> held = new HashSet<>();
+
+    /**
+     * @param limit   the maximum number of suggestions collected
+     * @param ranking the ranking of the suggestions
+     * @param input   the input being completed, null if none
+     */
+    public SuggestionCollector(int limit, @NotNull SuggestionRanking ranking, @Nullable String input) {
+        Preconditions.checkArgument(limit > 0, "limit must be positive");
+        this.limit = limit;
+        this.ranking = ranking;
+        this.input = input == null ? "" : input;
+    }
+
+    /**
+     * @return the input being completed, empty if none
+     */
+    public @NotNull String input() {
+        return input;
+    }
+
+    @Override
+    public boolean accept(@NotNull String suggestion) {
+        int rank = ranking.rank(input, suggestion);
+        if (rank == SuggestionRanking.REJECTED || held.contains(suggestion)) {
+            return !isSaturated();
+        }
+
+        int size = suggestions.size();
+        if (size == limit && rank <= ranks[size - 1]) {
+            return !isSaturated();
+        }
+
+        //after every suggestion ranked at least as high
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ranks[mid] >= rank) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        if (size == limit) {
+            held.remove(suggestions.remove(--size));
+        }
+        if (size == ranks.length) {
+            ranks = Arrays.copyOf(ranks, size * 2);
+        }
+        System.arraycopy(ranks, low, ranks, low + 1, size - low);
+        ranks[low] = rank;
+        suggestions.add(low, suggestion);
+        held.add(suggestion);
+        return !isSaturated();
+    }
+
+    /**
+     * Accepts suggestions until no more are wanted,
+     * {@link SuggestionIndex indexed suggestions} are narrowed down to the input first if the ranking allows it.
+     *
+     * @param suggestions the suggestions
+     * @return whether more suggestions are wanted
+     */
+    @Override
+    public boolean acceptAll(@NotNull Collection<String> suggestions) {
+        if (suggestions instanceof SuggestionIndex index && ranking.isPrefixBased()) {
+            return SuggestionSink.super.acceptAll(index.withPrefix(input));
+        }
+        return SuggestionSink.super.acceptAll(suggestions);
+    }
+
+    /**
+     * @return whether the limit is reached with suggestions of the top rank, so no better one can be collected
+     */
+    public boolean isSaturated() {
+        int size = suggestions.size();
+        return size == limit && ranks[size - 1] >= ranking.topRank();
+    }
+
+    /**
+     * @return the suggestions collected, from the best ranked to the worst
+     */
+    public @NotNull List<String> toList() {
+        return new ArrayList<>(suggestions);
+    }
+}
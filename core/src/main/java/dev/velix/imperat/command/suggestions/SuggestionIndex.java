@@ -0,0 +1,150 @@
+package dev.velix.imperat.command.suggestions;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of suggestions, kept in the order they were given in,
+ * along with their lower-cased forms sorted, so that the suggestions starting with an input, ignoring case,
+ * are found by binary search instead of scanning the whole list.
+ * <p>
+ * Suited for static suggestions, such as the constants of an enum or the aliases of a command,
+ * which are then completed in logarithmic time however many there are,
+ * only the matching suggestions are gathered back in their original order.
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public final class SuggestionIndex extends AbstractList<String> implements RandomAccess {
+
+    private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new String[0], new int[0], 0, 0, null);
+
+    private final String[] suggestions;
+    //the lower-cased suggestions sorted, along with the position of the suggestion each comes from
+    private final String[] keys;
+    private final int[] positions;
+    //the range of keys in this index
+    private final int from, to;
+    //the positions of the suggestions of this index in their original order, null when it has all of them
+    private final int @Nullable [] order;
+
+    private SuggestionIndex(String[] suggestions, String[] keys, int[] positions, int from, int to, int @Nullable [] order) {
+        this.suggestions = suggestions;
+        this.keys = keys;
+        this.positions = positions;
+        this.from = from;
+        this.to = to;
+        this.order = order;
+    }
+
+    /**
+     * Indexes suggestions, dropping the duplicates among them.
+     *
+     * @param suggestions the suggestions
+     * @return the index of the suggestions
+     */
+    public static @NotNull SuggestionIndex of(@NotNull Collection<String> suggestions) {
+        if (suggestions instanceof SuggestionIndex index) {
+            return index;
+        }
+        if (suggestions.isEmpty()) {
+            return EMPTY;
+        }
+
+        String[] distinct = new LinkedHashSet<>(suggestions).toArray(new String[0]);
+        String[] folded = new String[distinct.length];
+        Integer[] sorted = new Integer[distinct.length];
+        for (int i = 0; i < distinct.length; i++) {
+            folded[i] = fold(distinct[i]);
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.comparing((Integer i) -> folded[i]).thenComparing((i) -> i));
+
+        String[] keys = new String[distinct.length];
+        int[] positions = new int[distinct.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = folded[sorted[i]];
+            positions[i] = sorted[i];
+        }
+        return new SuggestionIndex(distinct, keys, positions, 0, distinct.length, null);
+    }
+
+    /**
+     * @param suggestions the suggestions
+     * @return the index of the suggestions
+     * @see #of(Collection)
+     */
+    public static @NotNull SuggestionIndex of(String @NotNull ... suggestions) {
+        return of(Arrays.asList(suggestions));
+    }
+
+    private static String fold(String suggestion) {
+        return suggestion.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Finds the suggestions starting with a prefix, ignoring case.
+     *
+     * @param prefix the prefix, null or empty for all suggestions
+     * @return the suggestions starting with the prefix, in their original order
+     */
+    public @NotNull SuggestionIndex withPrefix(@Nullable String prefix) {
+        if (prefix == null || prefix.isEmpty() || from == to) {
+            return this;
+        }
+        String key = fold(prefix);
+
+        //first key not before the prefix
+        int low = from, high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int start = low;
+
+        //first key after the ones starting with the prefix
+        high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(key)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        if (start == from && low == to) {
+            return this;
+        }
+        if (start == low) {
+            return EMPTY;
+        }
+        int[] matches = Arrays.copyOfRange(positions, start, low);
+        Arrays.sort(matches);
+        return new SuggestionIndex(suggestions, keys, positions, start, low, matches);
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= to - from) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (to - from));
+        }
+        return suggestions[order == null ? index : order[index]];
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+}
@@ -0,0 +1,102 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decides which suggestions match the input being completed and in which order they're shown,
+ * only the best ranked ones are kept when suggestions are limited.
+ *
+ * @see dev.velix.imperat.ImperatConfig#setSuggestionRanking(SuggestionRanking)
+ */
+@ApiStatus.AvailableSince("1.9.8")
+@FunctionalInterface
+public interface SuggestionRanking {
+
+    /**
+     * The rank of a suggestion not matching the input
+     */
+    int REJECTED = -1;
+
+    /**
+     * Suggestions starting with the input, case included.
+     *
+     * @return the prefix ranking, which is the default
+     */
+    static @NotNull SuggestionRanking prefix() {
+        return SuggestionRankings.PREFIX;
+    }
+
+    /**
+     * Suggestions starting with the input ignoring case, those starting with it exactly
+     * come before those starting with it only when ignoring case.
+     *
+     * @return the prefix ranking ignoring case
+     */
+    static @NotNull SuggestionRanking prefixIgnoringCase() {
+        return SuggestionRankings.PREFIX_IGNORING_CASE;
+    }
+
+    /**
+     * Suggestions containing the characters of the input in order, ignoring case,
+     * those starting with the input come first, then those containing it.
+     *
+     * @return the fuzzy ranking
+     */
+    static @NotNull SuggestionRanking fuzzy() {
+        return SuggestionRankings.FUZZY;
+    }
+
+    /**
+     * Suggestions ranked by another ranking, the arguments of the latest executions of the source completing coming first.
+     * Only the arguments of parameters having suggestions are remembered.
+     *
+     * @param ranking  the ranking deciding which suggestions match, and in which order among the ones not used lately
+     * @param capacity how many of the latest arguments of each source are remembered
+     * @return the recency ranking
+     */
+    static @NotNull SuggestionRanking recency(@NotNull SuggestionRanking ranking, int capacity) {
+        return new SuggestionRankings.Recency(ranking, capacity);
+    }
+
+    /**
+     * @param input      the input being completed, empty if none
+     * @param suggestion the suggestion
+     * @return the rank of the suggestion, between 0 and {@link #topRank()}, higher ranks first,
+     * or {@link #REJECTED} if it doesn't match the input
+     */
+    int rank(@NotNull String input, @NotNull String suggestion);
+
+    /**
+     * @return the highest rank, once enough suggestions have it, resolvers are told to stop
+     */
+    default int topRank() {
+        return 0;
+    }
+
+    /**
+     * @return whether only suggestions starting with the input, ignoring case, may match it,
+     * allowing {@link SuggestionIndex indexed suggestions} to be narrowed down before being ranked
+     */
+    default boolean isPrefixBased() {
+        return false;
+    }
+
+    /**
+     * @param source the source completing an input
+     * @return the ranking of the suggestions made to the source, this ranking unless it depends on the source
+     */
+    default @NotNull SuggestionRanking forSource(@NotNull Source source) {
+        return this;
+    }
+
+    /**
+     * Called with each argument of a successful command execution given to a parameter having suggestions.
+     *
+     * @param source   the source which executed the command
+     * @param argument the argument
+     */
+    default void remember(@NotNull Source source, @NotNull String argument) {
+    }
+}
@@ -0,0 +1,225 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.Preconditions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.velix.imperat.command.suggestions.SuggestionRanking.REJECTED;
+
+/**
+ * The rankings provided by {@link SuggestionRanking}.
+ */
+@ApiStatus.Internal
+final class SuggestionRankings {
+
+    static final SuggestionRanking PREFIX = new SuggestionRanking() {
+        @Override
+        public int rank(@NotNull String input, @NotNull String suggestion) {
+            return suggestion.startsWith(input) ? 0 : REJECTED;
+        }
+
+        @Override
+        public boolean isPrefixBased() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "SuggestionRanking.prefix()";
+        }
+    };
+
+    static final SuggestionRanking PREFIX_IGNORING_CASE = new SuggestionRanking() {
+        @Override
+        public int rank(@NotNull String input, @NotNull String suggestion) {
+            if (suggestion.startsWith(input)) {
+                return 1;
+            }
+            return suggestion.regionMatches(true, 0, input, 0, input.length()) ? 0 : REJECTED;
+        }
+
+        @Override
+        public int topRank() {
+            return 1;
+        }
+
+        @Override
+        public boolean isPrefixBased() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "SuggestionRanking.prefixIgnoringCase()";
+        }
+    };
+
+    static final SuggestionRanking FUZZY = new SuggestionRanking() {
+        @Override
+        public int rank(@NotNull String input, @NotNull String suggestion) {
+            if (suggestion.regionMatches(true, 0, input, 0, input.length())) {
+                return 2;
+            }
+            int length = suggestion.length() - input.length();
+            for (int i = 1; i <= length; i++) {
+                if (suggestion.regionMatches(true, i, input, 0, input.length())) {
+                    return 1;
+                }
+            }
+            int matched = 0;
+            for (int i = 0; i < suggestion.length() && matched < input.length(); i++) {
+                if (equalsIgnoreCase(suggestion.charAt(i), input.charAt(matched))) {
+                    matched++;
+                }
+            }
+            return matched == input.length() ? 0 : REJECTED;
+        }
+
+        @Override
+        public int topRank() {
+            return 2;
+        }
+
+        @Override
+        public String toString() {
+            return "SuggestionRanking.fuzzy()";
+        }
+    };
+
+    private SuggestionRankings() {
+        throw new AssertionError();
+    }
+
+    private static boolean equalsIgnoreCase(char a, char b) {
+        return a == b || Character.toLowerCase(a) == Character.toLowerCase(b);
+    }
+
+    static final class Recency implements SuggestionRanking {
+
+        //the sources whose arguments are remembered at most, the least recently active ones are forgotten first
+        private static final int MAX_SOURCES = 1024;
+
+        private final SuggestionRanking ranking;
+        private final int capacity;
+        private final Map<Object, History> histories = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, History> eldest) {
+                return size() > MAX_SOURCES;
+            }
+        });
+
+        Recency(SuggestionRanking ranking, int capacity) {
+            Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+            Preconditions.checkArgument(
+                (long) (capacity + 1) * (ranking.topRank() + 1) <= Integer.MAX_VALUE,
+                "capacity is too large"
+            );
+            this.ranking = ranking;
+            this.capacity = capacity;
+        }
+
+        //as for a source which executed nothing lately
+        @Override
+        public int rank(@NotNull String input, @NotNull String suggestion) {
+            return ranking.rank(input, suggestion);
+        }
+
+        @Override
+        public int topRank() {
+            return capacity * (ranking.topRank() + 1) + ranking.topRank();
+        }
+
+        @Override
+        public boolean isPrefixBased() {
+            return ranking.isPrefixBased();
+        }
+
+        @Override
+        public @NotNull SuggestionRanking forSource(@NotNull Source source) {
+            History history = histories.get(sourceKey(source));
+            //without history nothing is boosted, the ranking's own top rank lets the collection stop early
+            return history == null ? ranking.forSource(source) : new SourceRecency(history, ranking.forSource(source));
+        }
+
+        @Override
+        public void remember(@NotNull Source source, @NotNull String argument) {
+            ranking.remember(source, argument);
+            histories.computeIfAbsent(sourceKey(source), (key) -> new History()).remember(argument, capacity);
+        }
+
+        private static Object sourceKey(Source source) {
+            var uuid = source.uuid();
+            return source.isConsole() || uuid == null || Source.CONSOLE_UUID.equals(uuid) ? source.name() : uuid;
+        }
+
+        @Override
+        public String toString() {
+            return "SuggestionRanking.recency(" + ranking + ", " + capacity + ")";
+        }
+
+        private final class SourceRecency implements SuggestionRanking {
+
+            private final History history;
+            private final SuggestionRanking ranking;
+
+            private SourceRecency(History history, SuggestionRanking ranking) {
+                this.history = history;
+                this.ranking = ranking;
+            }
+
+            @Override
+            public int rank(@NotNull String input, @NotNull String suggestion) {
+                int rank = ranking.rank(input, suggestion);
+                if (rank == REJECTED) {
+                    return REJECTED;
+                }
+                return history.recency(suggestion, capacity) * (ranking.topRank() + 1) + rank;
+            }
+
+            @Override
+            public int topRank() {
+                return Recency.this.topRank();
+            }
+
+            @Override
+            public boolean isPrefixBased() {
+                return ranking.isPrefixBased();
+            }
+
+            @Override
+            public String toString() {
+                return Recency.this.toString();
+            }
+        }
+    }
+
+    //the latest arguments of a source
+    private static final class History {
+
+        //the tick each argument was last used at
+        private final Map<String, Long> lastUses = new ConcurrentHashMap<>();
+        private final AtomicLong ticks = new AtomicLong();
+
+        //from capacity for the latest argument down to 0 for those not used within the last capacity ones
+        int recency(String argument, int capacity) {
+            Long lastUse = lastUses.get(argument);
+            long age = lastUse == null ? capacity : ticks.get() - lastUse;
+            return (int) Math.max(0, capacity - age);
+        }
+
+        void remember(String argument, int capacity) {
+            long tick = ticks.incrementAndGet();
+            lastUses.put(argument, tick);
+            if (lastUses.size() > capacity * 2) {
+                lastUses.values().removeIf((lastUse) -> tick - lastUse >= capacity);
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ public final class SuggestionResolverRegistry<S extends Source> {
 
     private final EnumSuggestionResolver enumSuggestionResolver = new EnumSuggestionResolver();
     private final FlagSuggestionResolver flagSuggestionResolver = new FlagSuggestionResolver();
+    private final SuggestionCache<S> cache = new SuggestionCache<>();
 
     private final ImperatConfig<S> imperat;
 
@@ -56,6 +57,51 @@ public final class SuggestionResolverRegistry<S extends Source> {
         return resolversPerName.get(name);
     }
 
+    /**
+     * Sets how the suggestions of a resolver are cached, clearing the cached suggestions.
+     *
+     * @param resolver the resolver
+     * @param policy   the policy, null to stop caching its suggestions
+     */
+    public void setCachePolicy(SuggestionResolver<S> resolver, @Nullable SuggestionCachePolicy policy) {
+        cache.setPolicy(resolver, policy);
+    }
+
+    /**
+     * Sets how the suggestions of the parameters of a value type are cached, clearing the cached suggestions.
+     * A policy set for the resolver of a parameter takes precedence.
+     *
+     * @param type   the value type of the parameters
+     * @param policy the policy, null to stop caching their suggestions
+     */
+    public void setCachePolicy(Type type, @Nullable SuggestionCachePolicy policy) {
+        cache.setPolicy(type, policy);
+    }
+
+    /**
+     * Fetches the suggestions of a resolver, from the cache if it has a {@link SuggestionCachePolicy}.
+     *
+     * @param resolver  the resolver
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @return the suggestions
+     */
+    public List<String> autoComplete(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter) {
+        return cache.autoComplete(resolver, context, parameter);
+    }
+
+    /**
+     * Pushes the suggestions of a resolver to a sink, from the cache if it has a {@link SuggestionCachePolicy}.
+     *
+     * @param resolver  the resolver
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @param sink      the sink receiving the suggestions
+     */
+    public void autoComplete(SuggestionResolver<S> resolver, SuggestionContext<S> context, CommandParameter<S> parameter, SuggestionSink sink) {
+        cache.autoComplete(resolver, context, parameter, sink);
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     public final class EnumSuggestionResolver implements SuggestionResolver<S> {
         private final Map<Type, List<String>> PRE_LOADED_ENUMS = new HashMap<>();
@@ -63,7 +109,7 @@ public final class SuggestionResolverRegistry<S extends Source> {
         public void registerEnumResolver(Type raw) {
             Class<Enum> enumClass = (Class<Enum>) raw;
             PRE_LOADED_ENUMS.computeIfAbsent(raw,
-                (v) -> Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList());
+                (v) -> SuggestionIndex.of(Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList()));
         }
 
         private Optional<List<String>> getResults(Type type) {
@@ -0,0 +1,38 @@
+package dev.velix.imperat.command.suggestions;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Receives the suggestions of a resolver one by one,
+ * telling it when no more are needed so that it may stop producing them.
+ *
+ * @see dev.velix.imperat.resolvers.SuggestionResolver#autoComplete(dev.velix.imperat.context.SuggestionContext, dev.velix.imperat.command.parameters.CommandParameter, SuggestionSink)
+ */
+@ApiStatus.AvailableSince("1.9.8")
+@FunctionalInterface
+public interface SuggestionSink {
+
+    /**
+     * @param suggestion the suggestion
+     * @return whether more suggestions are wanted
+     */
+    boolean accept(@NotNull String suggestion);
+
+    /**
+     * Accepts suggestions until no more are wanted.
+     *
+     * @param suggestions the suggestions
+     * @return whether more suggestions are wanted
+     */
+    default boolean acceptAll(@NotNull Collection<String> suggestions) {
+        for (String suggestion : suggestions) {
+            if (!accept(suggestion)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,13 +5,17 @@ import dev.velix.imperat.ImperatConfig;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.FlagParameter;
+import dev.velix.imperat.command.suggestions.SuggestionCollector;
 import dev.velix.imperat.context.*;
 import dev.velix.imperat.resolvers.PermissionResolver;
+import dev.velix.imperat.resolvers.SuggestionResolver;
 import dev.velix.imperat.util.TypeUtility;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * Ultra-optimized CommandTree implementation focused on maximum performance
@@ -22,17 +26,15 @@ public final class CommandTree<S extends Source> {
     final Command<S> rootCommand;
     final CommandNode<S> root;
     
-    // Pre-computed immutable collections to eliminate allocations
-    private final static int MAX_SUGGESTIONS_PER_ARGUMENT = 20;
-    
     // Optimized flag cache with better hashing
     private final Map<String, FlagData<S>> flagCache;
     
     // Pre-sized collections for common operations
     private final ThreadLocal<ArrayList<ParameterNode<S, ?>>> pathBuffer =
             ThreadLocal.withInitial(() -> new ArrayList<>(16));
-    private final ThreadLocal<ArrayList<CommandParameter<S>>> paramBuffer =
-            ThreadLocal.withInitial(() -> new ArrayList<>(8));
+    
+    // Flattened snapshot used by contextMatch, dropped whenever the tree changes
+    private volatile DispatchAutomaton<S> automaton;
     
     CommandTree(Command<S> command) {
         this.rootCommand = command;
@@ -96,9 +98,40 @@ public final class CommandTree<S extends Source> {
             addParametersToTree(root, usage, parameters, 0, path);
         } finally {
             path.clear(); // Clean up for next use
+            invalidate();
         }
     }
     
+    /**
+     * Compiles the current state of the tree into the flattened automaton
+     * used by {@link #contextMatch(ArgumentQueue, ImperatConfig)}.
+     * <p>
+     * Calling this is optional, the automaton is compiled lazily on the first match
+     * after any change to the tree, this only moves that cost to a convenient time
+     * (e.g. command registration).
+     */
+    public void compile() {
+        this.automaton = DispatchAutomaton.compile(root);
+    }
+    
+    /**
+     * Drops the compiled automaton, so that the next match recompiles it.
+     * Must be called whenever something the matching depends on changes outside
+     * of {@link #parseUsage(CommandUsage)}, such as the aliases of a subcommand.
+     */
+    public void invalidate() {
+        this.automaton = null;
+    }
+    
+    private DispatchAutomaton<S> automaton() {
+        var compiled = this.automaton;
+        if (compiled == null) {
+            compiled = DispatchAutomaton.compile(root);
+            this.automaton = compiled;
+        }
+        return compiled;
+    }
+    
     private void addParametersToTree(
             ParameterNode<S, ?> currentNode,
             CommandUsage<S> usage,
@@ -124,10 +157,19 @@ public final class CommandTree<S extends Source> {
         // Optimized flag sequence detection
         int flagSequenceEnd = findFlagSequenceEnd(parameters, index);
         
-        if (flagSequenceEnd > index) {
-            // Handle multiple consecutive optional flags
-            handleFlagSequenceOptimized(currentNode, usage, parameters, index, flagSequenceEnd, path);
-            addParametersToTree(currentNode, usage, parameters, flagSequenceEnd, path);
+        if (flagSequenceEnd - index > 1) {
+            // Multiple consecutive optional flags, accepted in any order by a single bag node
+            final var bagNode = getOrCreateFlagBagNode(currentNode, parameters.subList(index, flagSequenceEnd));
+            final int pathSize = path.size();
+            path.add(bagNode);
+            try {
+                addParametersToTree(bagNode, usage, parameters, flagSequenceEnd, path);
+                addParametersToTree(currentNode, usage, parameters, flagSequenceEnd, path.subList(0, pathSize));
+            } finally {
+                if (path.size() > pathSize) {
+                    path.remove(pathSize);
+                }
+            }
             return;
         }
         
@@ -179,194 +221,6 @@ public final class CommandTree<S extends Source> {
         return end;
     }
     
-    /**
-     * Optimized flag permutation handling
-     */
-    private void handleFlagSequenceOptimized(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            int flagStart,
-            int flagEnd,
-            List<ParameterNode<S, ?>> path
-    ) {
-        final var flagParams = paramBuffer.get();
-        flagParams.clear();
-        
-        try {
-            // Collect flag parameters
-            for (int i = flagStart; i < flagEnd; i++) {
-                flagParams.add(allParameters.get(i));
-            }
-            
-            // Generate and process permutations efficiently
-            processPermutationsIteratively(currentNode, usage, allParameters, flagParams, flagEnd, path);
-        } finally {
-            flagParams.clear();
-        }
-    }
-    
-    /**
-     * Iterative permutation processing to avoid recursion overhead
-     */
-    private void processPermutationsIteratively(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> flagParams,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        // For small flag sets, use simple permutation generation
-        if (flagParams.size() <= 3) {
-            generateSmallPermutations(currentNode, usage, allParameters, flagParams, nextIndex, basePath);
-        } else {
-            // For larger sets, use optimized iterative approach
-            generateLargePermutations(currentNode, usage, allParameters, flagParams, nextIndex, basePath);
-        }
-    }
-    
-    private void generateSmallPermutations(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> flagParams,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        // Direct handling for 1-3 flags to avoid overhead
-        final int size = flagParams.size();
-        if (size == 1) {
-            processSinglePermutation(currentNode, usage, allParameters, flagParams, nextIndex, basePath);
-        } else if (size == 2) {
-            // Handle 2! = 2 permutations directly
-            processTwoPermutations(currentNode, usage, allParameters, flagParams, nextIndex, basePath);
-        } else {
-            // Handle 3! = 6 permutations directly
-            processThreePermutations(currentNode, usage, allParameters, flagParams, nextIndex, basePath);
-        }
-    }
-    
-    private void processSinglePermutation(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> flagParams,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        final var flagNode = getOrCreateChildNode(currentNode, flagParams.get(0));
-        final var updatedPath = new ArrayList<>(basePath);
-        updatedPath.add(flagNode);
-        
-        if (nextIndex < allParameters.size()) {
-            addParametersToTree(flagNode, usage, allParameters, nextIndex, updatedPath);
-        } else {
-            flagNode.setExecutableUsage(usage);
-        }
-    }
-    
-    private void processTwoPermutations(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> flagParams,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        final var flag1 = flagParams.get(0);
-        final var flag2 = flagParams.get(1);
-        
-        // Permutation 1: [flag1, flag2]
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag1, flag2), nextIndex, basePath);
-        
-        // Permutation 2: [flag2, flag1]
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag2, flag1), nextIndex, basePath);
-    }
-    
-    private void processThreePermutations(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> flagParams,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        final var flag1 = flagParams.get(0);
-        final var flag2 = flagParams.get(1);
-        final var flag3 = flagParams.get(2);
-        
-        // All 6 permutations of 3 flags
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag1, flag2, flag3), nextIndex, basePath);
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag1, flag3, flag2), nextIndex, basePath);
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag2, flag1, flag3), nextIndex, basePath);
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag2, flag3, flag1), nextIndex, basePath);
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag3, flag1, flag2), nextIndex, basePath);
-        processPermutationPath(currentNode, usage, allParameters, List.of(flag3, flag2, flag1), nextIndex, basePath);
-    }
-    
-    private void processPermutationPath(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> permutation,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        var nodePointer = currentNode;
-        final var updatedPath = new ArrayList<>(basePath);
-        
-        for (var flagParam : permutation) {
-            final var flagNode = getOrCreateChildNode(nodePointer, flagParam);
-            updatedPath.add(flagNode);
-            nodePointer = flagNode;
-        }
-        
-        if (nextIndex < allParameters.size()) {
-            addParametersToTree(nodePointer, usage, allParameters, nextIndex, updatedPath);
-        } else {
-            nodePointer.setExecutableUsage(usage);
-        }
-    }
-    
-    private void generateLargePermutations(
-            ParameterNode<S, ?> currentNode,
-            CommandUsage<S> usage,
-            List<CommandParameter<S>> allParameters,
-            List<CommandParameter<S>> flagParams,
-            int nextIndex,
-            List<ParameterNode<S, ?>> basePath
-    ) {
-        // For larger sets, use Heap's algorithm iteratively
-        // This is more complex but more efficient for larger permutation sets
-        final int n = flagParams.size();
-        final int[] indices = new int[n];
-        
-        // First permutation (identity)
-        processPermutationPath(currentNode, usage, allParameters, new ArrayList<>(flagParams), nextIndex, basePath);
-        
-        int i = 0;
-        while (i < n) {
-            if (indices[i] < i) {
-                // Swap elements
-                if (i % 2 == 0) {
-                    Collections.swap(flagParams, 0, i);
-                } else {
-                    Collections.swap(flagParams, indices[i], i);
-                }
-                
-                // Process this permutation
-                processPermutationPath(currentNode, usage, allParameters, new ArrayList<>(flagParams), nextIndex, basePath);
-                
-                indices[i]++;
-                i = 0;
-            } else {
-                indices[i] = 0;
-                i++;
-            }
-        }
-    }
-    
     private ParameterNode<S, ?> getOrCreateChildNode(ParameterNode<S, ?> parent, CommandParameter<S> param) {
         // Optimized child lookup with early termination
         final var children = parent.getChildren();
@@ -374,6 +228,10 @@ public final class CommandTree<S extends Source> {
         final Type paramType = param.valueType();
         
         for (var child : children) {
+            // a bag's data is its first flag, bags are only reused through getOrCreateFlagBagNode
+            if (child instanceof FlagBagNode<?>) {
+                continue;
+            }
             if (child.data.name().equalsIgnoreCase(paramName) &&
                     TypeUtility.matches(child.data.valueType(), paramType)) {
                 return child;
@@ -389,8 +247,21 @@ public final class CommandTree<S extends Source> {
         return newNode;
     }
     
+    @SuppressWarnings("unchecked")
+    private FlagBagNode<S> getOrCreateFlagBagNode(ParameterNode<S, ?> parent, List<CommandParameter<S>> flags) {
+        for (var child : parent.getChildren()) {
+            if (child instanceof FlagBagNode<?> bagNode && bagNode.hasFlags(flags)) {
+                return (FlagBagNode<S>) bagNode;
+            }
+        }
+        
+        final var newNode = new FlagBagNode<>(flags, parent.getDepth() + 1);
+        parent.addChild(newNode);
+        return newNode;
+    }
+    
     /**
-     * Ultra-optimized context matching - removed excessive profiling
+     * Ultra-optimized context matching, runs against the compiled {@link DispatchAutomaton}
      */
     public @NotNull CommandDispatch<S> contextMatch(
             ArgumentQueue input,
@@ -405,252 +276,141 @@ public final class CommandTree<S extends Source> {
             return dispatch;
         }
         
-        final var rootChildren = root.getChildren();
-        if (rootChildren.isEmpty()) {
-            return dispatch;
-        }
-        
-        // Process children efficiently
-        for (var child : rootChildren) {
-            final var result = dispatchNode(config, dispatch, input, child, 0);
-            if (result.getResult() != CommandDispatch.Result.UNKNOWN) {
-                return result;
-            }
-        }
-        
+        automaton().match(dispatch, input, config.strictCommandTree(), flagCache);
         return dispatch;
     }
     
     /**
-     * Streamlined node dispatching without profiling overhead
+     * Optimized input matching
      */
-    private @NotNull CommandDispatch<S> dispatchNode(
-            ImperatConfig<S> config,
-            CommandDispatch<S> commandDispatch,
-            ArgumentQueue input,
-            @NotNull ParameterNode<S, ?> currentNode,
-            int depth
+    private static <S extends Source> boolean matchesInput(
+            ParameterNode<S, ?> node,
+            String input,
+            boolean strictMode
     ) {
-        // Bounds check
-        final int inputSize = input.size();
-        if (depth >= inputSize) {
-            if (currentNode.isExecutable()) {
-                commandDispatch.append(currentNode);
-                commandDispatch.setDirectUsage(currentNode.getExecutableUsage());
-                commandDispatch.setResult(CommandDispatch.Result.COMPLETE);
-            }
-            return commandDispatch;
-        }
-        
-        final String rawInput = input.get(depth);
-        
-        // Greedy parameter check
-        if (currentNode.isGreedyParam()) {
-            commandDispatch.append(currentNode);
-            commandDispatch.setResult(CommandDispatch.Result.COMPLETE);
-            commandDispatch.setDirectUsage(currentNode.getExecutableUsage());
-            return commandDispatch;
-        }
-        
-        // Input matching loop with reduced overhead
-        var workingNode = currentNode;
-        final boolean strictMode = config.strictCommandTree();
-        
-        while (!matchesInput(workingNode, rawInput, strictMode)) {
-            if (workingNode.isOptional()) {
-                commandDispatch.append(workingNode);
-                
-                var nextWorkingNode = workingNode.getNextParameterChild();
-                if (nextWorkingNode == null) {
-                    if (workingNode.isExecutable()) {
-                        commandDispatch.setResult(CommandDispatch.Result.COMPLETE);
-                        commandDispatch.setDirectUsage(workingNode.executableUsage);
-                    }
-                    return commandDispatch;
-                }
-                workingNode = nextWorkingNode;
-            } else {
-                return commandDispatch;
-            }
-        }
-        
-        // Flag handling with cached lookup
-        if (!workingNode.isFlag() && isFlag(rawInput)) {
-            final var flagData = flagCache.get(rawInput.substring(1));
-            if (flagData == null) {
-                return commandDispatch;
-            }
-            final int depthIncrease = flagData.isSwitch() ? 1 : 2;
-            return dispatchNode(config, commandDispatch, input, workingNode, depth + depthIncrease);
-        }
-        
-        commandDispatch.append(workingNode);
-        
-        if (workingNode.isTrueFlag()) {
-            depth++;
-        }
-        
-        final boolean isLastDepth = (depth == inputSize - 1);
-        
-        if (isLastDepth) {
-            return handleLastDepth(commandDispatch, workingNode);
-        }
-        
-        // Process children
-        final var children = workingNode.getChildren();
-        for (var child : children) {
-            final var result = dispatchNode(config, commandDispatch, input, child, depth + 1);
-            if (result.getResult() == CommandDispatch.Result.COMPLETE) {
-                return result;
-            }
+        if (node instanceof CommandNode || strictMode || node.isFlag()) {
+            return node.matchesInput(input);
         }
-        
-        return commandDispatch;
+        return true;
+    }
+    
+    // Tab completion - optimized version without excessive profiling
+    public @NotNull List<String> tabComplete(Imperat<S> imperat, SuggestionContext<S> context) {
+        final var config = imperat.config();
+        final var collector = new SuggestionCollector(
+                config.getSuggestionLimit(),
+                config.getSuggestionRanking().forSource(context.source()),
+                context.getArgToComplete().value()
+        );
+        tabComplete$1(root, 0, imperat, context, collector);
+        return collector.toList();
     }
     
     /**
-     * Optimized last depth handling
+     * @param shift how far the input of the node lies past its depth,
+     *              as the flag bags before it may take fewer or more arguments than one
      */
-    private CommandDispatch<S> handleLastDepth(CommandDispatch<S> dispatch, ParameterNode<S, ?> node) {
-        if (node.isExecutable()) {
-            dispatch.setDirectUsage(node.getExecutableUsage());
-            dispatch.setResult(CommandDispatch.Result.COMPLETE);
-            return dispatch;
-        }
+    private void tabComplete$1(ParameterNode<S, ?> node, int shift, Imperat<S> imperat, SuggestionContext<S> context, SuggestionCollector collector) {
         
-        if (node.isCommand()) {
-            addOptionalChildren(dispatch, node);
-            dispatch.setResult(CommandDispatch.Result.COMPLETE);
-            return dispatch;
+        if (node instanceof FlagBagNode<?> bagNode) {
+            tabCompleteFlagBag(bagNode, shift, imperat, context, collector);
+            return;
         }
         
-        final var requiredNode = findRequiredNode(node);
-        
-        if (requiredNode == null) {
-            dispatch.setResult(CommandDispatch.Result.COMPLETE);
-            addOptionalChildren(dispatch, node);
-        } else {
-            dispatch.setResult(requiredNode.isCommand()
-                    ? CommandDispatch.Result.COMPLETE
-                    : CommandDispatch.Result.UNKNOWN);
+        //base condition
+        if(context.getArgToComplete().index()-(node.getDepth()+shift) == 1) {
+            suggestionsOf(node.getChildren().stream().flatMap(CommandTree::parametersOf), imperat, context, collector);
+            return;
         }
         
-        return dispatch;
-    }
-    
-    /**
-     * Fast flag checking
-     */
-    private static boolean isFlag(String input) {
-        return input.length() > 1 && input.charAt(0) == '-';
+        //not the last node before the depth.
+        tabCompleteChildren(node, shift, imperat, context, collector);
     }
     
-    /**
-     * Optimized required node search
-     */
-    private @Nullable ParameterNode<S, ?> findRequiredNode(ParameterNode<S, ?> currentNode) {
-        final var children = currentNode.getChildren();
-        for (var child : children) {
-            if (child.isRequired()) {
-                return child;
-            }
-            final var deepReq = findRequiredNode(child);
-            if (deepReq != null) {
-                return deepReq;
+    private void tabCompleteChildren(ParameterNode<S, ?> node, int shift, Imperat<S> imperat, SuggestionContext<S> context, SuggestionCollector collector) {
+        for(var child : node.getChildren()) {
+            if(
+                    hasPermission(imperat.config().getPermissionResolver(), context.source(), child.data.permission()) &&
+                    matchesInput(child, context.arguments().getOr(child.getDepth()+shift, null), false)
+            ) {
+                tabComplete$1(child, shift, imperat, context, collector);
+                // a sibling may start with the bag's first flag alone, so it's completed as well
+                if (!(child instanceof FlagBagNode<?>)) {
+                    return;
+                }
             }
         }
-        return null;
     }
     
     /**
-     * Streamlined optional children addition
+     * Completes an argument that lies within (or after) the flags of a bag,
+     * the flags already entered are walked first, in whatever order they were entered.
      */
-    private void addOptionalChildren(CommandDispatch<S> dispatch, ParameterNode<S, ?> currentNode) {
-        var current = currentNode;
-        while (current != null) {
-            final var childOptional = getOptionalChild(current);
-            if (childOptional == null) {
+    @SuppressWarnings("unchecked")
+    private void tabCompleteFlagBag(FlagBagNode<?> node, int shift, Imperat<S> imperat, SuggestionContext<S> context, SuggestionCollector collector) {
+        final var bagNode = (FlagBagNode<S>) node;
+        final var flags = bagNode.getFlags();
+        final int target = context.getArgToComplete().index();
+        final var arguments = context.arguments();
+        
+        final boolean[] used = new boolean[flags.size()];
+        int position = bagNode.getDepth() + shift;
+        int lastFlag = -1;
+        while (position < target) {
+            final int index = bagNode.matchFlag(arguments.getOr(position, null), used);
+            if (index == -1) {
                 break;
             }
-            
-            dispatch.append(childOptional);
-            
-            if (childOptional.isLast()) {
-                dispatch.setDirectUsage(childOptional.getExecutableUsage());
-                break;
+            used[index] = true;
+            lastFlag = index;
+            position += bagNode.width(index);
+        }
+        
+        if (position == target) {
+            final List<CommandParameter<S>> remaining = new ArrayList<>(flags.size());
+            for (int i = 0; i < flags.size(); i++) {
+                if (!used[i]) remaining.add(flags.get(i));
             }
-            current = childOptional;
+            if (remaining.isEmpty()) {
+                suggestionsOf(bagNode.getChildren().stream().flatMap(CommandTree::parametersOf), imperat, context, collector);
+            } else {
+                suggestionsOf(remaining.stream(), imperat, context, collector);
+            }
+            return;
         }
-    }
-    
-    /**
-     * Fast optional child getter
-     */
-    private @Nullable ParameterNode<S, ?> getOptionalChild(ParameterNode<S, ?> node) {
-        final var children = node.getChildren();
-        for (var child : children) {
-            if (child.isOptional()) {
-                return child;
+        
+        if (position > target) {
+            // completing the value of the last entered flag
+            final FlagParameter<S> flag = flags.get(lastFlag).asFlagParameter();
+            SuggestionResolver<S> resolver = flag.inputSuggestionResolver();
+            if (resolver == null) {
+                resolver = flag.flagData().inputType().getSuggestionResolver();
+            }
+            if (resolver != null) {
+                imperat.config().resolveSuggestions(resolver, context, flag, collector);
             }
+            return;
         }
-        return null;
+        
+        // the children of the bag are at depth + 1, yet their input starts wherever the flags ended
+        tabCompleteChildren(bagNode, position - (bagNode.getDepth() + 1), imperat, context, collector);
     }
     
-    /**
-     * Optimized input matching
-     */
-    private static <S extends Source> boolean matchesInput(
-            ParameterNode<S, ?> node,
-            String input,
-            boolean strictMode
-    ) {
-        if (node instanceof CommandNode || strictMode || node.isFlag()) {
-            return node.matchesInput(input);
+    @SuppressWarnings("unchecked")
+    private static <S extends Source> Stream<CommandParameter<S>> parametersOf(ParameterNode<S, ?> node) {
+        if (node instanceof FlagBagNode<?> bagNode) {
+            return ((FlagBagNode<S>) bagNode).getFlags().stream();
         }
-        return true;
+        return Stream.of(node.data);
     }
     
-    // Tab completion - optimized version without excessive profiling
-    public @NotNull List<String> tabComplete(Imperat<S> imperat, SuggestionContext<S> context) {
-        return new ArrayList<>(tabComplete$1(root, imperat, context));
-    }
-    
-    private Set<String> tabComplete$1(ParameterNode<S, ?> node,  Imperat<S> imperat, SuggestionContext<S> context) {
-        
-        //base condition
-        if(context.getArgToComplete().index()-node.getDepth() == 1) {
-            Set<String> completeList = new LinkedHashSet<>(MAX_SUGGESTIONS_PER_ARGUMENT);
-            String currentInput = context.getArgToComplete().value();
-            
-            node.getChildren().stream()
-                    .map((child)-> child.data)
-                    .map((param)-> {
-                        var resolver = imperat.config().getParameterSuggestionResolver(param);
-                        return resolver.autoComplete(context, param);
-                    })
-                    .map((list)-> {
-                        if(currentInput == null || currentInput.isBlank()) {
-                            return list;
-                        }
-                        LinkedHashSet<String> l = new LinkedHashSet<>(list);
-                        l.removeIf((str)-> !str.startsWith(currentInput));
-                        return l;
-                    })
-                    .forEachOrdered(completeList::addAll);
-            return completeList;
-        }
-        
-        //not the last node before the depth.
-        for(var child : node.getChildren()) {
-            if(
-                    hasPermission(imperat.config().getPermissionResolver(), context.source(), child.data.permission()) &&
-                    matchesInput(child, context.arguments().getOr(child.getDepth(), null), false)
-            ) {
-                return tabComplete$1(child, imperat, context);
-            }
+    private void suggestionsOf(Stream<CommandParameter<S>> parameters, Imperat<S> imperat, SuggestionContext<S> context, SuggestionCollector collector) {
+        final var config = imperat.config();
+        final var iterator = parameters.iterator();
+        while (iterator.hasNext() && !collector.isSaturated()) {
+            final var param = iterator.next();
+            config.resolveSuggestions(config.getParameterSuggestionResolver(param), context, param, collector);
         }
-        
-        return Collections.emptySet();
     }
     
     // Optimized usage search
@@ -659,12 +419,13 @@ public final class CommandTree<S extends Source> {
         final String firstArg = queue.getOr(0, null);
         
         final var startingNode = (firstArg == null) ? root : findStartingNode(root, firstArg);
+        if (startingNode == null) {
+            return new ClosestUsageSearch<>(Set.of(rootCommand.getDefaultUsage()));
+        }
         
-        final Set<CommandUsage<S>> closestUsages = (startingNode == null)
-                ? Set.of(rootCommand.getDefaultUsage())
-                : getClosestUsagesRecursively(new LinkedHashSet<>(), startingNode, context);
-        
-        return new ClosestUsageSearch<>(closestUsages);
+        final var search = new UsageSearch(context, automaton());
+        search.visit(startingNode, 0);
+        return new ClosestUsageSearch<>(search.closestUsages);
     }
     
     private ParameterNode<S, ?> findStartingNode(ParameterNode<S, ?> root, String raw) {
@@ -677,51 +438,65 @@ public final class CommandTree<S extends Source> {
         return null;
     }
     
-    private Set<CommandUsage<S>> getClosestUsagesRecursively(
-            Set<CommandUsage<S>> currentUsages,
-            ParameterNode<S, ?> node,
-            Context<S> context
-    ) {
-        if (node.isExecutable()) {
-            final var usage = node.getExecutableUsage();
-            if (hasUsagePermission(context.imperatConfig().getPermissionResolver(), context.source(), usage)) {
-                currentUsages.add(usage);
-            }
+    /**
+     * Collects the usages closest to the input, walking the nodes matching the input,
+     * then taking the usages precomputed by the automaton for the nodes past the end of the input.
+     * The permission of each usage is checked once per search.
+     */
+    private final class UsageSearch {
+        
+        private final ArgumentQueue arguments;
+        private final DispatchAutomaton<S> automaton;
+        private final PermissionResolver<S> permissionResolver;
+        private final S source;
+        
+        private final Set<CommandUsage<S>> closestUsages = new LinkedHashSet<>();
+        private final Map<CommandUsage<S>, Boolean> permissions = new IdentityHashMap<>();
+        
+        private UsageSearch(Context<S> context, DispatchAutomaton<S> automaton) {
+            this.arguments = context.arguments();
+            this.automaton = automaton;
+            this.permissionResolver = context.imperatConfig().getPermissionResolver();
+            this.source = context.source();
         }
         
-        if (!node.isLast()) {
-            final var children = node.getChildren();
-            final var arguments = context.arguments();
-            final var permissionResolver = context.imperatConfig().getPermissionResolver();
-            final var source = context.source();
+        //shift is how far the input of the node's children lies past their depth, see tabComplete$1
+        private void visit(ParameterNode<S, ?> node, int shift) {
+            if (node.isExecutable()) {
+                offer(node.getExecutableUsage());
+            }
             
-            for (var child : children) {
-                final String correspondingInput = arguments.getOr(child.getDepth(), null);
+            if (node.isLast()) {
+                return;
+            }
+            if (node instanceof FlagBagNode<?> bagNode) {
+                final int start = bagNode.getDepth() + shift;
+                final int end = bagNode.consume(arguments, start, new boolean[bagNode.getFlags().size()]);
+                shift += (end - start) - 1;
+            }
+            for (var child : node.getChildren()) {
+                final String correspondingInput = arguments.getOr(child.getDepth() + shift, null);
                 
                 if (correspondingInput == null) {
                     if (child.isRequired()) {
-                        addPermittedUsages(currentUsages, child, context, permissionResolver, source);
+                        for (var usage : automaton.usagesWithoutInput(child)) {
+                            offer(usage);
+                        }
                     }
                 } else if (child.matchesInput(correspondingInput)) {
-                    addPermittedUsages(currentUsages, child, context, permissionResolver, source);
+                    visit(child, shift);
                 }
             }
         }
         
-        return currentUsages;
-    }
-    
-    private void addPermittedUsages(
-            Set<CommandUsage<S>> currentUsages,
-            ParameterNode<S, ?> child,
-            Context<S> context,
-            PermissionResolver<S> permissionResolver,
-            S source
-    ) {
-        final var childUsages = getClosestUsagesRecursively(new LinkedHashSet<>(), child, context);
-        for (var usage : childUsages) {
-            if (hasUsagePermission(permissionResolver, source, usage)) {
-                currentUsages.add(usage);
+        private void offer(CommandUsage<S> usage) {
+            Boolean permitted = permissions.get(usage);
+            if (permitted == null) {
+                permitted = hasUsagePermission(permissionResolver, source, usage);
+                permissions.put(usage, permitted);
+                if (permitted) {
+                    closestUsages.add(usage);
+                }
             }
         }
     }
@@ -0,0 +1,469 @@
+package dev.velix.imperat.command.tree;
+
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.FlagData;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, flattened snapshot of a {@link CommandTree} that {@link CommandTree#contextMatch}
+ * runs against.
+ * <p>
+ * Every {@link ParameterNode} is assigned an index (breadth-first, the root being {@code 0}),
+ * and everything the matching algorithm needs from a node is precomputed into plain arrays:
+ * the children in their original order, a hash table from lower-cased name/alias to the literal
+ * (subcommand) children, the optional-skip edge, and the targets of the last-depth lookups.
+ * A {@link FlagBagNode} consumes as many of its flags as the input provides, in any order,
+ * before its children are matched.
+ * This makes a literal lookup O(1) regardless of how many siblings a node has, and keeps the
+ * hot loop free of {@link java.util.LinkedList} iteration and virtual calls on nodes.
+ * <p>
+ * The matching semantics are exactly those of the recursive walk over {@link ParameterNode}s,
+ * the children being tried in their original order, and a snapshot is invalidated whenever the tree changes and is rebuilt lazily.
+ *
+ * @param <S> the command source type
+ */
+@ApiStatus.Internal
+final class DispatchAutomaton<S extends Source> {
+
+    private static final int NONE = -1;
+    private static final int[] NO_NODES = new int[0];
+    @SuppressWarnings("rawtypes")
+    private static final CommandUsage[] NO_USAGES = new CommandUsage[0];
+
+    private static final byte COMMAND = 1;
+    private static final byte OPTIONAL = 1 << 1;
+    private static final byte REQUIRED = 1 << 2;
+    private static final byte GREEDY = 1 << 3;
+    private static final byte FLAG = 1 << 4;
+    private static final byte TRUE_FLAG = 1 << 5;
+    private static final byte FLAG_BAG = 1 << 6;
+
+    private final ParameterNode<S, ?>[] nodes;
+    private final CommandUsage<S>[] usages;
+    private final byte[] kinds;
+
+    // children of node i are children[childOffsets[i]] .. children[childOffsets[i + 1] - 1]
+    private final int[] childOffsets;
+    private final int[] children;
+
+    // the positions in children of the non-literal children only, laid out as above
+    private final int[] argumentOffsets;
+    private final int[] argumentSlots;
+
+    // lower-cased name/alias -> positions in children of the literal children, null for nodes without literal children
+    private final Map<String, int[]>[] literalSlots;
+
+    private final int[] skipEdges;
+    private final int[] requiredDescendants;
+    private final int[] optionalChildren;
+
+    // the index of each node, for the lookups made from the nodes themselves
+    private final Map<ParameterNode<S, ?>, Integer> indices;
+    // the usages completable from each node once the input is exhausted, see usagesWithoutInput
+    private final CommandUsage<S>[][] usagesWithoutInput;
+
+    @SuppressWarnings("unchecked")
+    private DispatchAutomaton(List<ParameterNode<S, ?>> order, Map<ParameterNode<S, ?>, Integer> indices) {
+        final int size = order.size();
+        this.nodes = order.toArray(new ParameterNode[0]);
+        this.usages = new CommandUsage[size];
+        this.kinds = new byte[size];
+        this.childOffsets = new int[size + 1];
+        this.argumentOffsets = new int[size + 1];
+        this.literalSlots = new Map[size];
+        this.skipEdges = new int[size];
+        this.requiredDescendants = new int[size];
+        this.optionalChildren = new int[size];
+        this.indices = indices;
+        this.usagesWithoutInput = new CommandUsage[size][];
+
+        int childCount = 0, argumentCount = 0;
+        for (var node : nodes) {
+            for (var child : node.getChildren()) {
+                childCount++;
+                if (!(child instanceof CommandNode<?>)) argumentCount++;
+            }
+        }
+        this.children = new int[childCount];
+        this.argumentSlots = new int[argumentCount];
+
+        int childCursor = 0, argumentCursor = 0;
+        for (int i = 0; i < size; i++) {
+            final var node = nodes[i];
+            usages[i] = node.getExecutableUsage();
+            kinds[i] = kindOf(node);
+            childOffsets[i] = childCursor;
+            argumentOffsets[i] = argumentCursor;
+            skipEdges[i] = NONE;
+            optionalChildren[i] = NONE;
+
+            Map<String, int[]> literals = null;
+            for (var child : node.getChildren()) {
+                final int childIndex = indices.get(child);
+                final int slot = childCursor++;
+                children[slot] = childIndex;
+
+                if (skipEdges[i] == NONE) {
+                    skipEdges[i] = childIndex;
+                }
+                if (optionalChildren[i] == NONE && child.isOptional()) {
+                    optionalChildren[i] = childIndex;
+                }
+
+                if (child instanceof CommandNode<?> commandChild) {
+                    if (literals == null) literals = new HashMap<>();
+                    putLiteral(literals, fold(commandChild.getData().name()), slot);
+                    for (String alias : commandChild.getData().aliases()) {
+                        putLiteral(literals, fold(alias), slot);
+                    }
+                } else {
+                    argumentSlots[argumentCursor++] = slot;
+                }
+            }
+            literalSlots[i] = literals;
+        }
+        childOffsets[size] = childCursor;
+        argumentOffsets[size] = argumentCursor;
+
+        // children always have a greater index than their parent (breadth-first),
+        // so walking backwards resolves every subtree before its root.
+        for (int i = size - 1; i >= 0; i--) {
+            int required = NONE;
+            for (int c = childOffsets[i]; c < childOffsets[i + 1] && required == NONE; c++) {
+                final int child = children[c];
+                required = is(child, REQUIRED) ? child : requiredDescendants[child];
+            }
+            requiredDescendants[i] = required;
+            usagesWithoutInput[i] = collectUsagesWithoutInput(i);
+        }
+    }
+
+    // the subtrees of the children are already resolved when this is called for a node
+    @SuppressWarnings("unchecked")
+    private CommandUsage<S>[] collectUsagesWithoutInput(int node) {
+        CommandUsage<S>[] single = usages[node] == null ? NO_USAGES : null;
+        Set<CommandUsage<S>> collected = null;
+        for (int c = childOffsets[node]; c < childOffsets[node + 1]; c++) {
+            final int child = children[c];
+            final var childUsages = usagesWithoutInput[child];
+            if (!is(child, REQUIRED) || childUsages.length == 0) {
+                continue;
+            }
+            if (single != null && single.length == 0) {
+                // shared with the child as long as it's the only one contributing
+                single = childUsages;
+                continue;
+            }
+            if (collected == null) {
+                collected = new LinkedHashSet<>();
+                if (usages[node] != null) collected.add(usages[node]);
+                if (single != null) collected.addAll(Arrays.asList(single));
+            }
+            collected.addAll(Arrays.asList(childUsages));
+        }
+        if (collected != null) {
+            return collected.toArray(new CommandUsage[0]);
+        }
+        return single != null ? single : new CommandUsage[]{usages[node]};
+    }
+
+    /**
+     * The usages a node leads to when there's no input left for it and its descendants,
+     * which are its own executable usage followed by those of its required children, recursively,
+     * in depth-first order and without duplicates.
+     *
+     * @param node the node
+     * @return the usages, empty if the node isn't part of the automaton
+     */
+    CommandUsage<S>[] usagesWithoutInput(ParameterNode<S, ?> node) {
+        final Integer index = indices.get(node);
+        return index == null ? NO_USAGES : usagesWithoutInput[index];
+    }
+
+    /**
+     * Flattens the tree rooted at {@code root} into a new automaton.
+     *
+     * @param root the root of the tree
+     * @param <S>  the command source type
+     * @return the compiled automaton
+     */
+    static <S extends Source> DispatchAutomaton<S> compile(@NotNull CommandNode<S> root) {
+        final List<ParameterNode<S, ?>> order = new ArrayList<>();
+        final Map<ParameterNode<S, ?>, Integer> indices = new IdentityHashMap<>();
+        order.add(root);
+        indices.put(root, 0);
+        for (int i = 0; i < order.size(); i++) {
+            for (var child : order.get(i).getChildren()) {
+                if (indices.putIfAbsent(child, order.size()) == null) {
+                    order.add(child);
+                }
+            }
+        }
+        return new DispatchAutomaton<>(order, indices);
+    }
+
+    private static void putLiteral(Map<String, int[]> literals, String key, int slot) {
+        final int[] existing = literals.get(key);
+        if (existing == null) {
+            literals.put(key, new int[]{slot});
+        } else if (existing[existing.length - 1] != slot) {
+            final int[] extended = Arrays.copyOf(existing, existing.length + 1);
+            extended[existing.length] = slot;
+            literals.put(key, extended);
+        }
+    }
+
+    private static byte kindOf(ParameterNode<?, ?> node) {
+        byte kind = 0;
+        if (node.isCommand()) kind |= COMMAND;
+        if (node.isOptional()) kind |= OPTIONAL;
+        if (node.isRequired()) kind |= REQUIRED;
+        if (node.isGreedyParam()) kind |= GREEDY;
+        if (node.isFlag()) kind |= FLAG;
+        if (node.isTrueFlag()) kind |= TRUE_FLAG;
+        if (node instanceof FlagBagNode<?>) kind |= FLAG_BAG;
+        return kind;
+    }
+
+    private boolean is(int node, byte kind) {
+        return (kinds[node] & kind) != 0;
+    }
+
+    private boolean isLast(int node) {
+        return childOffsets[node] == childOffsets[node + 1];
+    }
+
+    /**
+     * Matches non-empty input against the children of the root node.
+     *
+     * @param dispatch  the dispatch to fill, already containing the root node
+     * @param input     the (non-empty) input
+     * @param strict    whether argument nodes must match their input type
+     * @param flagCache free flags by alias
+     */
+    void match(
+            CommandDispatch<S> dispatch,
+            ArgumentQueue input,
+            boolean strict,
+            Map<String, FlagData<S>> flagCache
+    ) {
+        dispatchMatchingChildren(new Run<>(dispatch, input, strict, flagCache), 0, 0, true);
+    }
+
+    /**
+     * Dispatches the literal children of a node matching the input at the depth, along with its argument children,
+     * in the order of the children, until the dispatch completes, or has any result at all if {@code anyResult}.
+     * The literals are found through the hash table, both them and the arguments are laid out in ascending positions,
+     * so merging them keeps the order in which the recursive walk tried the children.
+     */
+    private void dispatchMatchingChildren(Run<S> run, int node, int depth, boolean anyResult) {
+        final var dispatch = run.dispatch;
+        final int[] literals = literalsOf(node, run.input.view(depth));
+        final int arguments = argumentOffsets[node + 1];
+        int l = 0, a = argumentOffsets[node];
+        while (l < literals.length || a < arguments) {
+            if (a == arguments || (l < literals.length && literals[l] < argumentSlots[a])) {
+                dispatchNode(run, children[literals[l++]], depth, true);
+            } else {
+                dispatchNode(run, children[argumentSlots[a++]], depth, false);
+            }
+            final var result = dispatch.getResult();
+            if (result == CommandDispatch.Result.COMPLETE || (anyResult && result != CommandDispatch.Result.UNKNOWN)) {
+                return;
+            }
+        }
+    }
+
+    private int[] literalsOf(int node, CharSequence raw) {
+        final var literals = literalSlots[node];
+        if (literals == null) return NO_NODES;
+        final int[] matched = literals.get(fold(raw));
+        return matched == null ? NO_NODES : matched;
+    }
+
+    // two strings fold alike exactly when they're equalsIgnoreCase, which the literals used to be matched with,
+    // whatever the default locale, e.g. a name lower-cased into "quıt" on a turkish server still matches "quit"
+    private static String fold(CharSequence value) {
+        final char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    private void dispatchNode(Run<S> run, int node, int depth, boolean literalMatched) {
+        final var dispatch = run.dispatch;
+        final int inputSize = run.input.size();
+        if (depth >= inputSize) {
+            if (usages[node] != null) {
+                dispatch.append(nodes[node]);
+                dispatch.setDirectUsage(usages[node]);
+                dispatch.setResult(CommandDispatch.Result.COMPLETE);
+            }
+            return;
+        }
+
+        // only turned into a string when an argument or a flag is read from it
+        final CharSequence raw = run.input.view(depth);
+
+        if (is(node, GREEDY)) {
+            dispatch.append(nodes[node]);
+            dispatch.setResult(CommandDispatch.Result.COMPLETE);
+            dispatch.setDirectUsage(usages[node]);
+            return;
+        }
+
+        int working = node;
+        boolean matched = literalMatched;
+        while (!matched && !matchesInput(working, run.input.get(depth), run.strict)) {
+            if (!is(working, OPTIONAL)) {
+                return;
+            }
+            dispatch.append(nodes[working]);
+
+            final int next = skipEdges[working];
+            if (next == NONE) {
+                if (usages[working] != null) {
+                    dispatch.setResult(CommandDispatch.Result.COMPLETE);
+                    dispatch.setDirectUsage(usages[working]);
+                }
+                return;
+            }
+            working = next;
+        }
+
+        if (is(working, FLAG_BAG)) {
+            dispatchFlagBag(run, working, depth);
+            return;
+        }
+
+        if (!is(working, FLAG) && isFlag(raw)) {
+            final var flagData = run.flagCache.get(run.input.get(depth).substring(1));
+            if (flagData == null) {
+                return;
+            }
+            dispatchNode(run, working, depth + (flagData.isSwitch() ? 1 : 2), false);
+            return;
+        }
+
+        dispatch.append(nodes[working]);
+
+        if (is(working, TRUE_FLAG)) {
+            depth++;
+        }
+
+        if (depth == inputSize - 1) {
+            handleLastDepth(dispatch, working);
+            return;
+        }
+
+        dispatchChildren(run, working, depth + 1);
+    }
+
+    private void dispatchFlagBag(Run<S> run, int node, int depth) {
+        final var dispatch = run.dispatch;
+        final var bag = (FlagBagNode<?>) nodes[node];
+        final boolean[] used = new boolean[bag.getFlags().size()];
+
+        dispatch.append(nodes[node]);
+        final int next = bag.consume(run.input, depth, used);
+        if (next == run.input.size()) {
+            handleLastDepth(dispatch, node);
+        } else if (next > run.input.size()) {
+            // the last flag is missing its value, as with a true flag outside a bag only executable children may complete,
+            // otherwise the result is left as it was
+            dispatchChildren(run, node, next);
+        } else if (!isLast(node)) {
+            dispatchChildren(run, node, next);
+        }
+        // otherwise input is left after the last node, the result is left as it was for the siblings to match
+    }
+
+    private void dispatchChildren(Run<S> run, int node, int depth) {
+        final var dispatch = run.dispatch;
+        if (depth >= run.input.size()) {
+            // the input ran out (a true flag missing its value), only executable children can complete
+            for (int c = childOffsets[node]; c < childOffsets[node + 1]; c++) {
+                dispatchNode(run, children[c], depth, false);
+                if (dispatch.getResult() == CommandDispatch.Result.COMPLETE) return;
+            }
+            return;
+        }
+        dispatchMatchingChildren(run, node, depth, false);
+    }
+
+    private void handleLastDepth(CommandDispatch<S> dispatch, int node) {
+        if (usages[node] != null) {
+            dispatch.setDirectUsage(usages[node]);
+            dispatch.setResult(CommandDispatch.Result.COMPLETE);
+            return;
+        }
+
+        if (is(node, COMMAND)) {
+            addOptionalChildren(dispatch, node);
+            dispatch.setResult(CommandDispatch.Result.COMPLETE);
+            return;
+        }
+
+        final int required = requiredDescendants[node];
+        if (required == NONE) {
+            dispatch.setResult(CommandDispatch.Result.COMPLETE);
+            addOptionalChildren(dispatch, node);
+        } else {
+            dispatch.setResult(is(required, COMMAND)
+                    ? CommandDispatch.Result.COMPLETE
+                    : CommandDispatch.Result.UNKNOWN);
+        }
+    }
+
+    private void addOptionalChildren(CommandDispatch<S> dispatch, int node) {
+        int current = node;
+        while (true) {
+            final int optional = optionalChildren[current];
+            if (optional == NONE) {
+                break;
+            }
+            dispatch.append(nodes[optional]);
+
+            if (isLast(optional)) {
+                dispatch.setDirectUsage(usages[optional]);
+                break;
+            }
+            current = optional;
+        }
+    }
+
+    private boolean matchesInput(int node, String input, boolean strict) {
+        if (is(node, COMMAND) || strict || is(node, FLAG)) {
+            return nodes[node].matchesInput(input);
+        }
+        return true;
+    }
+
+    private static boolean isFlag(CharSequence input) {
+        return input.length() > 1 && input.charAt(0) == '-';
+    }
+
+    /**
+     * The per-call state of a single {@link #match} invocation.
+     */
+    private record Run<S extends Source>(
+            CommandDispatch<S> dispatch,
+            ArgumentQueue input,
+            boolean strict,
+            Map<String, FlagData<S>> flagCache
+    ) {
+    }
+}
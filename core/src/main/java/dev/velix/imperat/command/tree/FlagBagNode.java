@@ -0,0 +1,148 @@
+package dev.velix.imperat.command.tree;
+
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A single node standing for a sequence of consecutive optional flags of a usage,
+ * which may be entered in any order, each at most once.
+ * <p>
+ * Representing such a sequence with one node instead of a node per permutation
+ * keeps the size of the tree linear in the number of flags.
+ * The children of a bag are the parameters following the flags in the usage.
+ */
+@ApiStatus.Internal
+public final class FlagBagNode<S extends Source> extends ParameterNode<S, CommandParameter<S>> {
+
+    private final List<CommandParameter<S>> flags;
+
+    FlagBagNode(@NotNull List<CommandParameter<S>> flags, int depth) {
+        super(flags.get(0), depth, null);
+        this.flags = List.copyOf(flags);
+    }
+
+    /**
+     * @return the flags of this bag, in the order they were declared in the usage
+     */
+    public @NotNull List<CommandParameter<S>> getFlags() {
+        return flags;
+    }
+
+    /**
+     * @param flags the flag parameters
+     * @return whether this bag holds exactly the given flags in the same order
+     */
+    boolean hasFlags(List<? extends CommandParameter<?>> flags) {
+        if (this.flags.size() != flags.size()) return false;
+        for (int i = 0; i < flags.size(); i++) {
+            if (!this.flags.get(i).name().equalsIgnoreCase(flags.get(i).name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first flag of this bag that accepts the raw input
+     * and has not been used yet.
+     *
+     * @param raw  the raw input
+     * @param used the flags already entered, indexed like {@link #getFlags()}
+     * @return the index of the flag, or -1 if none accepts the input
+     */
+    int matchFlag(String raw, boolean[] used) {
+        if (raw == null) return -1;
+        for (int i = 0; i < flags.size(); i++) {
+            if (used[i]) continue;
+            var flag = flags.get(i);
+            if (flag.type().matchesInput(raw, flag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param index the index of a flag of this bag
+     * @return how many raw arguments the flag takes, 1 for a switch and 2 for a true flag
+     */
+    int width(int index) {
+        return flags.get(index).asFlagParameter().isSwitch() ? 1 : 2;
+    }
+
+    /**
+     * Consumes as many raw arguments as possible, starting at {@code from},
+     * as flags of this bag.
+     *
+     * @param input the raw input
+     * @param from  the index of the first argument to consume
+     * @param used  receives the flags consumed, indexed like {@link #getFlags()}
+     * @return the index after the last consumed argument, which exceeds the input's size
+     * if the last consumed flag is missing its value
+     */
+    int consume(ArgumentQueue input, int from, boolean[] used) {
+        final int size = input.size();
+        int position = from;
+        while (position < size) {
+            int index = matchFlag(input.get(position), used);
+            if (index == -1) break;
+            used[index] = true;
+            position += width(index);
+        }
+        return position;
+    }
+
+    @Override
+    public boolean matchesInput(String input) {
+        return matchFlag(input, new boolean[flags.size()]) != -1;
+    }
+
+    @Override
+    public String format() {
+        return flags.stream()
+            .map(CommandParameter::format)
+            .collect(Collectors.joining(" ", "{", "}"));
+    }
+
+    @Override
+    public int priority() {
+        return 1;
+    }
+
+    @Override
+    public boolean isOptional() {
+        return true;
+    }
+
+    @Override
+    public boolean isRequired() {
+        return false;
+    }
+
+    @Override
+    public boolean isTrueFlag() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof FlagBagNode<?> that)) return false;
+        return super.equals(o) && Objects.equals(names(), that.names());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), names());
+    }
+
+    private List<String> names() {
+        return flags.stream().map(CommandParameter::name).toList();
+    }
+}
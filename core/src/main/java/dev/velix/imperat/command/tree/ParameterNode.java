@@ -112,6 +112,8 @@ public abstract class ParameterNode<S extends Source, T extends CommandParameter
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof ParameterNode<?, ?> that)) return false;
+        //kept symmetric with FlagBagNode#equals, a bag is never equal to its first flag alone
+        if ((this instanceof FlagBagNode<?>) != (that instanceof FlagBagNode<?>)) return false;
         return Objects.equals(data.name(), that.data.name()) && this.depth == that.depth && Objects.equals(nextNodes, that.nextNodes);
     }
 
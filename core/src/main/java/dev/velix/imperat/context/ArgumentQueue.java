@@ -2,6 +2,7 @@ package dev.velix.imperat.context;
 
 import dev.velix.imperat.annotations.ContextResolved;
 import dev.velix.imperat.util.StringUtils;
+import dev.velix.imperat.util.TokenizedInput;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -55,6 +56,16 @@ public interface ArgumentQueue extends Deque<String>, List<String>, Cloneable {
         return new ArgumentQueueImpl(originalLine);
     }
 
+    /**
+     * @param tokens     the tokenized line
+     * @param extraSpace whether to append an extra blank argument, as entered while auto-completing
+     * @return a new {@link ArgumentQueue} holding the arguments of the tokenized line
+     */
+    @ApiStatus.Internal
+    static ArgumentQueue of(TokenizedInput tokens, boolean extraSpace) {
+        return new ArgumentQueueImpl(tokens, extraSpace);
+    }
+
     /**
      * @return a new, empty {@link ArgumentQueue}.
      */
@@ -64,6 +75,29 @@ public interface ArgumentQueue extends Deque<String>, List<String>, Cloneable {
 
     String getOriginalRaw();
 
+    /**
+     * Fetches the position in the {@link #getOriginalRaw() original line}
+     * at which the argument at the specified index starts
+     *
+     * @param index the index
+     * @return the start position, or -1 if unknown
+     * (e.g. the argument was not read from the original line)
+     */
+    default int rawStartPosition(int index) {
+        return -1;
+    }
+
+    /**
+     * Fetches the element at the specified index without turning it into a string,
+     * for reads that don't need one, such as comparing it to literals
+     *
+     * @param index the index
+     * @return the element, as a view over the original line if it wasn't turned into a string yet
+     */
+    default @NotNull CharSequence view(int index) {
+        return get(index);
+    }
+
     /**
      * Fetches the element at the specified index
      *
@@ -1,39 +1,94 @@
 package dev.velix.imperat.context;
 
+import dev.velix.imperat.util.TokenizedInput;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.StringJoiner;
 
+/**
+ * Array-backed {@link ArgumentQueue}.
+ * <p>
+ * When created from a {@link TokenizedInput}, each argument is only turned into a string
+ * the first time it's accessed, and its position in the original line is kept
+ * for as long as it stays in the queue.
+ */
 @ApiStatus.Internal
-final class ArgumentQueueImpl extends LinkedList<String> implements ArgumentQueue {
+final class ArgumentQueueImpl extends AbstractList<String> implements ArgumentQueue, RandomAccess {
+
+    private static final int NO_TOKEN = -1;
 
     private final String originalRaw;
+    private final @Nullable TokenizedInput tokens;
     private final List<String> unmodifiableView;
 
+    // values[i] == null && tokenIndices[i] != NO_TOKEN means the argument is not materialized yet
+    private String[] values;
+    private int[] tokenIndices;
+    private int[] positions;
+    private int size;
+
     ArgumentQueueImpl(String originalRaw, @NotNull Collection<? extends String> input) {
-        super(input);
-        this.originalRaw = originalRaw;
-        this.unmodifiableView = Collections.unmodifiableList(this);
+        this(originalRaw, null, input.size());
+        for (String value : input) {
+            add(value);
+        }
     }
 
 
     ArgumentQueueImpl(String originalRaw, @NotNull String... rawArgs) {
+        this(originalRaw, null, rawArgs.length);
+        for (String value : rawArgs) {
+            add(value);
+        }
+    }
+
+    ArgumentQueueImpl() {
+        this("", null, 0);
+    }
+
+    ArgumentQueueImpl(@NotNull TokenizedInput tokens, boolean extraSpace) {
+        this(tokens.line(), tokens, tokens.size() + 1);
+        final int count = tokens.size();
+        for (int i = 0; i < count; i++) {
+            tokenIndices[i] = i;
+            positions[i] = tokens.start(i);
+        }
+        size = count;
+        if (extraSpace) {
+            insert(size, " ", NO_TOKEN, originalRaw.length());
+        }
+    }
+
+    private ArgumentQueueImpl(String originalRaw, @Nullable TokenizedInput tokens, int capacity) {
         this.originalRaw = originalRaw;
-        Collections.addAll(this, rawArgs);
+        this.tokens = tokens;
+        this.values = new String[Math.max(capacity, 4)];
+        this.tokenIndices = new int[values.length];
+        this.positions = new int[values.length];
         this.unmodifiableView = Collections.unmodifiableList(this);
     }
 
-    ArgumentQueueImpl() {
-        this.originalRaw = "";
-        this.unmodifiableView = new ArrayList<>();
+    private ArgumentQueueImpl(ArgumentQueueImpl other) {
+        this.originalRaw = other.originalRaw;
+        this.tokens = other.tokens;
+        this.values = Arrays.copyOf(other.values, Math.max(other.size, 4));
+        this.tokenIndices = Arrays.copyOf(other.tokenIndices, values.length);
+        this.positions = Arrays.copyOf(other.positions, values.length);
+        this.size = other.size;
+        this.unmodifiableView = Collections.unmodifiableList(this);
     }
 
     @Override
@@ -41,6 +96,247 @@ final class ArgumentQueueImpl extends LinkedList<String> implements ArgumentQueu
         return originalRaw;
     }
 
+    @Override
+    public int rawStartPosition(int index) {
+        checkIndex(index);
+        return positions[index];
+    }
+
+    //list operations
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        String value = values[index];
+        if (value == null && tokenIndices[index] != NO_TOKEN) {
+            assert tokens != null;
+            value = tokens.get(tokenIndices[index]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public @NotNull CharSequence view(int index) {
+        checkIndex(index);
+        String value = values[index];
+        if (value == null && tokenIndices[index] != NO_TOKEN) {
+            assert tokens != null;
+            return tokens.view(tokenIndices[index]);
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String set(int index, String element) {
+        String previous = get(index);
+        values[index] = element;
+        tokenIndices[index] = NO_TOKEN;
+        positions[index] = NO_TOKEN;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, String element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        insert(index, element, NO_TOKEN, NO_TOKEN);
+    }
+
+    private void insert(int index, String element, int tokenIndex, int position) {
+        modCount++;
+        if (size == values.length) {
+            final int capacity = values.length << 1;
+            values = Arrays.copyOf(values, capacity);
+            tokenIndices = Arrays.copyOf(tokenIndices, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        final int moved = size - index;
+        if (moved > 0) {
+            System.arraycopy(values, index, values, index + 1, moved);
+            System.arraycopy(tokenIndices, index, tokenIndices, index + 1, moved);
+            System.arraycopy(positions, index, positions, index + 1, moved);
+        }
+        values[index] = element;
+        tokenIndices[index] = tokenIndex;
+        positions[index] = position;
+        size++;
+    }
+
+    @Override
+    public String remove(int index) {
+        String removed = get(index);
+        modCount++;
+        final int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(values, index + 1, values, index, moved);
+            System.arraycopy(tokenIndices, index + 1, tokenIndices, index, moved);
+            System.arraycopy(positions, index + 1, positions, index, moved);
+        }
+        values[--size] = null;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    //deque operations
+
+    @Override
+    public void addFirst(String s) {
+        add(0, s);
+    }
+
+    @Override
+    public void addLast(String s) {
+        add(size, s);
+    }
+
+    @Override
+    public boolean offerFirst(String s) {
+        addFirst(s);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(String s) {
+        addLast(s);
+        return true;
+    }
+
+    @Override
+    public String removeFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(0);
+    }
+
+    @Override
+    public String removeLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return remove(size - 1);
+    }
+
+    @Override
+    public String pollFirst() {
+        return isEmpty() ? null : remove(0);
+    }
+
+    @Override
+    public String pollLast() {
+        return isEmpty() ? null : remove(size - 1);
+    }
+
+    @Override
+    public String getFirst() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(0);
+    }
+
+    @Override
+    public String getLast() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return get(size - 1);
+    }
+
+    @Override
+    public String peekFirst() {
+        return isEmpty() ? null : get(0);
+    }
+
+    @Override
+    public String peekLast() {
+        return isEmpty() ? null : get(size - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if (index == -1) return false;
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean offer(String s) {
+        return offerLast(s);
+    }
+
+    @Override
+    public String remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public String poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public String element() {
+        return getFirst();
+    }
+
+    @Override
+    public String peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(String s) {
+        addFirst(s);
+    }
+
+    @Override
+    public String pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public @NotNull Iterator<String> descendingIterator() {
+        final ListIterator<String> iterator = listIterator(size);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public String next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    //argument queue operations
 
     @Override
     public @NotNull String join(String delimiter) {
@@ -63,12 +359,12 @@ final class ArgumentQueueImpl extends LinkedList<String> implements ArgumentQueu
 
     @Override
     public @NotNull @Unmodifiable List<String> asImmutableCopy() {
-        return Collections.unmodifiableList(new LinkedList<>(this));
+        return List.copyOf(this);
     }
 
     @Override
     public @NotNull ArgumentQueue copy() {
-        return new ArgumentQueueImpl(originalRaw, this);
+        return new ArgumentQueueImpl(this);
     }
 
 }
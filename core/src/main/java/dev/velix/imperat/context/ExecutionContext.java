@@ -54,6 +54,19 @@ public interface ExecutionContext<S extends Source> extends Context<S> {
      */
     <T> @Nullable T getArgument(String name);
 
+    /**
+     * Fetches the value resolved for a parameter of the detected usage,
+     * without looking it up by name when the parameter belongs to the usage.
+     *
+     * @param parameter the parameter
+     * @param <T>       the valueType of this value
+     * @return the value of the resolved argument
+     * @see #getArgument(String)
+     */
+    default <T> @Nullable T getArgument(CommandParameter<S> parameter) {
+        return getArgument(parameter.name());
+    }
+
     default <T> @NotNull T getArgumentOr(String name, T value) {
         final T argValue = getArgument(name);
         if (argValue != null) return argValue;
@@ -2,10 +2,8 @@ package dev.velix.imperat.context;
 
 import dev.velix.imperat.command.parameters.type.ParameterArray;
 import dev.velix.imperat.command.parameters.type.ParameterCollection;
-import dev.velix.imperat.command.parameters.type.ParameterCompletableFuture;
 import dev.velix.imperat.command.parameters.type.ParameterMap;
 import dev.velix.imperat.command.parameters.type.ParameterEnum;
-import dev.velix.imperat.command.parameters.type.ParameterOptional;
 import dev.velix.imperat.command.parameters.type.ParameterType;
 import dev.velix.imperat.command.parameters.type.ParameterTypes;
 import dev.velix.imperat.util.Registry;
@@ -123,8 +121,16 @@ public final class ParamTypeRegistry<S extends Source> extends Registry<Type, Su
 
     }
 
+    /**
+     * Memoized factories behind {@link #getResolver(Type)}, including the types without a resolver.
+     * Cleared whenever a resolver or an initializer is registered.
+     */
+    private final Map<Type, Optional<Supplier<ParameterType>>> factoryCache = new ConcurrentHashMap<>();
+    private volatile int generation;
+
+    //concurrent, as resolvers are looked up from several threads while loading commands in parallel
     private ParamTypeRegistry() {
-        super();
+        super(ConcurrentHashMap::new);
         registerResolver(Boolean.class, ParameterTypes::bool);
         registerResolver(String.class, ParameterTypes::string);
         registerResolver(UUID.class, ParameterTypes::uuid);
@@ -138,6 +144,24 @@ public final class ParamTypeRegistry<S extends Source> extends Registry<Type, Su
         setData(type, resolver);
     }
 
+    @Override
+    public Registry<Type, Supplier<ParameterType>> setData(Type key, Supplier<ParameterType> value) {
+        super.setData(key, value);
+        invalidateCache();
+        return this;
+    }
+
+    @Override
+    public void removeData(Type key) {
+        super.removeData(key);
+        invalidateCache();
+    }
+
+    private void invalidateCache() {
+        generation++;
+        factoryCache.clear();
+    }
+
     <E, C extends Collection<E>> Supplier<C> initializeNewCollection(TypeWrap<?> fullType) {
         var collectionType = fullType.getRawType();
         var data = collectionInitializer.getData(collectionType);
@@ -175,26 +199,28 @@ public final class ParamTypeRegistry<S extends Source> extends Registry<Type, Su
                 .orElseThrow(() -> new IllegalArgumentException("Unknown map-type detected '" + mapRawType.getTypeName() + "'")));
     }
 
-    private <E, C extends Collection<E>> ParameterCollection<S, E, C> getCollectionResolver(TypeWrap<?> type) {
+    private <E, C extends Collection<E>> Supplier<ParameterType> getCollectionFactory(TypeWrap<?> type) {
         var parameterizedTypes = type.getParameterizedTypes();
         if(parameterizedTypes == null) {
             throw new IllegalArgumentException("NULL PARAMETERIZED TYPES");
         }
         TypeWrap<E> componentType = (TypeWrap<E>) TypeWrap.of(parameterizedTypes[0]);
-        ParameterType<S, E> componentResolver = (ParameterType<S, E>) getResolver(componentType.getType()).orElseThrow(()-> new IllegalArgumentException("Unknown component-type detected '" + componentType.getType().getTypeName() + "'"));
-        return new ParameterCollection<>((TypeWrap<C>) type, initializeNewCollection(type), componentResolver);
+        Supplier<ParameterType> componentFactory = getComponentFactory(componentType);
+        Supplier<C> initializer = initializeNewCollection(type);
+        return () -> new ParameterCollection<>((TypeWrap<C>) type, initializer, (ParameterType<S, E>) componentFactory.get());
     }
 
-    private <E> ParameterType<S, E[]> getArrayResolver(TypeWrap<?> type) {
+    private <E> Supplier<ParameterType> getArrayFactory(TypeWrap<?> type) {
         var componentType = type.getComponentType();
         if (componentType == null) {
             throw new IllegalArgumentException("NULL COMPONENT TYPE");
         }
-        ParameterType<S, E> componentResolver = (ParameterType<S, E>) getResolver(componentType.getType()).orElseThrow(()-> new IllegalArgumentException("Unknown component-type detected '" + componentType.getType().getTypeName() + "'"));
-        return new ParameterArray<>((TypeWrap<E[]>) type, initializeNewArray(componentType), componentResolver) {};
+        Supplier<ParameterType> componentFactory = getComponentFactory(componentType);
+        Function<Integer, Object[]> initializer = initializeNewArray(componentType);
+        return () -> new ParameterArray<>((TypeWrap<E[]>) type, initializer, (ParameterType<S, E>) componentFactory.get()) {};
     }
 
-    private <K, V, M extends Map<K, V>> ParameterMap<S, K, V, M> getMapResolver(TypeWrap<?> type) {
+    private <K, V, M extends Map<K, V>> Supplier<ParameterType> getMapFactory(TypeWrap<?> type) {
         var parameterizedTypes = type.getParameterizedTypes();
         if(parameterizedTypes == null || parameterizedTypes.length == 0) {
             throw new IllegalArgumentException("Raw types are not allowed as parameters !");
@@ -202,39 +228,42 @@ public final class ParamTypeRegistry<S extends Source> extends Registry<Type, Su
         TypeWrap<K> keyType = (TypeWrap<K>) TypeWrap.of(parameterizedTypes[0]);
         TypeWrap<V> valueType = (TypeWrap<V>) TypeWrap.of(parameterizedTypes[0]);
 
-        ParameterType<S, K> keyResolver = (ParameterType<S, K>) getResolver(keyType.getType()).orElseThrow(()-> new IllegalArgumentException("Unknown component-type detected '" + keyType.getType().getTypeName() + "'"));
-        ParameterType<S, V> valueResolver = (ParameterType<S, V>) getResolver(valueType.getType()).orElseThrow(()-> new IllegalArgumentException("Unknown component-type detected '" + valueType.getType().getTypeName() + "'"));
-
-        return new ParameterMap<>((TypeWrap<M>) type, initializeNewMap(type), keyResolver, valueResolver);
+        Supplier<ParameterType> keyFactory = getComponentFactory(keyType);
+        Supplier<ParameterType> valueFactory = getComponentFactory(valueType);
+        Supplier<M> initializer = initializeNewMap(type);
+        return () -> new ParameterMap<>((TypeWrap<M>) type, initializer,
+                (ParameterType<S, K>) keyFactory.get(), (ParameterType<S, V>) valueFactory.get());
     }
 
-    private <T> ParameterCompletableFuture<S, T> getFutureResolver(TypeWrap<?> type) {
+    private <T> Supplier<ParameterType> getFutureFactory(TypeWrap<?> type) {
         var parameterizedTypes = type.getParameterizedTypes();
         if(parameterizedTypes == null || parameterizedTypes.length == 0) {
             throw new IllegalArgumentException("Raw types are not allowed as parameters !");
         }
         TypeWrap<T> futureTypeInput = (TypeWrap<T>) TypeWrap.of(parameterizedTypes[0]);
-        ParameterType<S, T> futureTypeResolver = (ParameterType<S, T>) getResolver(futureTypeInput.getType()).orElseThrow(()-> new IllegalArgumentException("Unknown "
-                + "component-type detected '" + futureTypeInput.getType().getTypeName() + "'"));
-
-        return ParameterTypes.future((TypeWrap<CompletableFuture<T>>) type, futureTypeResolver);
+        Supplier<ParameterType> futureTypeFactory = getComponentFactory(futureTypeInput);
+        return () -> ParameterTypes.future((TypeWrap<CompletableFuture<T>>) type, (ParameterType<S, T>) futureTypeFactory.get());
     }
 
-    private <T> ParameterOptional<S, T> getOptionalResolver(TypeWrap<?> type) {
+    private <T> Supplier<ParameterType> getOptionalFactory(TypeWrap<?> type) {
         var parameterizedTypes = type.getParameterizedTypes();
         if(parameterizedTypes == null || parameterizedTypes.length == 0) {
             throw new IllegalArgumentException("Raw types are not allowed as parameters !");
         }
         TypeWrap<T> optionalType = (TypeWrap<T>) TypeWrap.of(parameterizedTypes[0]);
-        ParameterType<S, T> optionalTypeResolver =
-                (ParameterType<S, T>) getResolver(optionalType.getType()).orElseThrow(()-> new IllegalArgumentException("Unknown "
-                + "component-type detected '" + optionalType.getType().getTypeName() + "'"));
+        Supplier<ParameterType> optionalTypeFactory = getComponentFactory(optionalType);
+        return () -> ParameterTypes.optional((TypeWrap<Optional<T>>) type, (ParameterType<S, T>) optionalTypeFactory.get());
+    }
 
-        return ParameterTypes.optional((TypeWrap<Optional<T>>) type, optionalTypeResolver);
+    //resolved eagerly, so that an unknown component type fails the lookup itself, as it always did
+    private Supplier<ParameterType> getComponentFactory(TypeWrap<?> componentType) {
+        return getFactory(componentType.getType()).orElseThrow(() -> new IllegalArgumentException("Unknown "
+                + "component-type detected '" + componentType.getType().getTypeName() + "'"));
     }
 
     public <C extends Collection<?>> void registerCollectionInitializer(Class<C> type, Supplier<C> initializerFunction) {
         collectionInitializer.setData(type, (Supplier<Collection<?>>) initializerFunction);
+        invalidateCache();
     }
 
     public <ArrayComponent> void registerArrayInitializer(Class<ArrayComponent> type, Function<Integer, Object[]> initializerFunction) {
@@ -243,50 +272,73 @@ public final class ParamTypeRegistry<S extends Source> extends Registry<Type, Su
             throw new IllegalArgumentException("Array initializer type '%s' does not match '%s'".formatted(type.getName(), sample.getClass().getComponentType()));
         }
         arrayInitializer.setData(type, initializerFunction);
+        invalidateCache();
     }
 
     public <M extends Map<?, ?>>  void registerMapInitializer(Class<M> type, Supplier<M> initializerFunction) {
         mapInitializer.setData(type, (Supplier<Map<?, ?>>) initializerFunction);
+        invalidateCache();
     }
 
     public <T> Optional<ParameterType<S, T>> getResolver(Type type) {
+        // a new instance per lookup, as parameter types hold state, e.g. their suggestions
+        return getFactory(type).map((factory) -> (ParameterType<S, T>) factory.get());
+    }
+
+    private Optional<Supplier<ParameterType>> getFactory(Type type) {
+        var cached = factoryCache.get(type);
+        if (cached != null) {
+            return cached;
+        }
+
+        // not computeIfAbsent, looking a type up looks its component types up recursively
+        final int expectedGeneration = generation;
+        Optional<Supplier<ParameterType>> factory = lookupFactory(type);
+        factoryCache.putIfAbsent(type, factory);
+        if (expectedGeneration != generation) {
+            // a registration happened meanwhile, the result may be stale
+            factoryCache.remove(type);
+        }
+        return factory;
+    }
+
+    private Optional<Supplier<ParameterType>> lookupFactory(Type type) {
         return
                 Optional.ofNullable(getData(TypeUtility.primitiveToBoxed(type))
-                .map(Supplier::get)
         .orElseGet(() -> {
 
             var wrap = TypeWrap.of(type);
             if(wrap.isArray()) {
                 //array type
-                return getArrayResolver(wrap);
+                return getArrayFactory(wrap);
 
             }else if(wrap.isSubtypeOf(Collection.class)) {
                 //collection type
-                return this.getCollectionResolver(wrap);
+                return this.getCollectionFactory(wrap);
             }
             else if(wrap.isSubtypeOf(Map.class)) {
                 //map type
-                return this.getMapResolver(wrap);
+                return this.getMapFactory(wrap);
             }
 
             else if(wrap.getRawType().equals(CompletableFuture.class)) {
-                return this.getFutureResolver(wrap);
+                return this.getFutureFactory(wrap);
             }
 
             else if(wrap.getRawType().equals(Optional.class)) {
-                return this.getOptionalResolver(wrap);
+                return this.getOptionalFactory(wrap);
             }
 
             else if (TypeUtility.isNumericType(wrap))
-                return ParameterTypes.numeric((Class<? extends Number>) type);
+                return () -> ParameterTypes.numeric((Class<? extends Number>) type);
 
             else if (TypeUtility.areRelatedTypes(type, Enum.class)) {
-                return new ParameterEnum<>((TypeWrap<Enum<?>>) TypeWrap.of(type));
+                return () -> new ParameterEnum<>((TypeWrap<Enum<?>>) TypeWrap.of(type));
             }
 
             for (var registeredType : getKeys()) {
                 if (TypeUtility.areRelatedTypes(type, registeredType)) {
-                    return getData(registeredType).map((s)-> ((ParameterType<S, T>)s.get()) ).orElse(null);
+                    return getData(registeredType).orElse(null);
                 }
             }
             return null;
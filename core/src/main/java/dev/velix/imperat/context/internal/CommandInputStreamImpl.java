@@ -47,6 +47,17 @@ final class CommandInputStreamImpl<S extends Source> implements CommandInputStre
      */
     private static int[] calculateRawStartPositions(ArgumentQueue queue, String inputLine) {
         int[] positions = new int[queue.size()];
+        
+        // Use the positions recorded while tokenizing, if all of them are known
+        boolean known = true;
+        for (int i = 0; i < positions.length && known; i++) {
+            positions[i] = queue.rawStartPosition(i);
+            known = positions[i] != -1;
+        }
+        if (known) {
+            return positions;
+        }
+        
         int currentPos = 0;
         
         for (int i = 0; i < queue.size(); i++) {
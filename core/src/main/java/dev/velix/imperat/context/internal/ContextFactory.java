@@ -26,7 +26,23 @@ public abstract class ContextFactory<S extends Source> {
 
 
     public static <S extends Source> ContextFactory<S> defaultFactory() {
-        return new DefaultContextFactory<>();
+        return new DefaultContextFactory<>(false);
+    }
+
+    /**
+     * Creates a factory reusing the contexts of executions once they're {@link #release(Context) released},
+     * from a small pool per thread, to avoid allocating new ones for every command dispatched.
+     * <p>
+     * A context created by this factory must not be used once released by its creator,
+     * executions that keep using their context after the dispatch returns
+     * (e.g. asynchronous ones) must {@link #retain(Context) retain} it and release it once done.
+     *
+     * @param <S> the source type
+     * @return a factory pooling its contexts
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    public static <S extends Source> ContextFactory<S> pooledFactory() {
+        return new DefaultContextFactory<>(true);
     }
 
 
@@ -72,4 +88,27 @@ public abstract class ContextFactory<S extends Source> {
         @NotNull CommandUsage<S> usage
     );
 
+    /**
+     * Keeps a context created by this factory from being reused after its creator releases it,
+     * until it's released once more, by whatever keeps using it past the dispatch (e.g. an asynchronous execution).
+     * Does nothing unless this factory pools its contexts.
+     *
+     * @param context the context to retain
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    public void retain(@NotNull Context<S> context) {
+    }
+
+    /**
+     * Releases a context created by this factory, called once by its creator after the dispatch,
+     * and once for every call to {@link #retain(Context)}.
+     * Does nothing unless this factory pools its contexts, in which case the context
+     * may be reused for another dispatch once released by everything that held it.
+     *
+     * @param context the context to release
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    public void release(@NotNull Context<S> context) {
+    }
+
 }
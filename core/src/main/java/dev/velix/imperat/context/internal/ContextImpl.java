@@ -7,18 +7,34 @@ import dev.velix.imperat.context.ArgumentQueue;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 class ContextImpl<S extends Source> implements Context<S> {
 
-    protected final Imperat<S> imperat;
-    protected final ImperatConfig<S> imperatConfig;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ContextImpl> REFERENCES =
+        AtomicIntegerFieldUpdater.newUpdater(ContextImpl.class, "references");
+
+    //fields aren't final, as a pooled context is reset for each use
+    protected Imperat<S> imperat;
+    protected ImperatConfig<S> imperatConfig;
+
+    private Command<S> commandUsed;
+    private S source;
+    private String label;
+    private ArgumentQueue raw;
 
-    private final Command<S> commandUsed;
-    private final S source;
-    private final String label;
-    private final ArgumentQueue raw;
+    //the factory pooling this context, null if it's not pooled
+    private @Nullable ContextFactory<S> pool;
+    private volatile int references;
 
     public ContextImpl(Imperat<S> imperat, Command<S> commandUsed, S source, String label, ArgumentQueue raw) {
+        reset(imperat, commandUsed, source, label, raw);
+    }
+
+    final void reset(Imperat<S> imperat, Command<S> commandUsed, S source, String label, ArgumentQueue raw) {
         this.imperat = imperat;
         this.imperatConfig = imperat.config();
         this.commandUsed = commandUsed;
@@ -27,6 +43,49 @@ class ContextImpl<S extends Source> implements Context<S> {
         this.raw = raw;
     }
 
+    /**
+     * Drops the references held by this context, before it's pooled for reuse.
+     */
+    void clear() {
+        this.commandUsed = null;
+        this.source = null;
+        this.label = null;
+        this.raw = null;
+    }
+
+    /**
+     * Marks this context as being in use by its creator, once it's taken out of the pool of a factory.
+     *
+     * @param pool the factory pooling this context
+     */
+    final void acquire(ContextFactory<S> pool) {
+        this.pool = pool;
+        REFERENCES.set(this, 1);
+    }
+
+    final boolean isPooledBy(ContextFactory<S> factory) {
+        return pool == factory;
+    }
+
+    final void retain() {
+        if (REFERENCES.getAndIncrement(this) <= 0) {
+            REFERENCES.getAndDecrement(this);
+            throw new IllegalStateException("Cannot retain a context that was already released");
+        }
+    }
+
+    /**
+     * @return whether this was the last reference to this context, so that it may be reused
+     */
+    final boolean release() {
+        int remaining = REFERENCES.decrementAndGet(this);
+        if (remaining < 0) {
+            REFERENCES.incrementAndGet(this);
+            throw new IllegalStateException("Context released more times than it was retained");
+        }
+        return remaining == 0;
+    }
+
     @Override
     public Imperat<S> imperat() {
         return imperat;
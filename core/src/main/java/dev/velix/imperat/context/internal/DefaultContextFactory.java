@@ -12,12 +12,23 @@ import dev.velix.imperat.context.SuggestionContext;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayDeque;
+
 @ApiStatus.Internal
 final class DefaultContextFactory<S extends Source> extends ContextFactory<S> {
 
+    //a dispatch holds a plain and a resolved context at a time, a few more cover nested dispatches
+    private static final int MAX_POOLED_PER_THREAD = 4;
+
+    private final boolean pooled;
+    private final ThreadLocal<ArrayDeque<ContextImpl<S>>> plainContexts;
+    private final ThreadLocal<ArrayDeque<ResolvedContextImpl<S>>> resolvedContexts;
 
-    DefaultContextFactory() {
+    DefaultContextFactory(boolean pooled) {
         super();
+        this.pooled = pooled;
+        this.plainContexts = pooled ? ThreadLocal.withInitial(ArrayDeque::new) : null;
+        this.resolvedContexts = pooled ? ThreadLocal.withInitial(ArrayDeque::new) : null;
     }
 
     /**
@@ -34,7 +45,17 @@ final class DefaultContextFactory<S extends Source> extends ContextFactory<S> {
         @NotNull String label,
         @NotNull ArgumentQueue queue
     ) {
-        return new ContextImpl<>(imperat, command, source, label, queue);
+        if (!pooled) {
+            return new ContextImpl<>(imperat, command, source, label, queue);
+        }
+        ContextImpl<S> context = plainContexts.get().pollFirst();
+        if (context == null) {
+            context = new ContextImpl<>(imperat, command, source, label, queue);
+        } else {
+            context.reset(imperat, command, source, label, queue);
+        }
+        context.acquire(this);
+        return context;
     }
 
     @Override
@@ -59,9 +80,46 @@ final class DefaultContextFactory<S extends Source> extends ContextFactory<S> {
         @NotNull Context<S> plainContext,
         @NotNull CommandUsage<S> usage
     ) {
-        return new ResolvedContextImpl<>(
-            plainContext,
-            usage
-        );
+        if (!pooled) {
+            return new ResolvedContextImpl<>(
+                plainContext,
+                usage
+            );
+        }
+        ResolvedContextImpl<S> context = resolvedContexts.get().pollFirst();
+        if (context == null) {
+            context = new ResolvedContextImpl<>(plainContext, usage);
+        } else {
+            context.reset(plainContext, usage);
+        }
+        context.acquire(this);
+        return context;
+    }
+
+    @Override
+    public void retain(@NotNull Context<S> context) {
+        if (context instanceof ContextImpl<S> impl && impl.isPooledBy(this)) {
+            impl.retain();
+        }
+    }
+
+    @Override
+    public void release(@NotNull Context<S> context) {
+        if (!(context instanceof ContextImpl<S> impl) || !impl.isPooledBy(this) || !impl.release()) {
+            return;
+        }
+        impl.clear();
+        // pooled by the releasing thread, which for asynchronous executions isn't the creating one
+        if (impl instanceof ResolvedContextImpl<S> resolved) {
+            offer(resolvedContexts.get(), resolved);
+        } else {
+            offer(plainContexts.get(), impl);
+        }
+    }
+
+    private static <C> void offer(ArrayDeque<C> pool, C context) {
+        if (pool.size() < MAX_POOLED_PER_THREAD) {
+            pool.addFirst(context);
+        }
     }
 }
@@ -2,6 +2,7 @@ package dev.velix.imperat.context.internal;
 
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.ParameterSlots;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.NumericParameter;
 import dev.velix.imperat.command.parameters.NumericRange;
@@ -22,9 +23,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,12 +41,20 @@ import java.util.Optional;
 @ApiStatus.Internal
 final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> implements ResolvedContext<S> {
 
-    private final CommandUsage<S> usage;
+    private CommandUsage<S> usage;
     private final Registry<String, ExtractedInputFlag> flagRegistry = new Registry<>();
-    //per command/subcommand because the class 'CommandProcessingChain' can be also treated as a sub command
-    private final Registry<Command<S>, Registry<String, Argument<S>>> resolvedArgumentsPerCommand = new Registry<>(LinkedHashMap::new);
-    //all resolved arguments EXCEPT for subcommands and flags.
-    private final Registry<String, Argument<S>> allResolvedArgs = new Registry<>(LinkedHashMap::new);
+
+    //all resolved arguments EXCEPT for subcommands and flags, indexed by the slots of the usage's parameters,
+    //the arrays are allocated with the first argument resolved, and kept when the context is pooled.
+    private ParameterSlots<S> slots;
+    private int slotCount;
+    //the parameters of slots past the usage's own ones, if any argument of a foreign parameter got resolved
+    private CommandParameter<S>[] extraParameters;
+    //per slot, the command/subcommand owning the argument, null if the slot has no argument resolved.
+    private Command<S>[] owners;
+    private String[] raws;
+    private int[] indices;
+    private Object[] values;
 
     //last command used
     private Command<S> lastCommand;
@@ -58,6 +66,55 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
         super(context.imperat(), context.command(), context.source(), context.label(), context.arguments());
         this.lastCommand = context.command();
         this.usage = usage;
+        this.slots = usage.getParameterSlots();
+    }
+
+    void reset(Context<S> context, CommandUsage<S> usage) {
+        reset(context.imperat(), context.command(), context.source(), context.label(), context.arguments());
+        this.lastCommand = context.command();
+        this.usage = usage;
+        this.slots = usage.getParameterSlots();
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        if (owners != null) {
+            Arrays.fill(owners, 0, slotCount, null);
+            Arrays.fill(raws, 0, slotCount, null);
+            Arrays.fill(values, 0, slotCount, null);
+        }
+        slotCount = 0;
+        extraParameters = null;
+        flagRegistry.getMap().clear();
+        lastCommand = null;
+        usage = null;
+        slots = null;
+    }
+
+    private CommandParameter<S> parameterAt(int slot) {
+        return slot < slots.size() ? slots.parameterAt(slot) : extraParameters[slot - slots.size()];
+    }
+
+    private Argument<S> argumentAt(int slot) {
+        return new Argument<>(raws[slot], parameterAt(slot), indices[slot], values[slot]);
+    }
+
+    /**
+     * @param name the name of the argument
+     * @return the slot of the last resolved argument with that name, or -1 if there's none
+     */
+    private int resolvedSlotOf(String name) {
+        int slot = slots.slotOf(name);
+        if (slot != -1 && slot < slotCount && owners[slot] != null) {
+            return slot;
+        }
+        for (int i = slotCount - 1; i >= 0; i--) {
+            if (owners[i] != null && parameterAt(i).name().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -70,9 +127,12 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
      */
     @Override
     public @Nullable Argument<S> getResolvedArgument(Command<S> command, String name) {
-        return resolvedArgumentsPerCommand.getData(command)
-            .flatMap((resolvedArgs) -> resolvedArgs.getData(name))
-            .orElse(null);
+        for (int i = slotCount - 1; i >= 0; i--) {
+            if (owners[i] == command && parameterAt(i).name().equals(name)) {
+                return argumentAt(i);
+            }
+        }
+        return null;
     }
 
     /**
@@ -81,9 +141,13 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
      */
     @Override
     public List<Argument<S>> getResolvedArguments(Command<S> command) {
-        return resolvedArgumentsPerCommand.getData(command)
-            .map((argMap) -> (List<Argument<S>>) new ArrayList<Argument<S>>(argMap.getAll()))
-            .orElse(Collections.emptyList());
+        List<Argument<S>> arguments = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            if (owners[i] == command) {
+                arguments.add(argumentAt(i));
+            }
+        }
+        return arguments;
     }
 
     /**
@@ -91,7 +155,13 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
      */
     @Override
     public @NotNull Iterable<? extends Command<S>> getCommandsUsed() {
-        return resolvedArgumentsPerCommand.getKeys();
+        List<Command<S>> commands = new ArrayList<>(2);
+        for (int i = 0; i < slotCount; i++) {
+            if (owners[i] != null && !commands.contains(owners[i])) {
+                commands.add(owners[i]);
+            }
+        }
+        return commands;
     }
 
     /**
@@ -100,7 +170,13 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
      */
     @Override
     public Collection<? extends Argument<S>> getResolvedArguments() {
-        return allResolvedArgs.getAll();
+        List<Argument<S>> arguments = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            if (owners[i] != null) {
+                arguments.add(argumentAt(i));
+            }
+        }
+        return arguments;
     }
 
     /**
@@ -113,8 +189,18 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
     @Override
     @SuppressWarnings("unchecked")
     public <T> @Nullable T getArgument(String name) {
-        return (T) allResolvedArgs.getData(name).map(Argument::value)
-            .orElse(null);
+        int slot = resolvedSlotOf(name);
+        return slot == -1 ? null : (T) values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T getArgument(CommandParameter<S> parameter) {
+        int slot = slots.slotOf(parameter, parameter.position());
+        if (slot != -1 && slot < slotCount && owners[slot] != null) {
+            return (T) values[slot];
+        }
+        return getArgument(parameter.name());
     }
 
     @Override
@@ -199,14 +285,44 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
             NumericRange range = numericParameter.getRange();
             throw new NumberOutOfRangeException(raw, numericParameter, (Number) value, range);
         }
-        final Argument<S> argument = new Argument<>(raw, parameter, index, value);
-        resolvedArgumentsPerCommand.update(command, (existingResolvedArgs) -> {
-            if (existingResolvedArgs != null) {
-                return existingResolvedArgs.setData(parameter.name(), argument);
-            }
-            return new Registry<>(parameter.name(), argument, LinkedHashMap::new);
-        });
-        allResolvedArgs.setData(parameter.name(), argument);
+
+        int slot = slots.slotOf(parameter, index);
+        if (slot == -1) {
+            slot = addExtraSlot(parameter);
+        } else if (slotCount < slots.size()) {
+            ensureSlots(slots.size());
+        }
+        owners[slot] = command;
+        raws[slot] = raw;
+        indices[slot] = index;
+        values[slot] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void ensureSlots(int count) {
+        if (owners == null) {
+            owners = new Command[count];
+            raws = new String[count];
+            indices = new int[count];
+            values = new Object[count];
+        } else if (owners.length < count) {
+            owners = Arrays.copyOf(owners, count);
+            raws = Arrays.copyOf(raws, count);
+            indices = Arrays.copyOf(indices, count);
+            values = Arrays.copyOf(values, count);
+        }
+        slotCount = count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int addExtraSlot(CommandParameter<S> parameter) {
+        int slot = Math.max(slotCount, slots.size());
+        ensureSlots(slot + 1);
+        extraParameters = extraParameters == null
+            ? new CommandParameter[]{parameter}
+            : Arrays.copyOf(extraParameters, extraParameters.length + 1);
+        extraParameters[extraParameters.length - 1] = parameter;
+        return slot;
     }
 
     @Override
@@ -245,12 +361,13 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
 
     @Override
     public void debug() {
-        if(allResolvedArgs.size() == 0) {
+        var resolvedArgs = getResolvedArguments();
+        if(resolvedArgs.isEmpty()) {
             ImperatDebugger.debug("No arguments were resolved!");
             return;
         }
 
-        for (var arg : allResolvedArgs.getAll()) {
+        for (var arg : resolvedArgs) {
             ImperatDebugger.debug("Argument '%s' at index #%s with input='%s' with value='%s'",
                 arg.parameter().format(), arg.index(), arg.raw(), arg.value());
         }
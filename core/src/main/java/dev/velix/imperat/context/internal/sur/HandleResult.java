@@ -1,11 +1,12 @@
 package dev.velix.imperat.context.internal.sur;
 
-import dev.velix.imperat.exception.ImperatException;
-import org.jetbrains.annotations.Nullable;
-
 /**
  * Represents the result of a parameter handler execution,
  * controlling chain flow with results per handler per iteration.
+ * <p>
+ * Failures are not a result, a handler signals them by throwing
+ * the {@link dev.velix.imperat.exception.ImperatException} itself,
+ * so that the results hold no state and can be shared across threads.
  */
 public enum HandleResult {
     /** Terminates the handler chain execution */
@@ -15,32 +16,5 @@ public enum HandleResult {
     NEXT_ITERATION,
     
     /** Proceeds to the next handler in the chain */
-    NEXT_HANDLER,
-    
-    /** Indicates an error occurred during handling */
-    FAILURE;
-    
-    private ImperatException exception;
-    
-    /**
-     * Creates a failure result with the specified exception.
-     *
-     * @param exception the exception that caused the failure
-     * @return a FAILURE result containing the exception
-     */
-    public static HandleResult failure(ImperatException exception) {
-        HandleResult result = FAILURE;
-        result.exception = exception;
-        return result;
-    }
-    
-    /**
-     * Gets the exception associated with this result.
-     *
-     * @return the exception if this is a FAILURE result, null otherwise
-     */
-    @Nullable
-    public ImperatException getException() {
-        return exception;
-    }
-}
\ No newline at end of file
+    NEXT_HANDLER
+}
@@ -8,6 +8,12 @@ import dev.velix.imperat.exception.ImperatException;
 
 import java.util.List;
 
+/**
+ * Runs the handlers over the parameters of a usage and their input.
+ * <p>
+ * A chain holds no per-execution state, the state lives in the context and the stream,
+ * hence a single chain may execute concurrently for different contexts.
+ */
 public class ParameterChain<S extends Source> {
     private final List<ParameterHandler<S>> handlers;
     
@@ -29,9 +35,6 @@ public class ParameterChain<S extends Source> {
                         break pipeLine;
                     case NEXT_ITERATION:
                         continue pipeLine;
-                    case FAILURE:
-                        assert result.getException() != null;
-                        throw result.getException();
                 }
             }
         }
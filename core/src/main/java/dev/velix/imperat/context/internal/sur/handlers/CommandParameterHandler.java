@@ -13,7 +13,7 @@ import org.jetbrains.annotations.NotNull;
 public final class CommandParameterHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         CommandParameter<S> currentParameter = stream.currentParameterFast();
         String currentRaw = stream.currentRawFast();
         
@@ -21,17 +21,17 @@ public final class CommandParameterHandler<S extends Source> implements Paramete
             return HandleResult.NEXT_HANDLER;
         }
         
+        Command<S> parameterSubCmd = (Command<S>) currentParameter;
+        if (!parameterSubCmd.hasName(currentRaw)) {
+            throw new UnknownSubCommandException(currentRaw);
+        }
+        
         try {
-            Command<S> parameterSubCmd = (Command<S>) currentParameter;
-            if (parameterSubCmd.hasName(currentRaw)) {
-                context.setLastCommand(parameterSubCmd);
-                stream.skip();
-                return HandleResult.NEXT_ITERATION;
-            } else {
-                return HandleResult.failure(new UnknownSubCommandException(currentRaw));
-            }
+            context.setLastCommand(parameterSubCmd);
+            stream.skip();
+            return HandleResult.NEXT_ITERATION;
         } catch (Exception e) {
-            return HandleResult.failure(new ImperatException("Error processing command parameter", e));
+            throw new ImperatException("Error processing command parameter", e);
         }
     }
 }
\ No newline at end of file
@@ -16,7 +16,7 @@ import org.jetbrains.annotations.NotNull;
 public final class EmptyInputHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         CommandParameter<S> currentParameter = stream.currentParameterFast();
         if (currentParameter == null) {
             return HandleResult.TERMINATE;
@@ -27,20 +27,16 @@ public final class EmptyInputHandler<S extends Source> implements ParameterHandl
             return HandleResult.NEXT_HANDLER; // Not empty input, let other handlers process
         }
         
-        try {
-            if (currentParameter.isOptional()) {
-                handleEmptyOptional(currentParameter, stream, context);
-                stream.skipParameter();
-            }
-            else {
-                //required
-                throw new InvalidSyntaxException();
-            }
-            // Handle remaining optional parameters
-            return HandleResult.NEXT_ITERATION;
-        } catch (ImperatException e) {
-            return HandleResult.failure(e);
+        if (currentParameter.isOptional()) {
+            handleEmptyOptional(currentParameter, stream, context);
+            stream.skipParameter();
+        }
+        else {
+            //required
+            throw new InvalidSyntaxException();
         }
+        // Handle remaining optional parameters
+        return HandleResult.NEXT_ITERATION;
     }
     
     private void handleEmptyOptional(CommandParameter<S> optionalEmptyParameter, CommandInputStream<S> stream, 
@@ -21,7 +21,7 @@ import java.util.Set;
 public final class FlagInputHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         CommandParameter<S> currentParameter = stream.currentParameterFast();
         String currentRaw = stream.currentRawFast();
         
@@ -29,43 +29,39 @@ public final class FlagInputHandler<S extends Source> implements ParameterHandle
             return HandleResult.NEXT_HANDLER;
         }
         
-        try {
-            if (context.hasResolvedFlag(currentParameter)) {
-                currentParameter = stream.popParameter().orElse(null);
-                if (currentParameter == null) return HandleResult.NEXT_ITERATION;
-            }
-            
-            CommandUsage<S> usage = context.getDetectedUsage();
-            Set<FlagData<S>> extracted = usage.getFlagExtractor()
-                .extract(Patterns.withoutFlagSign(currentRaw));
-            
-            long numberOfSwitches = extracted.stream().filter(FlagData::isSwitch).count();
-            long numberOfTrueFlags = extracted.size() - numberOfSwitches;
-            
-            if (extracted.size() != numberOfSwitches && extracted.size() != numberOfTrueFlags) {
-                return HandleResult.failure(new ShortHandFlagException("Unsupported use of a mixture of switches and true flags!"));
+        if (context.hasResolvedFlag(currentParameter)) {
+            currentParameter = stream.popParameter().orElse(null);
+            if (currentParameter == null) return HandleResult.NEXT_ITERATION;
+        }
+        
+        CommandUsage<S> usage = context.getDetectedUsage();
+        Set<FlagData<S>> extracted = usage.getFlagExtractor()
+            .extract(Patterns.withoutFlagSign(currentRaw));
+        
+        long numberOfSwitches = extracted.stream().filter(FlagData::isSwitch).count();
+        long numberOfTrueFlags = extracted.size() - numberOfSwitches;
+        
+        if (extracted.size() != numberOfSwitches && extracted.size() != numberOfTrueFlags) {
+            throw new ShortHandFlagException("Unsupported use of a mixture of switches and true flags!");
+        }
+        
+        if (extracted.size() == numberOfTrueFlags && !TypeUtility.areTrueFlagsOfSameInputTpe(extracted)) {
+            throw new ShortHandFlagException("You cannot use compressed true-flags, while they are not of same input type");
+        }
+        for (FlagData<S> extractedFlagData : extracted) {
+            if (context.hasResolvedFlag(extractedFlagData)) {
+                continue;
             }
             
-            if (extracted.size() == numberOfTrueFlags && !TypeUtility.areTrueFlagsOfSameInputTpe(extracted)) {
-                return HandleResult.failure(new ShortHandFlagException("You cannot use compressed true-flags, while they are not of same input type"));
+            if (currentParameter.isFlag() && !currentParameter.asFlagParameter().flagData().equals(extractedFlagData)) {
+                resolveFlagDefaultValue(stream, currentParameter.asFlagParameter(), context);
+                break;
             }
-            for (FlagData<S> extractedFlagData : extracted) {
-                if (context.hasResolvedFlag(extractedFlagData)) {
-                    continue;
-                }
-                
-                if (currentParameter.isFlag() && !currentParameter.asFlagParameter().flagData().equals(extractedFlagData)) {
-                    resolveFlagDefaultValue(stream, currentParameter.asFlagParameter(), context);
-                    break;
-                }
-                context.resolveFlag(ParameterTypes.flag(extractedFlagData).resolve(context, stream, currentRaw));
-            }
-            
-            stream.skip();
-            return HandleResult.NEXT_ITERATION;
-        } catch (ImperatException e) {
-            return HandleResult.failure(e);
+            context.resolveFlag(ParameterTypes.flag(extractedFlagData).resolve(context, stream, currentRaw));
         }
+        
+        stream.skip();
+        return HandleResult.NEXT_ITERATION;
     }
     
     private void resolveFlagDefaultValue(CommandInputStream<S> stream, FlagParameter<S> flagParameter, ResolvedContext<S> context) throws ImperatException {
@@ -15,7 +15,7 @@ import java.util.Optional;
 public final class FreeFlagHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         var lastParam = context.getDetectedUsage().getParameter(context.getDetectedUsage().size() - 1);
         
         String currentRaw;
@@ -26,13 +26,9 @@ public final class FreeFlagHandler<S extends Source> implements ParameterHandler
 
             Optional<FlagData<S>> freeFlagData = context.getLastUsedCommand().getFlagFromRaw(currentRaw);
             if (Patterns.isInputFlag(currentRaw) && freeFlagData.isPresent()) {
-                try {
-                    FlagData<S> freeFlag = freeFlagData.get();
-                    var value = ParameterTypes.flag(freeFlag).resolveFreeFlag(context, stream, freeFlag);
-                    context.resolveFlag(value);
-                } catch (ImperatException e) {
-                    return HandleResult.failure(e);
-                }
+                FlagData<S> freeFlag = freeFlagData.get();
+                var value = ParameterTypes.flag(freeFlag).resolveFreeFlag(context, stream, freeFlag);
+                context.resolveFlag(value);
             }
             stream.skipRaw();
         }
@@ -16,7 +16,7 @@ import org.jetbrains.annotations.NotNull;
 public final class NonFlagWhenExpectingFlagHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         CommandParameter<S> currentParameter = stream.currentParameterFast();
         String currentRaw = stream.currentRawFast();
         
@@ -24,19 +24,20 @@ public final class NonFlagWhenExpectingFlagHandler<S extends Source> implements
             return HandleResult.NEXT_HANDLER;
         }
         
+        var nextParam = stream.peekParameter().orElse(null);
+        if (nextParam == null) {
+            throw new UnknownFlagException(currentRaw);
+        }
+        
         try {
-            var nextParam = stream.peekParameter().orElse(null);
-            
-            if (nextParam == null) {
-                return HandleResult.failure(new UnknownFlagException(currentRaw));
-            } else if (!context.hasResolvedFlag(currentParameter)) {
+            if (!context.hasResolvedFlag(currentParameter)) {
                 resolveFlagDefaultValue(stream, currentParameter.asFlagParameter(), context);
             }
             
             stream.skipParameter();
             return HandleResult.NEXT_ITERATION;
         } catch (Exception e) {
-            return HandleResult.failure(new ImperatException("Error handling non-flag input when expecting flag", e));
+            throw new ImperatException("Error handling non-flag input when expecting flag", e);
         }
     }
     
@@ -14,7 +14,7 @@ import org.jetbrains.annotations.NotNull;
 public final class OptionalParameterHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         CommandParameter<S> currentParameter = stream.currentParameterFast();
         String currentRaw = stream.currentRawFast();
         
@@ -22,20 +22,16 @@ public final class OptionalParameterHandler<S extends Source> implements Paramet
             return HandleResult.NEXT_HANDLER;
         }
         
-        try {
-            var value = currentParameter.type().resolve(context, stream, stream.readInput());
-            
-            if (value instanceof ExtractedInputFlag extractedInputFlag) {
-                context.resolveFlag(extractedInputFlag);
-                stream.skip();
-            } else {
-                resolveOptional(currentRaw, currentParameter, context, stream, value);
-            }
-            
-            return HandleResult.NEXT_ITERATION;
-        } catch (ImperatException e) {
-            return HandleResult.failure(e);
+        var value = currentParameter.type().resolve(context, stream, stream.readInput());
+        
+        if (value instanceof ExtractedInputFlag extractedInputFlag) {
+            context.resolveFlag(extractedInputFlag);
+            stream.skip();
+        } else {
+            resolveOptional(currentRaw, currentParameter, context, stream, value);
         }
+        
+        return HandleResult.NEXT_ITERATION;
     }
     
     private void resolveOptional(String currentRaw, CommandParameter<S> currentParameter, ResolvedContext<S> context,
@@ -4,6 +4,7 @@ import dev.velix.imperat.context.ResolvedContext;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.internal.CommandInputStream;
 import dev.velix.imperat.context.internal.sur.HandleResult;
+import dev.velix.imperat.exception.ImperatException;
 import org.jetbrains.annotations.NotNull;
 
 public sealed interface ParameterHandler<S extends Source>
@@ -12,6 +13,14 @@ public sealed interface ParameterHandler<S extends Source>
         OptionalParameterHandler, RequiredParameterHandler
 {
     
-    @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream);
+    /**
+     * Handles the current parameter of the stream, if it concerns this handler
+     *
+     * @param context the context being resolved
+     * @param stream  the input stream
+     * @return how the chain should proceed
+     * @throws ImperatException if the input is invalid for the current parameter
+     */
+    @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException;
     
 }
\ No newline at end of file
@@ -12,7 +12,7 @@ import org.jetbrains.annotations.NotNull;
 public final class RequiredParameterHandler<S extends Source> implements ParameterHandler<S> {
     
     @Override
-    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) {
+    public @NotNull HandleResult handle(ResolvedContext<S> context, CommandInputStream<S> stream) throws ImperatException {
         CommandParameter<S> currentParameter = stream.currentParameterFast();
         String currentRaw = stream.currentRawFast();
         
@@ -20,20 +20,16 @@ public final class RequiredParameterHandler<S extends Source> implements Paramet
             return HandleResult.NEXT_HANDLER;
         }
         
-        try {
-            var value = currentParameter.type().resolve(context, stream, stream.readInput());
-            
-            if (value instanceof ExtractedInputFlag extractedInputFlag) {
-                context.resolveFlag(extractedInputFlag);
-                stream.skip();
-            } else {
-                context.resolveArgument(context.getLastUsedCommand(), currentRaw, stream.currentParameterPosition(), currentParameter, value);
-                stream.skip();
-            }
-            
-            return HandleResult.NEXT_ITERATION;
-        } catch (ImperatException e) {
-            return HandleResult.failure(e);
+        var value = currentParameter.type().resolve(context, stream, stream.readInput());
+        
+        if (value instanceof ExtractedInputFlag extractedInputFlag) {
+            context.resolveFlag(extractedInputFlag);
+            stream.skip();
+        } else {
+            context.resolveArgument(context.getLastUsedCommand(), currentRaw, stream.currentParameterPosition(), currentParameter, value);
+            stream.skip();
         }
+        
+        return HandleResult.NEXT_ITERATION;
     }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package dev.velix.imperat.exception;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.verification.UsageAmbiguity;
+
+import java.util.List;
 
 public final class AmbiguousUsageAdditionException extends RuntimeException {
 
@@ -20,5 +23,34 @@ public final class AmbiguousUsageAdditionException extends RuntimeException {
         );
     }
 
+    /**
+     * @param command     the command
+     * @param ambiguities every pair of ambiguous usages of the command, at least one
+     */
+    public <S extends Source> AmbiguousUsageAdditionException(
+        final Command<S> command,
+        final List<UsageAmbiguity<S>> ambiguities
+    ) {
+        super(describe(command, ambiguities));
+    }
+
+    private static <S extends Source> String describe(Command<S> command, List<UsageAmbiguity<S>> ambiguities) {
+        UsageAmbiguity<S> first = ambiguities.get(0);
+        StringBuilder message = new StringBuilder(String.format(
+            "Failed to add usage '%s' because it's ambiguous along with other usage '%s'",
+            CommandUsage.format(command, first.first()),
+            CommandUsage.format(command, first.second())
+        ));
+        if (ambiguities.size() > 1) {
+            message.append(", along with ").append(ambiguities.size() - 1).append(" other ambiguities:");
+            for (int i = 1; i < ambiguities.size(); i++) {
+                UsageAmbiguity<S> ambiguity = ambiguities.get(i);
+                message.append("\n- '").append(CommandUsage.format(command, ambiguity.first()))
+                    .append("' and '").append(CommandUsage.format(command, ambiguity.second())).append('\'');
+            }
+        }
+        return message.toString();
+    }
+
 
 }
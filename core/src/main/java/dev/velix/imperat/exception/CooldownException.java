@@ -32,4 +32,9 @@ public final class CooldownException extends ImperatException {
         return remainingDuration;
     }
 
+    @Override
+    protected boolean isUserError() {
+        return true;
+    }
+
 }
@@ -1,10 +1,15 @@
 package dev.velix.imperat.exception;
 
+import dev.velix.imperat.util.ImperatDebugger;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 
 @ApiStatus.AvailableSince("1.0.0")
 public class ImperatException extends Exception {
-    
+
+    //whether the user errors constructed on the current thread are stackless, set by the dispatching Imperat's config
+    private static final ThreadLocal<Boolean> STACKLESS_USER_ERRORS = new ThreadLocal<>();
+
     public ImperatException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -16,5 +21,62 @@ public class ImperatException extends Exception {
     public ImperatException() {
         super();
     }
-    
+
+    /**
+     * Sets whether the user errors constructed on the current thread skip capturing their stack trace,
+     * until the returned scope is closed, which restores the previous setting.
+     * Outside any scope, stack traces are always captured.
+     *
+     * @param stackless whether user errors are stackless
+     * @return the scope, to be closed on the same thread
+     * @see dev.velix.imperat.ImperatConfig#setStacklessUserErrors(boolean)
+     */
+    @ApiStatus.Internal
+    public static @NotNull StacklessScope openStacklessScope(boolean stackless) {
+        Boolean previous = STACKLESS_USER_ERRORS.get();
+        STACKLESS_USER_ERRORS.set(stackless);
+        return new StacklessScope(previous);
+    }
+
+    /**
+     * Whether this exception reports a mistake of the user, such as invalid input or a missing permission,
+     * rather than a failure of the program.
+     * This is called while the exception is constructed, so it must not depend on its fields.
+     *
+     * @return whether this exception is a user error
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    protected boolean isUserError() {
+        return false;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (isUserError() && Boolean.TRUE.equals(STACKLESS_USER_ERRORS.get()) && !ImperatDebugger.isEnabled()) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
+    /**
+     * The scope opened by {@link #openStacklessScope(boolean)}.
+     */
+    @ApiStatus.Internal
+    public static final class StacklessScope implements AutoCloseable {
+
+        private final Boolean previous;
+
+        private StacklessScope(Boolean previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                STACKLESS_USER_ERRORS.remove();
+            } else {
+                STACKLESS_USER_ERRORS.set(previous);
+            }
+        }
+    }
 }
@@ -2,4 +2,8 @@ package dev.velix.imperat.exception;
 
 public final class InvalidSyntaxException extends ImperatException {
 
+    @Override
+    protected boolean isUserError() {
+        return true;
+    }
 }
@@ -1,4 +1,9 @@
 package dev.velix.imperat.exception;
 
 public final class NoHelpPageException extends ImperatException {
+
+    @Override
+    protected boolean isUserError() {
+        return true;
+    }
 }
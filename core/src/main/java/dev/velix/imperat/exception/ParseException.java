@@ -12,4 +12,9 @@ public abstract class ParseException extends ImperatException {
     public String getInput() {
         return input;
     }
+
+    @Override
+    protected boolean isUserError() {
+        return true;
+    }
 }
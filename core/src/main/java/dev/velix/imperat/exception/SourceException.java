@@ -31,10 +31,14 @@ public class SourceException extends ImperatException {
         return this.message;
     }
 
+    @Override
+    protected boolean isUserError() {
+        return true;
+    }
+
     public enum ErrorLevel {
         REPLY,
         WARN,
         SEVERE
     }
-
 }
@@ -12,15 +12,25 @@ import dev.velix.imperat.util.text.TextPage;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a help menu with pages
+ * <p>
+ * The usages of a command are formatted into pages once, the pages are then sent as they are,
+ * until the command is {@link Command#modifications() modified}, e.g. usages are added to it.
+ * The header and footer are still displayed each time.
  */
 @ApiStatus.AvailableSince("1.0.0")
 public non-sealed abstract class PaginatedHelpTemplate<S extends Source> extends HelpTemplate<S> {
 
     protected final int syntaxesPerPage;
 
+    //the pages of each command, formatted once and sent as is to whoever asks for them
+    private final Map<Command<S>, RenderedPages> renderedPages = new ConcurrentHashMap<>();
+
     public PaginatedHelpTemplate(
             UsageFormatter formatter,
             int syntaxesPerPage
@@ -39,6 +49,44 @@ public non-sealed abstract class PaginatedHelpTemplate<S extends Source> extends
     public void provide(ExecutionContext<S> context, S source) throws ImperatException {
 
         Command<S> command = context.command();
+        RenderedPages rendered = renderedPages(command);
+        if (rendered.pages.length == 0) {
+            throw new NoHelpException();
+        }
+
+        int page = context.getArgumentOr("page", 1);
+        if (page < 1 || page > rendered.pages.length) {
+            throw new NoHelpPageException();
+        }
+
+        displayHeaderHyphen(command, source, page, rendered.pages.length);
+        for (String line : rendered.pages[page - 1]) {
+            source.reply(line);
+        }
+        displayFooterHyphen(command, source, page, rendered.pages.length);
+    }
+
+    /**
+     * Drops the rendered pages of every command,
+     * to be called when the {@link UsageFormatter} starts formatting usages differently.
+     * Modifying a command, e.g. adding usages to it, already renders its pages again.
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    public void invalidate() {
+        renderedPages.clear();
+    }
+
+    private RenderedPages renderedPages(Command<S> command) {
+        int modifications = command.modifications();
+        RenderedPages rendered = renderedPages.get(command);
+        if (rendered == null || rendered.modifications != modifications) {
+            rendered = render(command, modifications);
+            renderedPages.put(command, rendered);
+        }
+        return rendered;
+    }
+
+    private RenderedPages render(Command<S> command, int modifications) {
         var commandUsages = command.usages().stream().filter((usage)-> {
             if(usage.isDefault()) return false;
             if(usage.getParameters().isEmpty()) return false;
@@ -52,28 +100,25 @@ public non-sealed abstract class PaginatedHelpTemplate<S extends Source> extends
             return true;
         }).toList();
 
-        final int maxUsages = commandUsages.size();
-        if (maxUsages == 0) {
-            throw new NoHelpException();
-        }
-
         PaginatedText<CommandUsage<S>> paginatedText = new PaginatedText<>(syntaxesPerPage);
-
         commandUsages.forEach(paginatedText::add);
         paginatedText.paginate();
 
-        int page = context.getArgumentOr("page", 1);
-        TextPage<CommandUsage<S>> textPage = paginatedText.getPage(page);
-        if (textPage == null) {
-            throw new NoHelpPageException();
+        String[][] pages = new String[paginatedText.getMaxPages()][];
+        for (int page = 1; page <= pages.length; page++) {
+            TextPage<CommandUsage<S>> textPage = paginatedText.getPage(page);
+            assert textPage != null;
+            List<CommandUsage<S>> pageUsages = textPage.asList();
+            String[] lines = new String[pageUsages.size()];
+            for (int index = 0; index < lines.length; index++) {
+                lines[index] = formatter.format(command, pageUsages.get(index), index);
+            }
+            pages[page - 1] = lines;
         }
+        return new RenderedPages(modifications, pages);
+    }
 
-        displayHeaderHyphen(command, source, page, paginatedText.getMaxPages());
-        int index = 0;
-        for (var usage : textPage.asList()) {
-            source.reply(formatter.format(context.command(), usage, index));
-            index++;
-        }
-        displayFooterHyphen(command, source, page, paginatedText.getMaxPages());
+    //the formatted usages of a command split in pages, along with the modifications of the command then
+    private record RenderedPages(int modifications, String[][] pages) {
     }
 }
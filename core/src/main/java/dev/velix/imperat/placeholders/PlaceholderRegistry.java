@@ -4,10 +4,20 @@ import dev.velix.imperat.ImperatConfig;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.util.Registry;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class PlaceholderRegistry<S extends Source> extends Registry<String, Placeholder<S>> {
 
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
     private final ImperatConfig<S> imperat;
 
+    private volatile Compiled<S> compiled;
+    private volatile Map<String, String> resultCache;
+
     PlaceholderRegistry(ImperatConfig<S> imperat) {
         this.imperat = imperat;
     }
@@ -16,16 +26,90 @@ public final class PlaceholderRegistry<S extends Source> extends Registry<String
         return new PlaceholderRegistry<>(imperat);
     }
 
+    @Override
+    public Registry<String, Placeholder<S>> setData(String key, Placeholder<S> value) {
+        super.setData(key, value);
+        invalidate();
+        return this;
+    }
+
+    @Override
+    public void removeData(String key) {
+        super.removeData(key);
+        invalidate();
+    }
+
+    /**
+     * Enables or disables caching the results of {@link #resolvedString(String)} per input,
+     * which is only correct if the resolvers of the placeholders always return the same value,
+     * e.g. for strings of annotations which are resolved once per command.
+     *
+     * @param enabled whether to cache the results
+     */
+    public void setCachingResults(boolean enabled) {
+        this.resultCache = enabled ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * @return whether the results of {@link #resolvedString(String)} are cached
+     */
+    public boolean isCachingResults() {
+        return resultCache != null;
+    }
+
+    private void invalidate() {
+        compiled = null;
+        var cache = resultCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Compiled<S> compiled() {
+        var current = compiled;
+        if (current == null) {
+            List<Placeholder<S>> literals = new ArrayList<>();
+            List<Placeholder<S>> patterns = new ArrayList<>();
+            for (var placeholder : getAll()) {
+                (isLiteral(placeholder.id()) ? literals : patterns).add(placeholder);
+            }
+            current = new Compiled<>(new PlaceholderTrie<>(literals), List.copyOf(patterns));
+            compiled = current;
+        }
+        return current;
+    }
+
+    private static boolean isLiteral(String id) {
+        for (int i = 0; i < id.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(id.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public String resolvedString(String input) {
+        var cache = resultCache;
+        if (cache != null) {
+            String cached = cache.get(input);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-        String result = input;
-        for (var placeHolder : getAll()) {
+        var current = compiled();
+        String result = current.trie.isEmpty() ? input : current.trie.replace(input, imperat);
 
+        // ids that are actual regular expressions are still matched one by one
+        for (var placeHolder : current.patterns) {
             if (placeHolder.isUsedIn(result)) {
                 String id = placeHolder.id();
                 result = placeHolder.replaceResolved(imperat, id, result);
             }
+        }
 
+        if (cache != null) {
+            cache.put(input, result);
         }
         return result;
     }
@@ -38,5 +122,7 @@ public final class PlaceholderRegistry<S extends Source> extends Registry<String
         return arr;
     }
 
+    private record Compiled<S extends Source>(PlaceholderTrie<S> trie, List<Placeholder<S>> patterns) {
+    }
 
 }
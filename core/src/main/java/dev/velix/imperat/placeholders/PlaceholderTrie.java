@@ -0,0 +1,138 @@
+package dev.velix.imperat.placeholders;
+
+import dev.velix.imperat.ImperatConfig;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A trie over the ids of placeholders, replacing every occurrence of them in a string in a single scan.
+ * <p>
+ * At each position of the input, the longest id starting there is replaced by its resolved value,
+ * which is appended as-is and not scanned again. Each placeholder is resolved at most once per input.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.Internal
+final class PlaceholderTrie<S extends Source> {
+
+    private final Node root = new Node(0);
+    private final Placeholder<S>[] placeholders;
+
+    @SuppressWarnings("unchecked")
+    PlaceholderTrie(List<Placeholder<S>> placeholders) {
+        this.placeholders = placeholders.toArray(new Placeholder[0]);
+        for (int i = 0; i < this.placeholders.length; i++) {
+            String id = this.placeholders[i].id();
+            if (id.isEmpty()) continue;
+            Node node = root;
+            for (int c = 0; c < id.length(); c++) {
+                node = node.childOrCreate(id.charAt(c));
+            }
+            node.placeholder = i;
+        }
+    }
+
+    boolean isEmpty() {
+        return placeholders.length == 0;
+    }
+
+    /**
+     * @param input  the input
+     * @param config the config passed to the resolvers
+     * @return the input with its placeholders replaced, or the input itself if it has none
+     */
+    String replace(String input, ImperatConfig<S> config) {
+        final int length = input.length();
+        StringBuilder builder = null;
+        String[] resolved = null;
+        int copied = 0;
+
+        int i = 0;
+        while (i < length) {
+            Node match = longestMatch(input, i);
+            if (match == null) {
+                i++;
+                continue;
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder(length + 16);
+                resolved = new String[placeholders.length];
+            }
+            String value = resolved[match.placeholder];
+            if (value == null) {
+                Placeholder<S> placeholder = placeholders[match.placeholder];
+                value = placeholder.resolveInput(placeholder.id(), config);
+                resolved[match.placeholder] = value;
+            }
+            builder.append(input, copied, i).append(value);
+            i += match.depth;
+            copied = i;
+        }
+
+        if (builder == null) {
+            return input;
+        }
+        return builder.append(input, copied, length).toString();
+    }
+
+    private @Nullable Node longestMatch(String input, int from) {
+        Node node = root;
+        Node match = null;
+        for (int i = from; i < input.length(); i++) {
+            node = node.child(input.charAt(i));
+            if (node == null) break;
+            if (node.placeholder != -1) {
+                match = node;
+            }
+        }
+        return match;
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final int depth;
+        // sorted, looked up by binary search
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int placeholder = -1;
+
+        Node(int depth) {
+            this.depth = depth;
+        }
+
+        @Nullable Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            Node child = new Node(depth + 1);
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newKeys[insertion] = c;
+            newChildren[insertion] = child;
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+}
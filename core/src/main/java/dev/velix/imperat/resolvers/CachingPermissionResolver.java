@@ -0,0 +1,187 @@
+package dev.velix.imperat.resolvers;
+
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.Preconditions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link PermissionResolver} memoizing the results of another one,
+ * for resolvers whose lookups are expensive (e.g. backed by a permissions plugin)
+ * while being called many times per request, such as by the requirements of brigadier nodes.
+ * <p>
+ * Results are memoized per source for a short time, and within the {@link #openScope() scope}
+ * of a single dispatch or completion request regardless of that time.
+ * Usage permissions are composed of the memoized permission results.
+ * Call {@link #invalidate(Source)} whenever the permissions of a source change, to see the change immediately.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public final class CachingPermissionResolver<S extends Source> implements PermissionResolver<S> {
+
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final PermissionResolver<S> delegate;
+    private final long ttlNanos;
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final ThreadLocal<Scope> scopes = new ThreadLocal<>();
+
+    private CachingPermissionResolver(PermissionResolver<S> delegate, Duration ttl) {
+        Preconditions.checkArgument(!ttl.isNegative(), "the time to live must not be negative");
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @param delegate the resolver whose results are memoized
+     * @param ttl      how long the results of a source are memoized, zero to only memoize them within scopes
+     * @param <S>      the source type
+     * @return the caching resolver
+     */
+    public static <S extends Source> @NotNull CachingPermissionResolver<S> of(
+        @NotNull PermissionResolver<S> delegate,
+        @NotNull Duration ttl
+    ) {
+        if (delegate instanceof CachingPermissionResolver<S> caching) {
+            delegate = caching.delegate;
+        }
+        return new CachingPermissionResolver<>(delegate, ttl);
+    }
+
+    /**
+     * @return the resolver whose results are memoized
+     */
+    public @NotNull PermissionResolver<S> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull S source, @Nullable String permission) {
+        if (permission == null) {
+            return delegate.hasPermission(source, null);
+        }
+
+        Object key = sourceKey(source);
+        Scope scope = scopes.get();
+        if (scope != null) {
+            Boolean memoized = scope.get(key, permission);
+            if (memoized != null) {
+                return memoized;
+            }
+        }
+
+        boolean result = ttlNanos == 0 ? delegate.hasPermission(source, permission) : lookup(key, source, permission);
+        if (scope != null) {
+            scope.put(key, permission, result);
+        }
+        return result;
+    }
+
+    private boolean lookup(Object key, S source, String permission) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt - now <= 0) {
+            entry = new Entry(now + ttlNanos);
+            entries.put(key, entry);
+            if (lookups.incrementAndGet() % SWEEP_INTERVAL == 0) {
+                entries.values().removeIf((e) -> e.expiresAt - now <= 0);
+            }
+        }
+
+        Boolean result = entry.permissions.get(permission);
+        if (result == null) {
+            result = delegate.hasPermission(source, permission);
+            entry.permissions.put(permission, result);
+        }
+        return result;
+    }
+
+    /**
+     * Opens a scope on the current thread, within which every result is memoized until it's closed.
+     * Scopes may be nested, only the outermost one drops the results when closed.
+     *
+     * @return the scope, to be closed on the same thread
+     */
+    @Override
+    public @NotNull PermissionScope openScope() {
+        Scope scope = scopes.get();
+        if (scope == null) {
+            scope = new Scope();
+            scopes.set(scope);
+        }
+        scope.depth++;
+        return scope;
+    }
+
+    /**
+     * Drops the memoized results of a source.
+     *
+     * @param source the source
+     */
+    public void invalidate(@NotNull S source) {
+        Object key = sourceKey(source);
+        entries.remove(key);
+        Scope scope = scopes.get();
+        if (scope != null) {
+            scope.results.remove(key);
+        }
+    }
+
+    /**
+     * Drops all the memoized results.
+     */
+    public void invalidateAll() {
+        entries.clear();
+        Scope scope = scopes.get();
+        if (scope != null) {
+            scope.results.clear();
+        }
+    }
+
+    private static Object sourceKey(Source source) {
+        var uuid = source.uuid();
+        return source.isConsole() || uuid == null || Source.CONSOLE_UUID.equals(uuid) ? source.name() : uuid;
+    }
+
+    private static final class Entry {
+
+        private final long expiresAt;
+        private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final class Scope implements PermissionScope {
+
+        private final Map<Object, Map<String, Boolean>> results = new HashMap<>(4);
+        private int depth;
+
+        private @Nullable Boolean get(Object key, String permission) {
+            Map<String, Boolean> permissions = results.get(key);
+            return permissions == null ? null : permissions.get(permission);
+        }
+
+        private void put(Object key, String permission, boolean result) {
+            results.computeIfAbsent(key, (k) -> new HashMap<>()).put(permission, result);
+        }
+
+        @Override
+        public void close() {
+            if (--depth == 0) {
+                scopes.remove();
+            }
+        }
+    }
+}
@@ -35,4 +35,15 @@ public interface PermissionResolver<S extends Source> {
         return true;
     }
 
+    /**
+     * Opens the scope of a single dispatch or completion request on the current thread,
+     * within which the resolver may memoize its results, see {@link CachingPermissionResolver}.
+     *
+     * @return the scope, to be closed once the request is handled
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    default @NotNull PermissionScope openScope() {
+        return PermissionScope.NONE;
+    }
+
 }
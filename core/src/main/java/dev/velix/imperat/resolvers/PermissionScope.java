@@ -0,0 +1,23 @@
+package dev.velix.imperat.resolvers;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The scope of a single dispatch or completion request on the thread handling it,
+ * within which permission results may be memoized, closed once the request is handled.
+ *
+ * @see PermissionResolver#openScope()
+ */
+@ApiStatus.AvailableSince("1.9.8")
+@FunctionalInterface
+public interface PermissionScope extends AutoCloseable {
+
+    /**
+     * A scope memoizing nothing
+     */
+    PermissionScope NONE = () -> {
+    };
+
+    @Override
+    void close();
+}
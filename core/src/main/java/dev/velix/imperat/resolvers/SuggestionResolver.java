@@ -2,12 +2,15 @@ package dev.velix.imperat.resolvers;
 
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.SuggestionIndex;
+import dev.velix.imperat.command.suggestions.SuggestionSink;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.SuggestionContext;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -29,11 +32,28 @@ public interface SuggestionResolver<S extends Source> {
         return plain(Arrays.asList(results));
     }
 
+    /**
+     * Unlike {@link #plain(List)}, the suggestions are copied, later changes to them aren't seen.
+     *
+     * @param results the suggestions, which are fixed
+     * @return a resolver of the suggestions, {@link SuggestionIndex indexed} for completing them by prefix
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    static <S extends Source> SuggestionResolver<S> indexed(Collection<String> results) {
+        final SuggestionIndex index = SuggestionIndex.of(results);
+        return ((context, parameterToComplete) -> index);
+    }
+
+    @ApiStatus.AvailableSince("1.9.8")
+    static <S extends Source> SuggestionResolver<S> indexed(String... results) {
+        return indexed(Arrays.asList(results));
+    }
+
     static <S extends Source> SuggestionResolver<S> forCommand(Command<S> command) {
         List<String> list = new ArrayList<>();
         list.add(command.name());
         list.addAll(command.aliases());
-        return plain(list);
+        return indexed(list);
     }
 
 
@@ -44,7 +64,26 @@ public interface SuggestionResolver<S extends Source> {
      */
     List<String> autoComplete(SuggestionContext<S> context, CommandParameter<S> parameter);
 
+    /**
+     * Pushes the suggestions of the current argument to a sink, stopping once it needs no more.
+     * Resolvers producing many suggestions may override this to stop producing them early.
+     *
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @param sink      the sink receiving the suggestions
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    default void autoComplete(SuggestionContext<S> context, CommandParameter<S> parameter, SuggestionSink sink) {
+        sink.acceptAll(autoComplete(context, parameter));
+    }
+
+    /**
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @return the auto-completed suggestions of the current argument,
+     * computed on the {@link dev.velix.imperat.ImperatConfig#getSuggestionExecutor() suggestion executor}
+     */
     default CompletableFuture<List<String>> asyncAutoComplete(SuggestionContext<S> context, CommandParameter<S> parameter) {
-        return CompletableFuture.supplyAsync(() -> autoComplete(context, parameter));
+        return CompletableFuture.supplyAsync(() -> autoComplete(context, parameter), context.imperatConfig().getSuggestionExecutor());
     }
 }
@@ -0,0 +1,139 @@
+package dev.velix.imperat.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Presets of executors for the suggestions and asynchronous executions of commands,
+ * to be used instead of the common fork-join pool, which is shared with the rest of the application.
+ *
+ * @see dev.velix.imperat.ImperatConfig#setSuggestionExecutor(Executor)
+ * @see dev.velix.imperat.ImperatConfig#setCommandExecutor(Executor)
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public final class ImperatExecutors {
+
+    //Executors.newVirtualThreadPerTaskExecutor(), looked up as it's only present since java 21
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutor();
+
+    private ImperatExecutors() {
+        throw new AssertionError();
+    }
+
+    private static MethodHandle lookupVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                java.util.concurrent.Executors.class,
+                "newVirtualThreadPerTaskExecutor",
+                MethodType.methodType(ExecutorService.class)
+            );
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * An executor running each task directly on the thread submitting it,
+     * for suggestion resolvers cheap enough not to need another thread.
+     *
+     * @return the same-thread executor
+     */
+    public static @NotNull Executor sameThread() {
+        return SameThreadExecutor.INSTANCE;
+    }
+
+    /**
+     * @return whether virtual threads are available, which requires java 21 or later
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * An executor running each task on a new virtual thread, suited for tasks blocking on I/O.
+     * <p>
+     * Virtual threads require java 21, when they're unavailable, this falls back to
+     * {@link #bounded(String, int, int) a bounded pool} of daemon platform threads,
+     * twice as many as the available processors.
+     *
+     * @param name the prefix of the names of the threads, only used by the fallback
+     * @return the virtual-thread executor, or the fallback
+     */
+    public static @NotNull ExecutorService virtualThreads(@NotNull String name) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable ex) {
+                ImperatDebugger.debug("Failed to create a virtual thread executor, falling back to platform threads: %s", ex);
+            }
+        }
+        int threads = Runtime.getRuntime().availableProcessors() * 2;
+        return bounded(name, threads, threads * 64);
+    }
+
+    /**
+     * An executor of a fixed number of daemon platform threads, queuing up to a number of tasks.
+     * Once the queue is full, tasks run on the thread submitting them,
+     * which slows the submitters down instead of queuing tasks without bounds.
+     *
+     * @param name          the prefix of the names of the threads
+     * @param threads       the number of threads
+     * @param queueCapacity the maximum number of tasks waiting for a thread
+     * @return the bounded executor
+     */
+    public static @NotNull ExecutorService bounded(@NotNull String name, int threads, int queueCapacity) {
+        Preconditions.checkArgument(threads > 0, "threads must be positive");
+        Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be positive");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads,
+            30L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new DaemonThreadFactory(name),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private enum SameThreadExecutor implements Executor {
+        INSTANCE;
+
+        @Override
+        public void execute(@NotNull Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public String toString() {
+            return "ImperatExecutors.sameThread()";
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -51,47 +51,7 @@ public final class StringUtils {
         if (argumentsInOneLine.isEmpty())
             return !autoCompletion ? ArgumentQueue.of(argumentsInOneLine) : ArgumentQueue.parse(" ");
 
-        ArgumentQueue toCollect = ArgumentQueue.of(argumentsInOneLine);
-        char[] chars = argumentsInOneLine.toCharArray();
-        StringBuilder builder = new StringBuilder();
-
-        for (int i = 0; i < chars.length; i++) {
-            char c = chars[i];
-
-            if (isQuoteChar(c) && i != chars.length - 1) {
-                int start = i + 1;
-                while (start < chars.length && !isEndOfQuote(c, chars[start])) {
-                    builder.append(chars[start]);
-                    start++;
-                }
-                i = start;
-
-                toCollect.add(builder.toString());
-                builder = new StringBuilder();
-                continue;
-            }
-
-            if (Character.isWhitespace(c)) {
-                // Only add if builder is not empty
-                if (!builder.isEmpty()) {
-                    toCollect.add(builder.toString());
-                    builder = new StringBuilder();
-                }
-                continue;
-            }
-
-            builder.append(c);
-        }
-
-        // Only add if builder is not empty
-        if (!builder.isEmpty()) {
-            toCollect.add(builder.toString());
-        }
-
-        if (autoCompletion && extraSpace)
-            toCollect.add(" ");
-
-        return toCollect;
+        return ArgumentQueue.of(TokenizedInput.tokenize(argumentsInOneLine), autoCompletion && extraSpace);
     }
 
     public static ArgumentQueue parseToQueue(String argumentsInOneLine, boolean autoCompletion) {
@@ -0,0 +1,199 @@
+package dev.velix.imperat.util;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The arguments of a raw input line, split in a single pass without copying the line.
+ * <p>
+ * Only the boundaries of each argument are recorded, the arguments themselves are exposed
+ * either as {@link CharSequence} views over the original line or as strings that are created
+ * on first access and cached afterward.
+ * <p>
+ * The splitting rules are the same as {@link StringUtils#parseToQueue(String, boolean)}:
+ * arguments are separated by whitespace, and a quoted section (single or double quotes)
+ * is taken as-is, without its quotes, ending the argument it appears in.
+ */
+@ApiStatus.Internal
+public final class TokenizedInput {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String line;
+    private int[] starts;
+    private int[] ends;
+
+    // materialized arguments; also holds the arguments that are not a contiguous range of the line
+    private String[] values;
+    private int size;
+
+    private TokenizedInput(String line) {
+        this.line = line;
+        this.starts = new int[INITIAL_CAPACITY];
+        this.ends = new int[INITIAL_CAPACITY];
+        this.values = new String[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Splits the line into arguments
+     *
+     * @param line the raw input line
+     * @return the tokenized line
+     */
+    public static @NotNull TokenizedInput tokenize(@NotNull String line) {
+        final TokenizedInput tokens = new TokenizedInput(line);
+        final int length = line.length();
+
+        int tokenStart = -1;
+        for (int i = 0; i < length; i++) {
+            final char c = line.charAt(i);
+
+            if (StringUtils.isQuoteChar(c) && i != length - 1) {
+                final int contentStart = i + 1;
+                int contentEnd = contentStart;
+                while (contentEnd < length && !StringUtils.isEndOfQuote(c, line.charAt(contentEnd))) {
+                    contentEnd++;
+                }
+
+                if (tokenStart == -1) {
+                    tokens.add(contentStart, contentEnd, null);
+                } else {
+                    // text right before the quote belongs to the same argument
+                    tokens.add(tokenStart, contentEnd, line.substring(tokenStart, i) + line.substring(contentStart, contentEnd));
+                    tokenStart = -1;
+                }
+                i = contentEnd;
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                if (tokenStart != -1) {
+                    tokens.add(tokenStart, i, null);
+                    tokenStart = -1;
+                }
+                continue;
+            }
+
+            if (tokenStart == -1) {
+                tokenStart = i;
+            }
+        }
+
+        if (tokenStart != -1) {
+            tokens.add(tokenStart, length, null);
+        }
+        return tokens;
+    }
+
+    private void add(int start, int end, String value) {
+        if (size == starts.length) {
+            final int capacity = size << 1;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * @return the line that was tokenized
+     */
+    public @NotNull String line() {
+        return line;
+    }
+
+    /**
+     * @return the number of arguments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the argument
+     * @return the offset in the line at which the argument's content starts (after an opening quote)
+     */
+    public int start(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    /**
+     * @param index the index of the argument
+     * @return the offset in the line right after the argument's content (before a closing quote)
+     */
+    public int end(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    /**
+     * @param index the index of the argument
+     * @return the argument as a string, created once on first access
+     */
+    public @NotNull String get(int index) {
+        checkIndex(index);
+        String value = values[index];
+        if (value == null) {
+            value = line.substring(starts[index], ends[index]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * @param index the index of the argument
+     * @return the argument as a view over the line, no characters are copied
+     */
+    public @NotNull CharSequence view(int index) {
+        checkIndex(index);
+        final String value = values[index];
+        if (value != null) {
+            return value;
+        }
+        return new View(line, starts[index], ends[index]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * A read-only window over a range of a string.
+     */
+    private record View(String line, int start, int end) implements CharSequence {
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new StringIndexOutOfBoundsException(index);
+            }
+            return line.charAt(start + index);
+        }
+
+        @Override
+        public @NotNull CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new StringIndexOutOfBoundsException("begin " + from + ", end " + to + ", length " + length());
+            }
+            return new View(line, start + from, start + to);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return line.substring(start, end);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package dev.velix.imperat.util.asm;
+
+import org.jetbrains.annotations.NotNull;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MethodCallerFactory} that generates, for each method, a class implementing {@link MethodCaller}
+ * which calls the method directly, reading each argument from its fixed index in the arguments array.
+ * <p>
+ * The generated class is defined as a hidden nestmate of the method's declaring class,
+ * so that it may also call private methods, and can be unloaded along with it.
+ * Like {@link MethodHandlesCallerFactory}, anything thrown by the method is wrapped in a {@link RuntimeException}.
+ */
+final class AsmMethodCallerFactory implements MethodCallerFactory, Opcodes {
+
+    public static final AsmMethodCallerFactory INSTANCE = new AsmMethodCallerFactory();
+
+    private static final String CALLER = Type.getInternalName(MethodCaller.class);
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String CALL_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+
+    @Override
+    public @NotNull MethodCaller createFor(@NotNull Method method) throws Throwable {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+
+        String name = Type.getInternalName(owner) + "$ImperatCaller";
+        byte[] bytes = generate(name, method);
+
+        Class<?> callerClass = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE)
+            .lookupClass();
+        return (MethodCaller) lookup.findConstructor(callerClass, MethodType.methodType(void.class)).invoke();
+    }
+
+    private static byte[] generate(String name, Method method) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // frames never merge two distinct types, avoids loading classes from this class's loader
+                return OBJECT;
+            }
+        };
+        writer.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null, OBJECT, new String[]{CALLER});
+
+        MethodVisitor init = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        generateCall(writer, method);
+
+        MethodVisitor toString = writer.visitMethod(ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+        toString.visitCode();
+        toString.visitLdcInsn("AsmCaller(" + method + ")");
+        toString.visitInsn(ARETURN);
+        toString.visitMaxs(0, 0);
+        toString.visitEnd();
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void generateCall(ClassWriter writer, Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        boolean isInterface = owner.isInterface();
+
+        MethodVisitor mv = writer.visitMethod(ACC_PUBLIC | ACC_VARARGS, "call", CALL_DESCRIPTOR, null, null);
+        mv.visitCode();
+
+        Label start = new Label();
+        Label end = new Label();
+        Label handler = new Label();
+        mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+        mv.visitLabel(start);
+
+        if (!isStatic) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(owner));
+        }
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            mv.visitVarInsn(ALOAD, 2);
+            pushInt(mv, i);
+            mv.visitInsn(AALOAD);
+            unbox(mv, parameterTypes[i]);
+        }
+
+        int opcode = isStatic ? INVOKESTATIC : isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL;
+        mv.visitMethodInsn(opcode, Type.getInternalName(owner), method.getName(), Type.getMethodDescriptor(method), isInterface);
+
+        Class<?> returnType = method.getReturnType();
+        if (returnType == void.class) {
+            mv.visitInsn(ACONST_NULL);
+        } else if (returnType.isPrimitive()) {
+            box(mv, returnType);
+        }
+        mv.visitLabel(end);
+        mv.visitInsn(ARETURN);
+
+        mv.visitLabel(handler);
+        mv.visitVarInsn(ASTORE, 3);
+        mv.visitTypeInsn(NEW, "java/lang/RuntimeException");
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/RuntimeException", "<init>", "(Ljava/lang/Throwable;)V", false);
+        mv.visitInsn(ATHROW);
+
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else {
+            mv.visitIntInsn(SIPUSH, value);
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (type != Object.class) {
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+            }
+            return;
+        }
+        Type wrapper = Type.getType(wrapperOf(type));
+        mv.visitTypeInsn(CHECKCAST, wrapper.getInternalName());
+        mv.visitMethodInsn(INVOKEVIRTUAL, wrapper.getInternalName(), type.getName() + "Value",
+            "()" + Type.getDescriptor(type), false);
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        Type wrapper = Type.getType(wrapperOf(type));
+        mv.visitMethodInsn(INVOKESTATIC, wrapper.getInternalName(), "valueOf",
+            "(" + Type.getDescriptor(type) + ")" + wrapper.getDescriptor(), false);
+    }
+
+    private static Class<?> wrapperOf(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    @Override
+    public String toString() {
+        return "AsmMethodCallerFactory";
+    }
+}
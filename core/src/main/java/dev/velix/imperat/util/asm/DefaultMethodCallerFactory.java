@@ -23,17 +23,28 @@
  */
 package dev.velix.imperat.util.asm;
 
+import dev.velix.imperat.util.ImperatDebugger;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
 
+/**
+ * Creates callers through {@link MethodCallerFactory#asm()}, falling back to
+ * {@link MethodCallerFactory#methodHandles()} for methods whose caller can't be generated
+ * (e.g. when the declaring class's loader can't see {@link MethodCaller}).
+ */
 public final class DefaultMethodCallerFactory implements MethodCallerFactory {
 
     public static final DefaultMethodCallerFactory INSTANCE = new DefaultMethodCallerFactory();
 
     @Override
     public @NotNull MethodCaller createFor(@NotNull Method method) throws Throwable {
-        return MethodCallerFactory.methodHandles().createFor(method);
+        try {
+            return MethodCallerFactory.asm().createFor(method);
+        } catch (Throwable generationFailure) {
+            ImperatDebugger.debug("Falling back to method handles for '%s': %s", method, generationFailure);
+            return MethodCallerFactory.methodHandles().createFor(method);
+        }
     }
 
 }
@@ -42,6 +42,16 @@ public interface MethodCallerFactory {
         return MethodHandlesCallerFactory.INSTANCE;
     }
 
+    /**
+     * Returns a {@link MethodCallerFactory} that generates a class per method,
+     * calling the method directly without going through reflection.
+     *
+     * @return The generating method caller factory.
+     */
+    static @NotNull MethodCallerFactory asm() {
+        return AsmMethodCallerFactory.INSTANCE;
+    }
+
     /**
      * Creates a new {@link MethodCaller} for the specified method.
      *
@@ -1,16 +1,13 @@
 package dev.velix.imperat.util.asm;
 
-import static java.util.Collections.addAll;
-
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * A {@link MethodCallerFactory} that uses the method handles API to generate
@@ -25,22 +22,22 @@ final class MethodHandlesCallerFactory implements MethodCallerFactory {
         method.setAccessible(true);
         MethodHandle handle = MethodHandles.lookup().unreflect(method);
         String methodString = method.toString();
-        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        int parameterCount = method.getParameterCount();
+
+        // (Object instance, Object[] arguments)Object, spreading the arguments into the method's parameters
+        MethodHandle spreader = handle.asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            spreader = MethodHandles.dropArguments(spreader, 0, Object.class);
+        }
+        final MethodHandle invoker = spreader
+            .asType(MethodType.genericMethodType(parameterCount + 1))
+            .asSpreader(Object[].class, parameterCount);
+
         return new MethodCaller() {
             @Override
             public Object call(@Nullable Object instance, Object... arguments) {
-                if (!isStatic) {
-                    final List<Object> args = new ArrayList<>();
-                    args.add(instance);
-                    addAll(args, arguments);
-                    try {
-                        return handle.invokeWithArguments(args);
-                    } catch (final Throwable e) {
-                        throw new RuntimeException(e);
-                    }
-                }
                 try {
-                    return handle.invokeWithArguments(arguments);
+                    return invoker.invokeExact(instance, arguments);
                 } catch (Throwable e) {
                     throw new RuntimeException(e);
                 }
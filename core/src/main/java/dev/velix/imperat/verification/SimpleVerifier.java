@@ -6,7 +6,6 @@ import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @ApiStatus.Internal
@@ -46,13 +45,7 @@ class SimpleVerifier<S extends Source> implements UsageVerifier<S> {
             && secondUsage.hasParamType(Command.class);
 
         if (sameLength && hasSubCommands) {
-            List<CommandParameter<S>> parameterList1 = new ArrayList<>(firstUsage.getParameters());
-            parameterList1.removeIf((param) -> !param.isCommand());
-
-            List<CommandParameter<S>> parameterList2 = new ArrayList<>(secondUsage.getParameters());
-            parameterList2.removeIf((param) -> !param.isCommand());
-
-            return parameterList1.equals(parameterList2);
+            return haveSameSubCommands(firstUsage.getParameters(), secondUsage.getParameters());
         }
 
         if (sameLength) {
@@ -72,4 +65,32 @@ class SimpleVerifier<S extends Source> implements UsageVerifier<S> {
         return sameLength;
     }
 
+    //whether both lists have equal command parameters in the same order, ignoring the other parameters
+    private static <S extends Source> boolean haveSameSubCommands(List<CommandParameter<S>> first, List<CommandParameter<S>> second) {
+        int i = 0, j = 0;
+        while (true) {
+            while (i < first.size() && !first.get(i).isCommand()) i++;
+            while (j < second.size() && !second.get(j).isCommand()) j++;
+            if (i == first.size() || j == second.size()) {
+                return i == first.size() && j == second.size();
+            }
+            if (!first.get(i).equals(second.get(j))) {
+                return false;
+            }
+            i++;
+            j++;
+        }
+    }
+
+    /**
+     * Usages of different minimum lengths are never ambiguous
+     *
+     * @param usage the usage
+     * @return the minimum length of the usage
+     */
+    @Override
+    public Object ambiguityKey(CommandUsage<S> usage) {
+        return usage.getMinLength();
+    }
+
 }
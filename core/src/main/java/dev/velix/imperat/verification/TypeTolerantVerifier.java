@@ -7,6 +7,8 @@ import dev.velix.imperat.util.TypeUtility;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a usage verifier where it checks for ambiguity in a slightly
@@ -49,6 +51,30 @@ final class TypeTolerantVerifier<S extends Source> extends SimpleVerifier<S> {
         return noDiff;
     }
 
+    /**
+     * Usages are only ambiguous when their required parameters are similar one by one,
+     * so the key holds the subcommands and the (boxed) types of the required parameters.
+     *
+     * @param usage the usage
+     * @return the key of the usage
+     */
+    @Override
+    public Object ambiguityKey(CommandUsage<S> usage) {
+        int capacity = usage.getMinLength();
+        List<Object> key = new ArrayList<>(capacity + 1);
+        key.add(capacity);
+        for (int depth = 0; depth < capacity; depth++) {
+            var param = usage.getParameter(depth);
+            if (param == null || param.isCommand()) {
+                key.add(param);
+            } else {
+                Type type = param.valueType();
+                key.add(TypeUtility.isPrimitive(type) ? TypeUtility.primitiveToBoxed(type) : type);
+            }
+        }
+        return key;
+    }
+
     private boolean areSimilarParameters(CommandParameter<S> param1, CommandParameter<S> param2) {
         if (!param1.isCommand() && !param2.isCommand()) {
             return TypeUtility.matches(param1.valueType(), param2.valueType());
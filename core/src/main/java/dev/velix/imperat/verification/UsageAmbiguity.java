@@ -0,0 +1,16 @@
+package dev.velix.imperat.verification;
+
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Two usages of a command which a {@link UsageVerifier} considers ambiguous
+ *
+ * @param first  the usage found ambiguous along with the second one
+ * @param second the other usage
+ * @param <S>    the command sender valueType
+ */
+@ApiStatus.AvailableSince("1.9.8")
+public record UsageAmbiguity<S extends Source>(CommandUsage<S> first, CommandUsage<S> second) {
+}
@@ -3,6 +3,15 @@ package dev.velix.imperat.verification;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Verifies that the {@link CommandUsage} is suitable
@@ -46,4 +55,50 @@ public interface UsageVerifier<S extends Source> {
      * and/or share similar indistinguishable parameters or syntax
      */
     boolean areAmbiguous(CommandUsage<S> firstUsage, CommandUsage<S> secondUsage);
+
+    /**
+     * A key shared by any two usages this verifier could consider {@link #areAmbiguous(CommandUsage, CommandUsage) ambiguous},
+     * so that only the usages sharing a key are compared with each other.
+     * Usages with different keys must never be ambiguous, when unsure, return the same key,
+     * by default all usages share the same key, so every usage is compared with every other one.
+     *
+     * @param usage the usage
+     * @return the key of the usage, compared by {@link Object#equals(Object)}
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    default @Nullable Object ambiguityKey(CommandUsage<S> usage) {
+        return null;
+    }
+
+    /**
+     * Finds every pair of ambiguous usages among some usages in one pass,
+     * comparing the usages sharing the same {@link #ambiguityKey(CommandUsage) key} only.
+     *
+     * @param usages the usages of a command
+     * @return the pairs of ambiguous usages, empty if none
+     */
+    @ApiStatus.AvailableSince("1.9.8")
+    default @NotNull List<UsageAmbiguity<S>> findAmbiguities(Collection<? extends CommandUsage<S>> usages) {
+        Map<Object, List<CommandUsage<S>>> buckets = new LinkedHashMap<>();
+        for (CommandUsage<S> usage : usages) {
+            buckets.computeIfAbsent(Optional.ofNullable(ambiguityKey(usage)), (key) -> new ArrayList<>()).add(usage);
+        }
+
+        List<UsageAmbiguity<S>> ambiguities = new ArrayList<>();
+        for (List<CommandUsage<S>> bucket : buckets.values()) {
+            for (int i = 0; i < bucket.size(); i++) {
+                CommandUsage<S> usage = bucket.get(i);
+                for (int j = i + 1; j < bucket.size(); j++) {
+                    CommandUsage<S> other = bucket.get(j);
+                    if (other.equals(usage)) continue;
+                    if (areAmbiguous(usage, other)) {
+                        ambiguities.add(new UsageAmbiguity<>(usage, other));
+                    } else if (areAmbiguous(other, usage)) {
+                        ambiguities.add(new UsageAmbiguity<>(other, usage));
+                    }
+                }
+            }
+        }
+        return ambiguities;
+    }
 }
@@ -0,0 +1,104 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.annotations.base.GeneratedCommandIndex;
+import dev.velix.imperat.processor.CommandIndexProcessor;
+import dev.velix.imperat.util.asm.MethodCaller;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+public class TestCommandIndexProcessor {
+
+    private static final String SOURCE = """
+            package sample;
+
+            import dev.velix.imperat.annotations.Command;
+            import dev.velix.imperat.annotations.SubCommand;
+            import dev.velix.imperat.annotations.Usage;
+
+            @Command("sample")
+            public class Sample {
+
+                @Usage
+                public String zeta(String name) {
+                    return "zeta " + name;
+                }
+
+                public static int alpha(int value) {
+                    return value * 2;
+                }
+
+                private void hidden() {
+                }
+
+                @SubCommand("inner")
+                public static class Inner {
+
+                    @Usage
+                    public void run(String[] args) {
+                    }
+                }
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    TestCommandIndexProcessor() {
+    }
+
+    @Test
+    public void testIndexIsGeneratedAndCompiled() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter diagnostics = new StringWriter();
+        var task = compiler.getTask(
+                diagnostics, null, null,
+                List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")),
+                null,
+                List.of(new SimpleJavaFileObject(URI.create("string:///sample/Sample.java"), SimpleJavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return SOURCE;
+                    }
+                })
+        );
+        task.setProcessors(List.of(new CommandIndexProcessor()));
+        Assertions.assertTrue(task.call(), diagnostics.toString());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> sample = loader.loadClass("sample.Sample");
+            var index = (GeneratedCommandIndex) loader.loadClass(GeneratedCommandIndex.indexNameOf(sample))
+                    .getDeclaredConstructor().newInstance();
+
+            Assertions.assertEquals(
+                    List.of("zeta(Ljava/lang/String;)Ljava/lang/String;", "alpha(I)I", "hidden()V"),
+                    index.methods()
+            );
+            Assertions.assertEquals(List.of("sample.Sample$Inner"), index.innerClasses());
+
+            MethodCaller zeta = index.caller("zeta(Ljava/lang/String;)Ljava/lang/String;");
+            Assertions.assertNotNull(zeta);
+            Assertions.assertEquals("zeta x", zeta.call(sample.getDeclaredConstructor().newInstance(), "x"));
+            MethodCaller alpha = index.caller("alpha(I)I");
+            Assertions.assertNotNull(alpha);
+            Assertions.assertEquals(6, alpha.call(null, 3));
+            Assertions.assertNull(index.caller("hidden()V"));
+
+            Class<?> inner = loader.loadClass("sample.Sample$Inner");
+            var innerIndex = (GeneratedCommandIndex) loader.loadClass(GeneratedCommandIndex.indexNameOf(inner))
+                    .getDeclaredConstructor().newInstance();
+            Assertions.assertEquals(List.of("run([Ljava/lang/String;)V"), innerIndex.methods());
+            Assertions.assertNotNull(innerIndex.caller("run([Ljava/lang/String;)V"));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.command.tree.ParameterNode;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.context.ArgumentQueue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class TestDispatchAutomaton {
+
+    private static final int SUBCOMMANDS = 40;
+
+    private final TestImperat imperat = TestImperatConfig.builder().build();
+
+    TestDispatchAutomaton() {
+    }
+
+    private CommandDispatch<TestSource> match(Command<TestSource> command, String input) {
+        return command.tree().contextMatch(ArgumentQueue.parse(input), imperat.config());
+    }
+
+    private static List<String> formats(CommandDispatch<TestSource> dispatch) {
+        List<String> formats = new ArrayList<>();
+        for (ParameterNode<TestSource, ?> node : dispatch) {
+            formats.add(node.format());
+        }
+        return formats;
+    }
+
+    private Command<TestSource> manySubCommands() {
+        var builder = Command.create(imperat, "many")
+                .defaultExecution((source, context) -> {});
+        for (int i = 0; i < SUBCOMMANDS; i++) {
+            builder.subCommand(Command.create(imperat, "sub" + i)
+                    .aliases("s" + i)
+                    .usage(CommandUsage.<TestSource>builder()
+                            .parameters(CommandParameter.requiredText("value" + i))
+                            .execute((source, context) -> {}))
+                    .build());
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testLiteralLookup() {
+        var command = manySubCommands();
+        for (int i = 0; i < SUBCOMMANDS; i++) {
+            for (String literal : new String[]{"sub" + i, "SUB" + i, "s" + i}) {
+                var dispatch = match(command, literal + " x");
+                Assertions.assertEquals(CommandDispatch.Result.COMPLETE, dispatch.getResult(), literal);
+                Assertions.assertEquals("<value" + i + ">", dispatch.getLastNode().format(), literal);
+            }
+        }
+        Assertions.assertNotEquals(CommandDispatch.Result.COMPLETE, match(command, "sub" + SUBCOMMANDS + " x").getResult());
+    }
+
+    @Test
+    public void testOptionalSkipping() {
+        var command = Command.create(imperat, "skip")
+                .usage(CommandUsage.<TestSource>builder()
+                        .parameters(
+                                CommandParameter.requiredText("name"),
+                                CommandParameter.<TestSource>optionalInt("count").defaultValue(1),
+                                CommandParameter.requiredText("reason")
+                        )
+                        .execute((source, context) -> {}))
+                .build();
+
+        var full = match(command, "mqzen 5 spam");
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, full.getResult());
+        Assertions.assertEquals(List.of("skip", "<name>", "[count]", "<reason>"), formats(full));
+
+        // not a number, so the optional count is skipped over
+        var skipped = match(command, "mqzen spam");
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, skipped.getResult());
+        Assertions.assertEquals("<reason>", skipped.getLastNode().format());
+    }
+
+    @Test
+    public void testRecompiledAfterChange() {
+        var command = Command.create(imperat, "grow")
+                .usage(CommandUsage.<TestSource>builder()
+                        .parameters(CommandParameter.requiredText("first"))
+                        .execute((source, context) -> {}))
+                .build();
+        command.tree().compile();
+        Assertions.assertNotEquals(CommandDispatch.Result.COMPLETE, match(command, "a b").getResult());
+
+        command.tree().parseUsage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.requiredText("first"), CommandParameter.requiredText("second"))
+                .execute((source, context) -> {})
+                .build(command));
+        var dispatch = match(command, "a b");
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, dispatch.getResult());
+        Assertions.assertEquals("<second>", dispatch.getLastNode().format());
+    }
+
+    @Test
+    public void testLiteralsTriedInDeclarationOrder() {
+        // "beta" is both the name of a subcommand and an alias of another, whichever child comes first wins
+        var command = Command.create(imperat, "order")
+                .subCommand(Command.create(imperat, "alpha")
+                        .aliases("beta")
+                        .usage(CommandUsage.<TestSource>builder()
+                                .parameters(CommandParameter.requiredText("alphaValue"))
+                                .execute((source, context) -> {}))
+                        .build())
+                .subCommand(Command.create(imperat, "beta")
+                        .usage(CommandUsage.<TestSource>builder()
+                                .parameters(CommandParameter.requiredText("betaValue"))
+                                .execute((source, context) -> {}))
+                        .build())
+                .build();
+
+        String expected = null;
+        for (var child : command.tree().getRoot().getChildren()) {
+            if (child.getData().name().equals("alpha") || child.getData().name().equals("beta")) {
+                expected = child.getData().name().equals("alpha") ? "<alphaValue>" : "<betaValue>";
+                break;
+            }
+        }
+        var dispatch = match(command, "beta x");
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, dispatch.getResult());
+        Assertions.assertEquals(expected, dispatch.getLastNode().format());
+    }
+
+    @Test
+    public void testLiteralLookupIgnoresDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            var command = Command.create(imperat, "turkish")
+                    .subCommand(Command.create(imperat, "QUIT")
+                            .aliases("EXIT")
+                            .usage(CommandUsage.<TestSource>builder()
+                                    .parameters(CommandParameter.requiredText("reason"))
+                                    .execute((source, context) -> {}))
+                            .build())
+                    .build();
+            for (String literal : new String[]{"quit", "QUIT", "exit", "Exit"}) {
+                Assertions.assertEquals(CommandDispatch.Result.COMPLETE, match(command, literal + " x").getResult(), literal);
+            }
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.AttachmentMode;
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.exception.ImperatException;
+import dev.velix.imperat.help.PaginatedHelpTemplate;
+import dev.velix.imperat.help.UsageFormatter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestHelpRendering {
+
+    private final TestImperat imperat = TestImperatConfig.builder().build();
+    private final AtomicInteger formatted = new AtomicInteger();
+    private final PaginatedHelpTemplate<TestSource> template = new PaginatedHelpTemplate<>(new CountingFormatter(), 10) {
+        @Override
+        public String getHeader(Command<TestSource> command, int currentPage, int maxPages) {
+            return "";
+        }
+
+        @Override
+        public String getFooter(Command<TestSource> command, int currentPage, int maxPages) {
+            return "";
+        }
+
+        @Override
+        public void displayHeaderHyphen(Command<TestSource> command, Source source, int page, int maxPages) {
+        }
+
+        @Override
+        public void displayFooterHyphen(Command<TestSource> command, Source source, int page, int maxPages) {
+        }
+    };
+
+    TestHelpRendering() {
+    }
+
+    private static CommandUsage.Builder<TestSource> usage(String parameter) {
+        return CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.requiredText(parameter))
+                .execute((source, context) -> {});
+    }
+
+    private String help(Command<TestSource> command) throws ImperatException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TestSource source = new TestSource(new PrintStream(output, true, StandardCharsets.UTF_8));
+        var contextFactory = imperat.config().getContextFactory();
+        var context = contextFactory.createContext(imperat, source, command, command.name(), ArgumentQueue.parse(""));
+        template.provide(contextFactory.createResolvedContext(context, command.getDefaultUsage()), source);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testHelpIsRenderedOnce() throws ImperatException {
+        Command<TestSource> command = Command.create(imperat, "helped").usage(usage("first")).build();
+
+        String first = help(command);
+        Assertions.assertTrue(first.contains("helped <first>"), first);
+        int renders = formatted.get();
+
+        Assertions.assertEquals(first, help(command));
+        Assertions.assertEquals(renders, formatted.get());
+    }
+
+    @Test
+    public void testHelpIsRenderedAgainOnceUsageIsAdded() throws ImperatException {
+        Command<TestSource> command = Command.create(imperat, "helped").usage(usage("first")).build();
+        Assertions.assertFalse(help(command).contains("helped <second>"));
+
+        command.addUsage(usage("second"));
+        String help = help(command);
+        Assertions.assertTrue(help.contains("helped <first>"), help);
+        Assertions.assertTrue(help.contains("helped <second>"), help);
+    }
+
+    @Test
+    public void testHelpIsRenderedAgainOnceSubCommandIsAdded() throws ImperatException {
+        Command<TestSource> command = Command.create(imperat, "helped").usage(usage("first")).build();
+        Assertions.assertFalse(help(command).contains("sub"));
+
+        command.addSubCommandUsage("sub", List.of(), usage("target"), AttachmentMode.MAIN);
+        String help = help(command);
+        Assertions.assertTrue(help.contains("helped <first> sub <target>"), help);
+    }
+
+    @Test
+    public void testModificationsIncludeSubCommands() {
+        Command<TestSource> command = Command.create(imperat, "helped").usage(usage("first")).build();
+        int modifications = command.modifications();
+
+        command.addSubCommandUsage("sub", List.of(), usage("target"), AttachmentMode.MAIN);
+        Assertions.assertNotEquals(modifications, command.modifications());
+
+        // a subcommand modified once attached, as rendered by the help of its parent
+        Command<TestSource> sub = command.getSubCommand("sub");
+        Assertions.assertNotNull(sub);
+        modifications = command.modifications();
+        sub.describe("a subcommand");
+        Assertions.assertNotEquals(modifications, command.modifications());
+
+        modifications = command.modifications();
+        sub.addAliases("alias");
+        Assertions.assertNotEquals(modifications, command.modifications());
+    }
+
+    private final class CountingFormatter implements UsageFormatter {
+
+        @Override
+        public <S extends Source> String format(Command<S> command, CommandUsage<S> usage, int index) {
+            formatted.incrementAndGet();
+            return CommandUsage.format(command, usage);
+        }
+    }
+}
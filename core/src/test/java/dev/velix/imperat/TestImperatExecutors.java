@@ -0,0 +1,79 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.util.ImperatExecutors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TestImperatExecutors {
+
+    TestImperatExecutors() {
+    }
+
+    @Test
+    public void testSameThreadRunsOnSubmitter() {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        ImperatExecutors.sameThread().execute(() -> ranOn.set(Thread.currentThread()));
+        // ran before execute returned
+        Assertions.assertSame(Thread.currentThread(), ranOn.get());
+    }
+
+    @Test
+    public void testBoundedRunsOnDaemonThreads() throws InterruptedException {
+        ExecutorService executor = ImperatExecutors.bounded("bounded-test", 1, 1);
+        try {
+            AtomicReference<Thread> ranOn = new AtomicReference<>();
+            CountDownLatch done = new CountDownLatch(1);
+            executor.execute(() -> {
+                ranOn.set(Thread.currentThread());
+                done.countDown();
+            });
+            Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+            Assertions.assertNotSame(Thread.currentThread(), ranOn.get());
+            Assertions.assertTrue(ranOn.get().isDaemon());
+            Assertions.assertTrue(ranOn.get().getName().startsWith("bounded-test-"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBoundedRunsOnSubmitterOnceQueueIsFull() throws InterruptedException {
+        ExecutorService executor = ImperatExecutors.bounded("bounded-test", 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        try {
+            // occupies the only thread
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            // fills the queue
+            executor.execute(() -> {});
+
+            AtomicReference<Thread> ranOn = new AtomicReference<>();
+            executor.execute(() -> ranOn.set(Thread.currentThread()));
+            // neither queued nor rejected, the submitter ran it
+            Assertions.assertSame(Thread.currentThread(), ranOn.get());
+        } finally {
+            unblock.countDown();
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testBoundedRejectsInvalidSizes() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ImperatExecutors.bounded("bounded-test", 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ImperatExecutors.bounded("bounded-test", 1, 0));
+    }
+}
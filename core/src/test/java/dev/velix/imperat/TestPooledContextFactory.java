@@ -0,0 +1,130 @@
+package dev.velix.imperat;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandCoordinator;
+import dev.velix.imperat.command.CommandExecution;
+import dev.velix.imperat.command.parameters.type.ParameterCompletableFuture;
+import dev.velix.imperat.command.parameters.type.ParameterType;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.ResolvedContext;
+import dev.velix.imperat.context.internal.CommandInputStream;
+import dev.velix.imperat.context.internal.ContextFactory;
+import dev.velix.imperat.util.TypeWrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+public class TestPooledContextFactory {
+
+    private final ContextFactory<TestSource> factory = ContextFactory.pooledFactory();
+    private final TestImperat imperat = TestImperatConfig.builder()
+            .contextFactory(factory)
+            .build();
+    private final Command<TestSource> command = Command.create(imperat, "pooled")
+            .defaultExecution((source, context) -> {})
+            .build();
+
+    TestPooledContextFactory() {
+    }
+
+    private Context<TestSource> create(String args) {
+        return factory.createContext(imperat, SOURCE, command, "pooled", ArgumentQueue.parse(args));
+    }
+
+    @Test
+    public void testReuseAfterRelease() {
+        Context<TestSource> first = create("a b");
+        factory.release(first);
+
+        Context<TestSource> second = create("c");
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(List.of("c"), List.copyOf(second.arguments()));
+
+        // not released yet, so a new one is created
+        Context<TestSource> third = create("d");
+        Assertions.assertNotSame(second, third);
+    }
+
+    @Test
+    public void testDoubleRelease() {
+        Context<TestSource> context = create("a");
+        factory.release(context);
+        Assertions.assertThrows(IllegalStateException.class, () -> factory.release(context));
+        Assertions.assertThrows(IllegalStateException.class, () -> factory.retain(context));
+    }
+
+    @Test
+    public void testAsyncCoordinatorRetainsContext() throws Throwable {
+        List<Runnable> tasks = new ArrayList<>();
+        CommandCoordinator<TestSource> coordinator = CommandCoordinator.async(tasks::add);
+
+        Context<TestSource> plain = create("a");
+        ResolvedContext<TestSource> resolved = factory.createResolvedContext(plain, command.getDefaultUsage());
+        List<String> executedWith = new ArrayList<>();
+        CommandExecution<TestSource> execution = (source, context) -> executedWith.add(context.label());
+
+        coordinator.coordinate(imperat, SOURCE, resolved, execution);
+        // the dispatch is done with its contexts, yet the execution hasn't run
+        factory.release(resolved);
+        factory.release(plain);
+        Assertions.assertEquals(1, tasks.size());
+
+        ResolvedContext<TestSource> meanwhile = factory.createResolvedContext(create("b"), command.getDefaultUsage());
+        Assertions.assertNotSame(resolved, meanwhile);
+
+        tasks.get(0).run();
+        Assertions.assertEquals(List.of("pooled"), executedWith);
+
+        // released by the execution, so it may be reused now
+        ResolvedContext<TestSource> after = factory.createResolvedContext(create("c"), command.getDefaultUsage());
+        Assertions.assertSame(resolved, after);
+    }
+
+    @Test
+    public void testAsyncCoordinatorReleasesRejectedContext() {
+        Executor rejecting = (task) -> {
+            throw new RejectedExecutionException("full");
+        };
+        CommandCoordinator<TestSource> coordinator = CommandCoordinator.async(rejecting);
+        ResolvedContext<TestSource> resolved = factory.createResolvedContext(create("a"), command.getDefaultUsage());
+
+        Assertions.assertThrows(RejectedExecutionException.class,
+                () -> coordinator.coordinate(imperat, SOURCE, resolved, (source, context) -> {}));
+        factory.release(resolved);
+
+        // only the dispatch held it, the rejected execution didn't keep it
+        ResolvedContext<TestSource> after = factory.createResolvedContext(create("b"), command.getDefaultUsage());
+        Assertions.assertSame(resolved, after);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFutureParameterReleasesRejectedContext() {
+        imperat.config().setCommandExecutor((task) -> {
+            throw new RejectedExecutionException("full");
+        });
+        var futureType = new ParameterCompletableFuture<>(
+                new TypeWrap<CompletableFuture<String>>() {},
+                (ParameterType<TestSource, String>) imperat.config().getParameterType(String.class)
+        );
+        ResolvedContext<TestSource> resolved = factory.createResolvedContext(create("a"), command.getDefaultUsage());
+        var stream = CommandInputStream.of(resolved.arguments(), command.getDefaultUsage());
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> futureType.resolve(resolved, stream, "a"));
+        factory.release(resolved);
+
+        ResolvedContext<TestSource> after = factory.createResolvedContext(create("b"), command.getDefaultUsage());
+        Assertions.assertSame(resolved, after);
+    }
+}
@@ -13,10 +13,17 @@ import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.BaseParameterType;
 import dev.velix.imperat.command.parameters.type.ParameterType;
 import dev.velix.imperat.command.parameters.type.ParameterTypes;
+import dev.velix.imperat.command.suggestions.SuggestionCachePolicy;
+import dev.velix.imperat.command.suggestions.SuggestionRanking;
 import dev.velix.imperat.command.tree.CommandDispatch;
 import dev.velix.imperat.commands.ParameterDuration;
 import dev.velix.imperat.commands.RankCommand;
 import dev.velix.imperat.commands.TestAC;
+import dev.velix.imperat.commands.TestFlagBag;
+import dev.velix.imperat.commands.TestFlagBagOverlap;
+import dev.velix.imperat.commands.TestTrailingFlags;
+import dev.velix.imperat.commands.TestValues;
+import dev.velix.imperat.commands.ValuesCommands;
 import dev.velix.imperat.commands.annotations.examples.*;
 import dev.velix.imperat.context.ArgumentQueue;
 import dev.velix.imperat.context.Context;
@@ -42,8 +49,12 @@ import dev.velix.imperat.components.TestSource;
 import dev.velix.imperat.paramtypes.TestCompletableFutureParam;
 import dev.velix.imperat.paramtypes.TestJavaOptionalParam;
 import dev.velix.imperat.paramtypes.TestPlayer;
+import dev.velix.imperat.paramtypes.ParameterShort;
 import dev.velix.imperat.paramtypes.TestPlayerParamType;
 import dev.velix.imperat.special.PartyCommand;
+import dev.velix.imperat.resolvers.CachingPermissionResolver;
+import dev.velix.imperat.resolvers.PermissionResolver;
+import dev.velix.imperat.resolvers.SuggestionResolver;
 import dev.velix.imperat.util.ImperatDebugger;
 import dev.velix.imperat.util.TypeWrap;
 import dev.velix.imperat.verification.UsageVerifier;
@@ -635,6 +646,214 @@ public class TestRun {
         Assertions.assertLinesMatch(Stream.of("2", "5", "10"), results2.stream());
     }
 
+    @Test
+    public void testValuesSuggestionsStayOnTheirParameter() {
+        IMPERAT.registerCommand(new TestValues());
+
+        var cmd = IMPERAT.getCommand("testvalues");
+        assert cmd != null;
+
+        var results = IMPERAT.autoComplete(cmd, new TestSource(System.out), "testvalues", new String[]{""}).join();
+        Assertions.assertLinesMatch(Stream.of("on", "off"), results.stream());
+
+        // the plain String parameter shares its type with the constrained one, but not its values
+        var results2 = IMPERAT.autoComplete(cmd, new TestSource(System.out), "testvalues", new String[]{"on", ""}).join();
+        Assertions.assertTrue(results2.isEmpty(), "Unexpected suggestions " + results2);
+        var stringType = IMPERAT.config().getParameterType(String.class);
+        Assertions.assertTrue(stringType == null || stringType.getSuggestionResolver() == null);
+    }
+
+    @Test
+    public void testBulkRegistrationOfValuesCommands() {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            TestImperat imperat = TestImperatConfig.builder().build();
+            imperat.registerCommands(List.of(ValuesCommands.all()));
+
+            for (int i = 0; i < ValuesCommands.VALUES.length; i++) {
+                String name = "values" + (i + 1);
+                var cmd = imperat.getCommand(name);
+                Assertions.assertNotNull(cmd);
+
+                var results = imperat.autoComplete(cmd, new TestSource(System.out), name, new String[]{""}).join();
+                Assertions.assertLinesMatch(Stream.of(ValuesCommands.VALUES[i]), results.stream());
+
+                var results2 = imperat.autoComplete(cmd, new TestSource(System.out), name, new String[]{ValuesCommands.VALUES[i][0], ""}).join();
+                Assertions.assertTrue(results2.isEmpty(), "Unexpected suggestions " + results2);
+            }
+        }
+    }
+
+    @Test
+    public void testSuggestionsAfterFlagBag() {
+        IMPERAT.registerCommand(new TestFlagBag());
+
+        var cmd = IMPERAT.getCommand("flagbag");
+        assert cmd != null;
+
+        var results = IMPERAT.autoComplete(cmd, new TestSource(System.out), "flagbag", new String[]{"mqzen", "-t", "7d", "-s", ""}).join();
+        Assertions.assertLinesMatch(Stream.of("cheating", "spamming"), results.stream());
+
+        // the flags took two arguments then none, the parameters after them must follow wherever they ended
+        var results2 = IMPERAT.autoComplete(cmd, new TestSource(System.out), "flagbag", new String[]{"mqzen", "-t", "7d", "cheating", ""}).join();
+        Assertions.assertLinesMatch(Stream.of("first", "second"), results2.stream());
+
+        var results3 = IMPERAT.autoComplete(cmd, new TestSource(System.out), "flagbag", new String[]{"mqzen", "cheating", ""}).join();
+        Assertions.assertLinesMatch(Stream.of("first", "second"), results3.stream());
+    }
+
+    @Test
+    public void testLoneFlagSharingNameWithFlagBag() {
+        IMPERAT.registerCommand(new TestFlagBagOverlap());
+
+        // [-silent] [-time <time>]
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("flagbagoverlap", "-s -t 7d"));
+        // [-silent] <target>, the lone flag isn't mistaken for the bag starting with the same flag
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("flagbagoverlap", "-s mqzen"));
+        // the target doesn't follow the bag
+        Assertions.assertNotEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("flagbagoverlap", "-s -t 7d mqzen"));
+
+        var cmd = IMPERAT.getCommand("flagbagoverlap");
+        assert cmd != null;
+        var results = IMPERAT.autoComplete(cmd, new TestSource(System.out), "flagbagoverlap", new String[]{"-s", "m"}).join();
+        Assertions.assertLinesMatch(Stream.of("mqzen"), results.stream());
+        var results3 = IMPERAT.autoComplete(cmd, new TestSource(System.out), "flagbagoverlap", new String[]{"-s", "-"}).join();
+        Assertions.assertTrue(results3.contains("-time"), "Missing the bag's flag in " + results3);
+        var results2 = IMPERAT.autoComplete(cmd, new TestSource(System.out), "flagbagoverlap", new String[]{"-s", "-t", "7d", "m"}).join();
+        Assertions.assertTrue(results2.isEmpty(), "Unexpected suggestions " + results2);
+    }
+
+    @Test
+    public void testTrailingFlagMissingItsValue() {
+        IMPERAT.registerCommand(new TestTrailingFlags());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("trailingflags", "mqzen -t 7d"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("trailingflags", "mqzen -s"));
+        Assertions.assertNotEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("trailingflags", "mqzen -t"));
+        Assertions.assertNotEquals(CommandDispatch.Result.COMPLETE, testCmdTreeExecution("trailingflags", "mqzen -s -t"));
+    }
+
+    @Test
+    public void testPrefixRankingCase() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerCommand(new TestValues());
+        var cmd = imperat.getCommand("testvalues");
+        assert cmd != null;
+
+        var results = imperat.autoComplete(cmd, new TestSource(System.out), "testvalues", new String[]{"O"}).join();
+        Assertions.assertTrue(results.isEmpty(), "Unexpected suggestions " + results);
+
+        TestImperat ignoringCase = TestImperatConfig.builder()
+                .suggestionRanking(SuggestionRanking.prefixIgnoringCase())
+                .build();
+        ignoringCase.registerCommand(new TestValues());
+        var cmd2 = ignoringCase.getCommand("testvalues");
+        assert cmd2 != null;
+
+        var results2 = ignoringCase.autoComplete(cmd2, new TestSource(System.out), "testvalues", new String[]{"O"}).join();
+        Assertions.assertLinesMatch(Stream.of("on", "off"), results2.stream());
+    }
+
+    @Test
+    public void testCachedSuggestionsFollowTheRanking() {
+        TestImperat fuzzy = TestImperatConfig.builder()
+                .suggestionRanking(SuggestionRanking.fuzzy())
+                .suggestionCachePolicy(String.class, SuggestionCachePolicy.global(java.time.Duration.ofMinutes(1)))
+                .build();
+        fuzzy.registerCommand(new TestValues());
+        var cmd = fuzzy.getCommand("testvalues");
+        assert cmd != null;
+
+        var results = fuzzy.autoComplete(cmd, new TestSource(System.out), "testvalues", new String[]{"f"}).join();
+        Assertions.assertLinesMatch(Stream.of("off"), results.stream());
+        var results2 = fuzzy.autoComplete(cmd, new TestSource(System.out), "testvalues", new String[]{"ff"}).join();
+        Assertions.assertLinesMatch(Stream.of("off"), results2.stream());
+
+        TestImperat ignoringCase = TestImperatConfig.builder()
+                .suggestionRanking(SuggestionRanking.prefixIgnoringCase())
+                .suggestionCachePolicy(String.class, SuggestionCachePolicy.global(java.time.Duration.ofMinutes(1)))
+                .build();
+        ignoringCase.registerCommand(new TestValues());
+        var cmd2 = ignoringCase.getCommand("testvalues");
+        assert cmd2 != null;
+
+        var results3 = ignoringCase.autoComplete(cmd2, new TestSource(System.out), "testvalues", new String[]{"O"}).join();
+        Assertions.assertLinesMatch(Stream.of("on", "off"), results3.stream());
+        var results4 = ignoringCase.autoComplete(cmd2, new TestSource(System.out), "testvalues", new String[]{"OF"}).join();
+        Assertions.assertLinesMatch(Stream.of("off"), results4.stream());
+    }
+
+    @Test
+    public void testPlainSuggestionsStayLive() {
+        List<String> suggestions = new java.util.ArrayList<>(List.of("first"));
+        SuggestionResolver<TestSource> plain = SuggestionResolver.plain(suggestions);
+        SuggestionResolver<TestSource> indexed = SuggestionResolver.indexed(suggestions);
+
+        suggestions.add("second");
+        Assertions.assertLinesMatch(Stream.of("first", "second"), plain.autoComplete(null, null).stream());
+        Assertions.assertLinesMatch(Stream.of("first"), indexed.autoComplete(null, null).stream());
+    }
+
+    @Test
+    public void testParameterTypeSuggestionsFollowChanges() {
+        var bool = ParameterTypes.<TestSource>bool();
+        Assertions.assertLinesMatch(Stream.of("true", "false"), bool.getSuggestionResolver().autoComplete(null, null).stream());
+
+        bool.setAllowVariants(true);
+        Assertions.assertTrue(bool.getSuggestionResolver().autoComplete(null, null).contains("yes"));
+
+        bool.setAllowVariants(false);
+        Assertions.assertLinesMatch(Stream.of("true", "false"), bool.getSuggestionResolver().autoComplete(null, null).stream());
+    }
+
+    @Test
+    public void testExternalNumberType() {
+        var type = new ParameterShort();
+        Assertions.assertTrue(type.matchesInput("12", null));
+        Assertions.assertTrue(type.matchesInput("-32768", null));
+        Assertions.assertFalse(type.matchesInput("32768", null));
+        Assertions.assertFalse(type.matchesInput("1.5", null));
+        Assertions.assertEquals((short) 12, type.tryParse("12"));
+        Assertions.assertNull(type.tryParse("twelve"));
+    }
+
+    @Test
+    public void testPermissionCacheWrapsLaterResolver() {
+        PermissionResolver<TestSource> resolver = (source, permission) -> true;
+        TestImperat imperat = TestImperatConfig.builder()
+                .permissionCache(Duration.ofMinutes(1))
+                .permissionResolver(resolver)
+                .build();
+
+        var cached = imperat.config().getPermissionResolver();
+        Assertions.assertInstanceOf(CachingPermissionResolver.class, cached);
+        Assertions.assertSame(resolver, ((CachingPermissionResolver<TestSource>) cached).getDelegate());
+    }
+
+    @Test
+    public void testArgumentViews() {
+        ArgumentQueue queue = ArgumentQueue.parse("sub \"quoted arg\" x\"y\"");
+        Assertions.assertEquals(3, queue.size());
+        Assertions.assertEquals("sub", queue.view(0).toString());
+        Assertions.assertEquals("quoted arg", queue.view(1).toString());
+        Assertions.assertEquals("xy", queue.view(2).toString());
+        Assertions.assertEquals("ub", queue.view(0).subSequence(1, 3).toString());
+        for (int i = 0; i < queue.size(); i++) {
+            Assertions.assertTrue(queue.get(i).contentEquals(queue.view(i)));
+        }
+
+        queue.set(0, "other");
+        Assertions.assertEquals("other", queue.view(0).toString());
+    }
+
+    @Test
+    public void testValuesExecution() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        imperat.registerCommand(new TestValues());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "testvalues", "off note"));
+        Assertions.assertEquals(CommandDispatch.Result.FAILURE, imperat.dispatch(SOURCE, "testvalues", "maybe note"));
+    }
+
     /*@Test
     public void testCumulativeSuggestions2() {
         //tests if it respects the order of the nodes during suggestion resolving.
@@ -0,0 +1,75 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.SuggestionCachePolicy;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.resolvers.SuggestionResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestSuggestionCache {
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final SuggestionResolver<TestSource> counting = (context, parameter) -> {
+        resolutions.incrementAndGet();
+        return List.of("alpha", "alps", "beta");
+    };
+
+    TestSuggestionCache() {
+    }
+
+    private TestImperat imperatCaching(Duration ttl) {
+        TestImperat imperat = TestImperatConfig.builder()
+                .suggestionCachePolicy(counting, SuggestionCachePolicy.global(ttl))
+                .build();
+        imperat.registerCommand(Command.create(imperat, "cached")
+                .usage(CommandUsage.<TestSource>builder()
+                        .parameters(CommandParameter.<TestSource>requiredText("name").suggest(counting))
+                        .execute((source, context) -> {}))
+                .build());
+        return imperat;
+    }
+
+    private List<String> complete(TestImperat imperat, String input) {
+        var command = imperat.getCommand("cached");
+        assert command != null;
+        return imperat.autoComplete(command, new TestSource(System.out), "cached", new String[]{input}).join();
+    }
+
+    @Test
+    public void testLongerInputReusesEntry() {
+        TestImperat imperat = imperatCaching(Duration.ofMinutes(1));
+
+        Assertions.assertEquals(List.of("alpha", "alps"), complete(imperat, "a"));
+        Assertions.assertEquals(List.of("alpha", "alps"), complete(imperat, "al"));
+        Assertions.assertEquals(List.of("alpha"), complete(imperat, "alph"));
+        Assertions.assertEquals(1, resolutions.get());
+
+        // not starting with the cached input, so resolved again
+        Assertions.assertEquals(List.of("beta"), complete(imperat, "b"));
+        Assertions.assertEquals(2, resolutions.get());
+        Assertions.assertEquals(List.of("alpha", "alps", "beta"), complete(imperat, ""));
+        Assertions.assertEquals(3, resolutions.get());
+    }
+
+    @Test
+    public void testExpiredEntryIsResolvedAgain() throws InterruptedException {
+        TestImperat imperat = imperatCaching(Duration.ofMillis(50));
+
+        Assertions.assertEquals(List.of("alpha", "alps"), complete(imperat, "a"));
+        Assertions.assertEquals(List.of("alpha", "alps"), complete(imperat, "a"));
+        Assertions.assertEquals(1, resolutions.get());
+
+        Thread.sleep(100);
+        Assertions.assertEquals(List.of("alpha", "alps"), complete(imperat, "a"));
+        Assertions.assertEquals(2, resolutions.get());
+    }
+}
@@ -0,0 +1,161 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.suggestions.SuggestionCollector;
+import dev.velix.imperat.command.suggestions.SuggestionRanking;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.commands.TestValues;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.context.Source;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.UUID;
+
+public class TestSuggestionRanking {
+
+    TestSuggestionRanking() {
+    }
+
+    private static Source player(String name) {
+        return new Source() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Object origin() {
+                return this;
+            }
+
+            @Override
+            public void reply(String message) {
+            }
+
+            @Override
+            public void warn(String message) {
+            }
+
+            @Override
+            public void error(String message) {
+            }
+
+            @Override
+            public boolean isConsole() {
+                return false;
+            }
+
+            @Override
+            public UUID uuid() {
+                return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    @Test
+    public void testCollectorOrdersByRank() {
+        // fuzzy: 2 for a prefix, 1 for containing the input, 0 for its characters in order
+        var collector = new SuggestionCollector(10, SuggestionRanking.fuzzy(), "ab");
+        for (String suggestion : List.of("xab", "axb", "abc", "zzz", "abd", "abc")) {
+            Assertions.assertTrue(collector.accept(suggestion));
+        }
+        Assertions.assertEquals(List.of("abc", "abd", "xab", "axb"), collector.toList());
+    }
+
+    @Test
+    public void testCollectorKeepsTheBestWithinTheLimit() {
+        var collector = new SuggestionCollector(2, SuggestionRanking.fuzzy(), "ab");
+        for (String suggestion : List.of("axb", "xab", "abc", "xxab", "abd")) {
+            collector.accept(suggestion);
+        }
+        Assertions.assertEquals(List.of("abc", "abd"), collector.toList());
+    }
+
+    @Test
+    public void testCollectorStopsOnceSaturated() {
+        var collector = new SuggestionCollector(2, SuggestionRanking.fuzzy(), "ab");
+        Assertions.assertTrue(collector.accept("xab"));
+        Assertions.assertTrue(collector.accept("abc"));
+        // full, though a better suggestion may still come
+        Assertions.assertTrue(collector.accept("axb"));
+        Assertions.assertFalse(collector.isSaturated());
+        // full with suggestions of the top rank, nothing better can come
+        Assertions.assertFalse(collector.accept("abd"));
+        Assertions.assertTrue(collector.isSaturated());
+        Assertions.assertFalse(collector.accept("abe"));
+        Assertions.assertEquals(List.of("abc", "abd"), collector.toList());
+
+        var counted = new int[1];
+        var prefix = new SuggestionCollector(3, SuggestionRanking.prefix(), "a");
+        prefix.acceptAll(new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                counted[0]++;
+                return "a" + index;
+            }
+
+            @Override
+            public int size() {
+                return 1000;
+            }
+        });
+        Assertions.assertEquals(3, counted[0]);
+    }
+
+    @Test
+    public void testRecencyIsPerSource() {
+        var ranking = SuggestionRanking.recency(SuggestionRanking.prefix(), 2);
+        Source bob = player("bob");
+        Source alice = player("alice");
+
+        ranking.remember(bob, "kick");
+        var forBob = ranking.forSource(bob);
+        Assertions.assertTrue(forBob.rank("", "kick") > forBob.rank("", "ban"));
+        var forAlice = ranking.forSource(alice);
+        Assertions.assertEquals(forAlice.rank("", "kick"), forAlice.rank("", "ban"));
+
+        var collector = new SuggestionCollector(10, ranking.forSource(bob), "");
+        collector.acceptAll(List.of("ban", "kick", "mute"));
+        Assertions.assertEquals(List.of("kick", "ban", "mute"), collector.toList());
+    }
+
+    @Test
+    public void testRecencyForgetsPastItsCapacity() {
+        var ranking = SuggestionRanking.recency(SuggestionRanking.prefix(), 2);
+        Source bob = player("bob");
+        ranking.remember(bob, "first");
+        ranking.remember(bob, "second");
+        ranking.remember(bob, "third");
+
+        var forBob = ranking.forSource(bob);
+        Assertions.assertTrue(forBob.rank("", "third") > forBob.rank("", "second"));
+        Assertions.assertTrue(forBob.rank("", "second") > forBob.rank("", "first"));
+        Assertions.assertEquals(forBob.rank("", "unused"), forBob.rank("", "first"));
+    }
+
+    @Test
+    public void testOnlySuggestedArgumentsAreRemembered() {
+        TestImperat imperat = TestImperatConfig.builder()
+                .suggestionRanking(SuggestionRanking.recency(SuggestionRanking.prefix(), 8))
+                .build();
+        imperat.registerCommand(new TestValues());
+        TestSource source = new TestSource(System.out);
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(source, "testvalues", "off secret"));
+
+        var ranking = imperat.config().getSuggestionRanking().forSource(source);
+        Assertions.assertTrue(ranking.rank("", "off") > ranking.rank("", "on"));
+        // free text, without suggestions
+        Assertions.assertEquals(ranking.rank("", "unused"), ranking.rank("", "secret"));
+
+        var cmd = imperat.getCommand("testvalues");
+        assert cmd != null;
+        var results = imperat.autoComplete(cmd, source, "testvalues", new String[]{""}).join();
+        Assertions.assertEquals(List.of("off", "on"), results);
+    }
+}
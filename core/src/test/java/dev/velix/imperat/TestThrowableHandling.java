@@ -0,0 +1,127 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.exception.ImperatException;
+import dev.velix.imperat.exception.SourceException;
+import dev.velix.imperat.exception.ThrowableResolver;
+import dev.velix.imperat.util.ImperatDebugger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class TestThrowableHandling {
+
+    private static final TestSource SOURCE = new TestSource(System.out);
+
+    private boolean debugging;
+
+    TestThrowableHandling() {
+    }
+
+    // stack traces are always captured while debugging, which other tests enable
+    @BeforeEach
+    void disableDebugging() {
+        debugging = ImperatDebugger.isEnabled();
+        ImperatDebugger.setEnabled(false);
+    }
+
+    @AfterEach
+    void restoreDebugging() {
+        ImperatDebugger.setEnabled(debugging);
+    }
+
+    // the error is constructed while dispatching, as that's when user errors may be stackless
+    private static <E extends ImperatException> Throwable dispatchFailing(TestImperat imperat, Class<E> type, Supplier<E> error) {
+        AtomicReference<Throwable> handled = new AtomicReference<>();
+        imperat.config().setThrowableResolver(type, (ex, api, context) -> handled.set(ex));
+        imperat.registerCommand(Command.create(imperat, "failing")
+                .defaultExecution((source, context) -> {
+                    throw error.get();
+                })
+                .build());
+        imperat.dispatch(SOURCE, "failing", "");
+        Assertions.assertInstanceOf(type, handled.get());
+        return handled.get();
+    }
+
+    @Test
+    public void testUserErrorsAreStacklessWhileDispatching() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Assertions.assertTrue(imperat.config().isStacklessUserErrors());
+        Throwable handled = dispatchFailing(imperat, SourceException.class, () -> new SourceException("bad input"));
+        Assertions.assertEquals(0, handled.getStackTrace().length);
+    }
+
+    @Test
+    public void testOtherErrorsKeepTheirStackTrace() {
+        TestImperat imperat = TestImperatConfig.builder().build();
+        Throwable handled = dispatchFailing(imperat, ImperatException.class, () -> new ImperatException("bug"));
+        Assertions.assertNotEquals(0, handled.getStackTrace().length);
+    }
+
+    @Test
+    public void testStacklessUserErrorsArePerConfig() {
+        TestImperat imperat = TestImperatConfig.builder()
+                .stacklessUserErrors(false)
+                .build();
+        Throwable handled = dispatchFailing(imperat, SourceException.class, () -> new SourceException("bad input"));
+        Assertions.assertNotEquals(0, handled.getStackTrace().length);
+
+        // another instance keeps its own default
+        Throwable other = dispatchFailing(TestImperatConfig.builder().build(), SourceException.class, () -> new SourceException("bad input"));
+        Assertions.assertEquals(0, other.getStackTrace().length);
+    }
+
+    @Test
+    public void testUserErrorsKeepTheirStackTraceOutsideDispatch() {
+        Assertions.assertNotEquals(0, new SourceException("bad input").getStackTrace().length);
+        try (var ignored = ImperatException.openStacklessScope(true)) {
+            Assertions.assertEquals(0, new SourceException("bad input").getStackTrace().length);
+            try (var nested = ImperatException.openStacklessScope(false)) {
+                Assertions.assertNotEquals(0, new SourceException("bad input").getStackTrace().length);
+            }
+            // the outer setting is restored
+            Assertions.assertEquals(0, new SourceException("bad input").getStackTrace().length);
+        }
+        Assertions.assertNotEquals(0, new SourceException("bad input").getStackTrace().length);
+    }
+
+    @Test
+    public void testResolverLookupWalksSuperclasses() {
+        ImperatConfig<TestSource> config = TestImperatConfig.builder().build().config();
+        Assertions.assertNull(config.getThrowableResolver(CustomException.class));
+
+        ThrowableResolver<CustomException, TestSource> resolver = (ex, api, context) -> {};
+        config.setThrowableResolver(CustomException.class, resolver);
+        Assertions.assertSame(resolver, config.getThrowableResolver(CustomException.class));
+        Assertions.assertSame(resolver, config.getThrowableResolver(CustomSubException.class));
+        // memoized lookups return the same handler
+        Assertions.assertSame(resolver, config.getThrowableResolver(CustomSubException.class));
+    }
+
+    @Test
+    public void testSettingResolverDropsMemoizedLookups() {
+        ImperatConfig<TestSource> config = TestImperatConfig.builder().build().config();
+        ThrowableResolver<CustomException, TestSource> resolver = (ex, api, context) -> {};
+        config.setThrowableResolver(CustomException.class, resolver);
+        Assertions.assertSame(resolver, config.getThrowableResolver(CustomSubException.class));
+
+        ThrowableResolver<CustomSubException, TestSource> subResolver = (ex, api, context) -> {};
+        config.setThrowableResolver(CustomSubException.class, subResolver);
+        Assertions.assertSame(subResolver, config.getThrowableResolver(CustomSubException.class));
+        Assertions.assertSame(resolver, config.getThrowableResolver(CustomException.class));
+    }
+
+    private static class CustomException extends RuntimeException {
+    }
+
+    private static final class CustomSubException extends CustomException {
+    }
+}
@@ -0,0 +1,113 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.ParameterBuilder;
+import dev.velix.imperat.components.TestImperat;
+import dev.velix.imperat.components.TestImperatConfig;
+import dev.velix.imperat.components.TestSource;
+import dev.velix.imperat.exception.AmbiguousUsageAdditionException;
+import dev.velix.imperat.verification.UsageAmbiguity;
+import dev.velix.imperat.verification.UsageVerifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TestUsageAmbiguity {
+
+    TestUsageAmbiguity() {
+    }
+
+    @SafeVarargs
+    private static CommandUsage.Builder<TestSource> usage(ParameterBuilder<TestSource, ?>... parameters) {
+        return CommandUsage.<TestSource>builder()
+                .parameters(parameters)
+                .execute((source, context) -> {});
+    }
+
+    //two pairs of conflicting usages, ambiguous for both verifiers
+    private static Command<TestSource> conflicting(TestImperat imperat) {
+        return Command.create(imperat, "conflicting")
+                .usage(usage(CommandParameter.requiredText("first")))
+                .usage(usage(CommandParameter.requiredText("second")))
+                .usage(usage(CommandParameter.requiredInt("x"), CommandParameter.requiredInt("y")))
+                .usage(usage(CommandParameter.requiredInt("z"), CommandParameter.requiredInt("w")))
+                .build();
+    }
+
+    private static Set<String> formatted(Command<TestSource> command, List<UsageAmbiguity<TestSource>> ambiguities) {
+        return ambiguities.stream()
+                .map((ambiguity) -> CommandUsage.format(command, ambiguity.first()) + " | " + CommandUsage.format(command, ambiguity.second()))
+                .collect(Collectors.toSet());
+    }
+
+    private static void assertEveryPairReported(UsageVerifier<TestSource> verifier) {
+        TestImperat imperat = TestImperatConfig.builder().usageVerifier(verifier).build();
+        Command<TestSource> command = conflicting(imperat);
+
+        List<UsageAmbiguity<TestSource>> ambiguities = verifier.findAmbiguities(command.usages());
+        Assertions.assertEquals(
+                Set.of("conflicting <first> | conflicting <second>", "conflicting <x> <y> | conflicting <z> <w>"),
+                formatted(command, ambiguities)
+        );
+
+        String message = new AmbiguousUsageAdditionException(command, ambiguities).getMessage();
+        for (UsageAmbiguity<TestSource> ambiguity : ambiguities) {
+            Assertions.assertTrue(message.contains(CommandUsage.format(command, ambiguity.first())), message);
+            Assertions.assertTrue(message.contains(CommandUsage.format(command, ambiguity.second())), message);
+        }
+        Assertions.assertTrue(message.contains("1 other ambiguities"), message);
+
+        // the failure is reported rather than thrown, and the command is left unregistered
+        imperat.registerCommand(command);
+        Assertions.assertNull(imperat.getCommand("conflicting"));
+    }
+
+    @Test
+    public void testSimpleVerifierReportsEveryPair() {
+        assertEveryPairReported(UsageVerifier.simpleVerifier());
+    }
+
+    @Test
+    public void testTypeTolerantVerifierReportsEveryPair() {
+        assertEveryPairReported(UsageVerifier.typeTolerantVerifier());
+    }
+
+    @Test
+    public void testUsagesOfDifferentLengthsAreAccepted() {
+        for (UsageVerifier<TestSource> verifier : List.of(UsageVerifier.<TestSource>simpleVerifier(), UsageVerifier.<TestSource>typeTolerantVerifier())) {
+            TestImperat imperat = TestImperatConfig.builder().usageVerifier(verifier).build();
+            Command<TestSource> command = Command.create(imperat, "lengths")
+                    .usage(usage(CommandParameter.requiredText("first")))
+                    .usage(usage(CommandParameter.requiredText("x"), CommandParameter.requiredText("y")))
+                    .usage(usage(CommandParameter.requiredInt("a"), CommandParameter.requiredInt("b"), CommandParameter.requiredInt("c")))
+                    .build();
+
+            Assertions.assertEquals(List.of(), verifier.findAmbiguities(command.usages()));
+            imperat.registerCommand(command);
+            Assertions.assertNotNull(imperat.getCommand("lengths"));
+        }
+    }
+
+    @Test
+    public void testTypeTolerantVerifierAcceptsUsagesOfDifferentTypes() {
+        UsageVerifier<TestSource> verifier = UsageVerifier.typeTolerantVerifier();
+        TestImperat imperat = TestImperatConfig.builder().usageVerifier(verifier).build();
+        Command<TestSource> command = Command.create(imperat, "types")
+                .usage(usage(CommandParameter.requiredText("name")))
+                .usage(usage(CommandParameter.requiredInt("amount")))
+                .usage(usage(CommandParameter.requiredBoolean("enabled")))
+                .build();
+
+        Assertions.assertEquals(List.of(), verifier.findAmbiguities(command.usages()));
+        imperat.registerCommand(command);
+        Assertions.assertNotNull(imperat.getCommand("types"));
+
+        // the same usages are all ambiguous for the simple verifier
+        Assertions.assertEquals(3, UsageVerifier.<TestSource>simpleVerifier().findAmbiguities(command.usages()).size());
+    }
+}
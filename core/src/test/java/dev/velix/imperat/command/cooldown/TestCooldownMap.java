@@ -0,0 +1,132 @@
+package dev.velix.imperat.command.cooldown;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class TestCooldownMap {
+
+    TestCooldownMap() {
+    }
+
+    //keys sharing a hash code, so they share a stripe and a probe sequence
+    private record CollidingKey(int id, int hash) {
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    public void testRemovalKeepsProbeSequence() {
+        CooldownMap map = new CooldownMap(Integer.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            map.put(new CollidingKey(i, 7), i, Long.MIN_VALUE);
+        }
+
+        // removing from the middle of the sequence must not hide the entries after it
+        map.remove(new CollidingKey(3, 7));
+        map.remove(new CollidingKey(4, 7));
+        map.remove(new CollidingKey(8, 7), 8);
+        map.remove(new CollidingKey(9, 7), 0);
+
+        for (int i = 0; i < 10; i++) {
+            long expected = i == 3 || i == 4 || i == 8 ? CooldownMap.ABSENT : i;
+            Assertions.assertEquals(expected, map.get(new CollidingKey(i, 7)), "key " + i);
+        }
+        Assertions.assertEquals(7, map.size());
+    }
+
+    @Test
+    public void testMatchesHashMap() {
+        CooldownMap map = new CooldownMap(Integer.MAX_VALUE);
+        Map<CollidingKey, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int op = 0; op < 20_000; op++) {
+            int id = random.nextInt(200);
+            var key = new CollidingKey(id, id % 5);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    map.put(key, op, Long.MIN_VALUE);
+                    expected.put(key, (long) op);
+                }
+                case 1 -> {
+                    map.remove(key);
+                    expected.remove(key);
+                }
+                default -> Assertions.assertEquals(expected.getOrDefault(key, CooldownMap.ABSENT), map.get(key));
+            }
+        }
+        Assertions.assertEquals(expected.size(), map.size());
+        expected.forEach((key, moment) -> Assertions.assertEquals(moment, map.get(key)));
+    }
+
+    @Test
+    public void testExpiredEntriesAreSwept() {
+        CooldownMap map = new CooldownMap(Integer.MAX_VALUE);
+        for (int i = 0; i < 10_000; i++) {
+            map.put("old-" + i, 0, Long.MIN_VALUE);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            map.put("new-" + i, 100, 50);
+        }
+        Assertions.assertTrue(map.size() < 20_000, "expired entries were kept: " + map.size());
+        Assertions.assertEquals(100, map.get("new-0"));
+    }
+
+    @Test
+    public void testBounded() {
+        CooldownMap map = new CooldownMap(64);
+        for (int i = 0; i < 1_000; i++) {
+            map.put("source-" + i, i, Long.MIN_VALUE);
+        }
+        // each stripe holds up to a sixteenth of the bound, the oldest entries are evicted first
+        Assertions.assertTrue(map.size() <= 64, "size " + map.size());
+        Assertions.assertEquals(999, map.get("source-999"));
+        Assertions.assertEquals(CooldownMap.ABSENT, map.get("source-0"));
+    }
+
+    @Test
+    public void testBoundedStripeEvictsOldestEntries() {
+        // sixty four entries per stripe, the colliding keys all go to the same one
+        CooldownMap map = new CooldownMap(16 * 64);
+        for (int i = 0; i < 1_000; i++) {
+            map.put(new CollidingKey(i, 7), i, Long.MIN_VALUE);
+            Assertions.assertTrue(map.size() <= 64, "size " + map.size() + " after " + i);
+        }
+
+        // at most an eighth of the stripe was evicted at once, only the newest entries are left
+        int size = map.size();
+        Assertions.assertTrue(size >= 64 - 8, "size " + size);
+        for (int i = 0; i < 1_000; i++) {
+            long expected = i >= 1_000 - size ? i : CooldownMap.ABSENT;
+            Assertions.assertEquals(expected, map.get(new CollidingKey(i, 7)), "key " + i);
+        }
+
+        // updating an entry of a full stripe evicts nothing
+        map.put(new CollidingKey(999, 7), 1_000, Long.MIN_VALUE);
+        Assertions.assertEquals(size, map.size());
+    }
+
+    @Test
+    public void testBoundedStripeSweepsExpiredEntries() {
+        CooldownMap map = new CooldownMap(16 * 64);
+        for (int i = 0; i < 64; i++) {
+            map.put(new CollidingKey(i, 7), 0, Long.MIN_VALUE);
+        }
+        // the old entries expire, they're swept rather than evicted once the sweep is due
+        for (int i = 64; i < 64 + 1_000; i++) {
+            map.put(new CollidingKey(i, 7), i, 50);
+        }
+        for (int i = 0; i < 64; i++) {
+            Assertions.assertEquals(CooldownMap.ABSENT, map.get(new CollidingKey(i, 7)), "key " + i);
+        }
+        Assertions.assertEquals(1_063, map.get(new CollidingKey(1_063, 7)));
+        Assertions.assertTrue(map.size() <= 64, "size " + map.size());
+    }
+}
@@ -0,0 +1,76 @@
+package dev.velix.imperat.command.parameters.type;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TestNumberScanner {
+
+    private static final List<String> INPUTS = List.of(
+            "", "-", "+", "0", "-0", "+0", "7", "-7", "+7", "00012",
+            "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+            "99999999999999999999", "--1", "+-1", "1-", "1 ", " 1", "1_000", "\u0661\u0662\u0663",
+            "1.", ".5", ".", "-.5", "1.5", "1e", "1e5", "1E+5", "1e-5", "1.5e", "e5", "1e5.5",
+            "1f", "1D", "1.5F", "1fd", "0x10", "0x1p3", "0X1.8P1", "0x", "0xg",
+            "NaN", "-NaN", "Infinity", "-Infinity", "+Infinity", "Inf", "nan", "\t2.5\n", "1,5", "abc"
+    );
+
+    TestNumberScanner() {
+    }
+
+    @Test
+    public void testIntegersMatchTheJdk() {
+        for (String input : INPUTS) {
+            Assertions.assertEquals(parsesAsInt(input), NumberScanner.isInteger(input, Integer.MIN_VALUE, Integer.MAX_VALUE), "int '" + input + "'");
+            Assertions.assertEquals(parsesAsLong(input), NumberScanner.isInteger(input, Long.MIN_VALUE, Long.MAX_VALUE), "long '" + input + "'");
+        }
+    }
+
+    @Test
+    public void testDecimalsMatchTheJdk() {
+        for (String input : INPUTS) {
+            Assertions.assertEquals(parsesAsDouble(input), NumberScanner.isDecimal(input), "double '" + input + "'");
+        }
+    }
+
+    @Test
+    public void testEdgeCases() {
+        Assertions.assertFalse(NumberScanner.isInteger("-", Integer.MIN_VALUE, Integer.MAX_VALUE));
+        Assertions.assertFalse(NumberScanner.isInteger("+", Integer.MIN_VALUE, Integer.MAX_VALUE));
+        Assertions.assertFalse(NumberScanner.isInteger("2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE));
+        Assertions.assertTrue(NumberScanner.isInteger("-2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE));
+        Assertions.assertFalse(NumberScanner.isInteger("9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE));
+        Assertions.assertFalse(NumberScanner.isDecimal("1e"));
+        Assertions.assertTrue(NumberScanner.isDecimal("0x1p3"));
+        Assertions.assertFalse(NumberScanner.isDecimal("0x10"));
+    }
+
+    private static boolean parsesAsInt(String input) {
+        try {
+            Integer.parseInt(input);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static boolean parsesAsLong(String input) {
+        try {
+            Long.parseLong(input);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private static boolean parsesAsDouble(String input) {
+        try {
+            Double.parseDouble(input);
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.velix.imperat.commands;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Flag;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.Suggest;
+import dev.velix.imperat.annotations.Switch;
+import dev.velix.imperat.annotations.Usage;
+import dev.velix.imperat.components.TestSource;
+import org.jetbrains.annotations.Nullable;
+
+@Command("flagbag")
+public class TestFlagBag {
+
+    @Usage
+    public void onUsage(
+            TestSource source,
+            @Named("target") String target,
+            @Flag({"time", "t"}) @Nullable String time,
+            @Switch({"silent", "s"}) boolean silent,
+            @Named("reason") @Suggest({"cheating", "spamming"}) String reason,
+            @Named("note") @Suggest({"first", "second"}) String note
+    ) {
+        // /flagbag <target> [-time <time>] [-silent] <reason> <note>
+    }
+}
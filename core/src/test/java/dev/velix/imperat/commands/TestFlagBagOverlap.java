@@ -0,0 +1,32 @@
+package dev.velix.imperat.commands;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Flag;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.Suggest;
+import dev.velix.imperat.annotations.Switch;
+import dev.velix.imperat.annotations.Usage;
+import dev.velix.imperat.components.TestSource;
+import org.jetbrains.annotations.Nullable;
+
+@Command("flagbagoverlap")
+public class TestFlagBagOverlap {
+
+    @Usage
+    public void onFlags(
+            TestSource source,
+            @Switch({"silent", "s"}) boolean silent,
+            @Flag({"time", "t"}) @Nullable String time
+    ) {
+        // /flagbagoverlap [-silent] [-time <time>]
+    }
+
+    @Usage
+    public void onTarget(
+            TestSource source,
+            @Switch({"silent", "s"}) boolean silent,
+            @Named("target") @Suggest({"mqzen", "ahmed"}) String target
+    ) {
+        // /flagbagoverlap [-silent] <target>, its lone flag shares its name with the first flag of the bag above
+    }
+}
@@ -0,0 +1,20 @@
+package dev.velix.imperat.commands;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.Usage;
+import dev.velix.imperat.annotations.Values;
+import dev.velix.imperat.components.TestSource;
+
+@Command("testvalues")
+public class TestValues {
+
+    @Usage
+    public void onUsage(
+            TestSource source,
+            @Values({"on", "off"}) @Named("mode") String mode,
+            @Named("note") String note
+    ) {
+        // /testvalues <mode> <note>
+    }
+}
@@ -0,0 +1,102 @@
+package dev.velix.imperat.commands;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.Usage;
+import dev.velix.imperat.annotations.Values;
+import dev.velix.imperat.components.TestSource;
+
+/**
+ * Commands constraining the same parameter type to different values,
+ * loaded together to check that none of them sees the values of another.
+ */
+public final class ValuesCommands {
+
+    public static final String[][] VALUES = {
+        {"red", "green"},
+        {"small", "large"},
+        {"north", "south"},
+        {"day", "night"},
+        {"hot", "cold"},
+        {"up", "down"},
+        {"left", "right"},
+        {"open", "closed"}
+    };
+
+    public static Object[] all() {
+        return new Object[]{
+            new Values1(),
+            new Values2(),
+            new Values3(),
+            new Values4(),
+            new Values5(),
+            new Values6(),
+            new Values7(),
+            new Values8()
+        };
+    }
+
+    @Command("values1")
+    public static final class Values1 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"red", "green"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values2")
+    public static final class Values2 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"small", "large"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values3")
+    public static final class Values3 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"north", "south"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values4")
+    public static final class Values4 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"day", "night"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values5")
+    public static final class Values5 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"hot", "cold"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values6")
+    public static final class Values6 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"up", "down"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values7")
+    public static final class Values7 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"left", "right"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+
+    @Command("values8")
+    public static final class Values8 {
+
+        @Usage
+        public void onUsage(TestSource source, @Values({"open", "closed"}) @Named("mode") String mode, @Named("note") String note) {
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dev.velix.imperat.paramtypes;
+
+import dev.velix.imperat.command.parameters.type.ParameterNumber;
+import dev.velix.imperat.components.TestSource;
+
+/**
+ * A number type declared outside of Imperat, only telling how to parse it.
+ */
+public final class ParameterShort extends ParameterNumber<TestSource, Short> {
+
+    @Override
+    public String display() {
+        return "short";
+    }
+
+    @Override
+    public Short parse(String input) throws NumberFormatException {
+        return Short.parseShort(input);
+    }
+}
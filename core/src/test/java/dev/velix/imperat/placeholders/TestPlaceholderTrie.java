@@ -0,0 +1,68 @@
+package dev.velix.imperat.placeholders;
+
+import dev.velix.imperat.components.TestSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestPlaceholderTrie {
+
+    private final Map<String, Integer> resolutions = new HashMap<>();
+
+    TestPlaceholderTrie() {
+    }
+
+    private Placeholder<TestSource> placeholder(String id, String value) {
+        return Placeholder.<TestSource>builder(id)
+                .resolver((placeholderId, config) -> {
+                    resolutions.merge(placeholderId, 1, Integer::sum);
+                    return value;
+                })
+                .build();
+    }
+
+    @SafeVarargs
+    private PlaceholderTrie<TestSource> trie(Placeholder<TestSource>... placeholders) {
+        return new PlaceholderTrie<>(new ArrayList<>(List.of(placeholders)));
+    }
+
+    @Test
+    public void testNoPlaceholderReturnsInput() {
+        var trie = trie(placeholder("%name%", "mqzen"));
+        String input = "no placeholders here";
+        Assertions.assertSame(input, trie.replace(input, null));
+    }
+
+    @Test
+    public void testLongestMatchWins() {
+        var trie = trie(placeholder("%p", "short"), placeholder("%player%", "long"));
+        Assertions.assertEquals("long and short", trie.replace("%player% and %p", null));
+    }
+
+    @Test
+    public void testEveryOccurrenceResolvedOnce() {
+        var trie = trie(placeholder("%a%", "1"), placeholder("%b%", "2"));
+        Assertions.assertEquals("1-2-1-2", trie.replace("%a%-%b%-%a%-%b%", null));
+        Assertions.assertEquals(1, resolutions.get("%a%"));
+        Assertions.assertEquals(1, resolutions.get("%b%"));
+    }
+
+    @Test
+    public void testResolvedValuesAreNotScannedAgain() {
+        var trie = trie(placeholder("%outer%", "%inner%"), placeholder("%inner%", "resolved"));
+        Assertions.assertEquals("%inner% resolved", trie.replace("%outer% %inner%", null));
+    }
+
+    @Test
+    public void testOverlappingPrefixes() {
+        var trie = trie(placeholder("ab", "X"), placeholder("abc", "Y"), placeholder("bc", "Z"));
+        Assertions.assertEquals("Y", trie.replace("abc", null));
+        Assertions.assertEquals("Xd", trie.replace("abd", null));
+        Assertions.assertEquals("xZ", trie.replace("xbc", null));
+        Assertions.assertEquals("YZ", trie.replace("abcbc", null));
+    }
+}
@@ -0,0 +1,198 @@
+package dev.velix.imperat.resolvers;
+
+import dev.velix.imperat.context.Source;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class TestCachingPermissionResolver {
+
+    private final CountingResolver delegate = new CountingResolver();
+
+    TestCachingPermissionResolver() {
+    }
+
+    private static Source player(String name) {
+        return new Source() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Object origin() {
+                return this;
+            }
+
+            @Override
+            public void reply(String message) {
+            }
+
+            @Override
+            public void warn(String message) {
+            }
+
+            @Override
+            public void error(String message) {
+            }
+
+            @Override
+            public boolean isConsole() {
+                return false;
+            }
+
+            @Override
+            public UUID uuid() {
+                return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    @Test
+    public void testResultsAreMemoizedForTheirTimeToLive() throws InterruptedException {
+        Source bob = player("bob");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ofHours(1));
+        Assertions.assertTrue(resolver.hasPermission(bob, "kick"));
+        Assertions.assertTrue(resolver.hasPermission(bob, "kick"));
+        Assertions.assertEquals(1, delegate.lookups("bob", "kick"));
+
+        // another instance of the same source shares its results
+        Assertions.assertTrue(resolver.hasPermission(player("bob"), "kick"));
+        Assertions.assertEquals(1, delegate.lookups("bob", "kick"));
+
+        // results of other permissions and sources aren't shared
+        resolver.hasPermission(bob, "ban");
+        resolver.hasPermission(player("alice"), "kick");
+        Assertions.assertEquals(1, delegate.lookups("bob", "ban"));
+        Assertions.assertEquals(1, delegate.lookups("alice", "kick"));
+
+        var shortLived = CachingPermissionResolver.of(delegate, Duration.ofMillis(1));
+        shortLived.hasPermission(bob, "mute");
+        Thread.sleep(5);
+        shortLived.hasPermission(bob, "mute");
+        Assertions.assertEquals(2, delegate.lookups("bob", "mute"));
+    }
+
+    @Test
+    public void testNullPermissionIsNeverMemoized() {
+        Source bob = player("bob");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ofHours(1));
+        resolver.hasPermission(bob, null);
+        resolver.hasPermission(bob, null);
+        Assertions.assertEquals(2, delegate.lookups("bob", null));
+    }
+
+    @Test
+    public void testResultsAreMemoizedWithinScopeWithoutTimeToLive() {
+        Source bob = player("bob");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ZERO);
+        resolver.hasPermission(bob, "kick");
+        resolver.hasPermission(bob, "kick");
+        Assertions.assertEquals(2, delegate.lookups("bob", "kick"));
+
+        try (PermissionScope ignored = resolver.openScope()) {
+            resolver.hasPermission(bob, "kick");
+            resolver.hasPermission(bob, "kick");
+            Assertions.assertEquals(3, delegate.lookups("bob", "kick"));
+        }
+
+        resolver.hasPermission(bob, "kick");
+        Assertions.assertEquals(4, delegate.lookups("bob", "kick"));
+    }
+
+    @Test
+    public void testNestedScopesDropResultsOnceOutermostCloses() {
+        Source bob = player("bob");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ZERO);
+        try (PermissionScope outer = resolver.openScope()) {
+            resolver.hasPermission(bob, "kick");
+            try (PermissionScope inner = resolver.openScope()) {
+                resolver.hasPermission(bob, "kick");
+                resolver.hasPermission(bob, "ban");
+            }
+            // closing the inner scope kept the results
+            resolver.hasPermission(bob, "kick");
+            resolver.hasPermission(bob, "ban");
+            Assertions.assertEquals(1, delegate.lookups("bob", "kick"));
+            Assertions.assertEquals(1, delegate.lookups("bob", "ban"));
+        }
+
+        resolver.hasPermission(bob, "kick");
+        Assertions.assertEquals(2, delegate.lookups("bob", "kick"));
+    }
+
+    @Test
+    public void testInvalidateDropsResultsOfSource() {
+        Source bob = player("bob");
+        Source alice = player("alice");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ofHours(1));
+        resolver.hasPermission(bob, "kick");
+        resolver.hasPermission(alice, "kick");
+
+        delegate.grant("bob", "kick", false);
+        Assertions.assertTrue(resolver.hasPermission(bob, "kick"));
+
+        resolver.invalidate(bob);
+        Assertions.assertFalse(resolver.hasPermission(bob, "kick"));
+        Assertions.assertEquals(2, delegate.lookups("bob", "kick"));
+
+        resolver.hasPermission(alice, "kick");
+        Assertions.assertEquals(1, delegate.lookups("alice", "kick"));
+    }
+
+    @Test
+    public void testInvalidateDropsResultsWithinScope() {
+        Source bob = player("bob");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ZERO);
+        try (PermissionScope ignored = resolver.openScope()) {
+            resolver.hasPermission(bob, "kick");
+            resolver.invalidate(bob);
+            resolver.hasPermission(bob, "kick");
+            Assertions.assertEquals(2, delegate.lookups("bob", "kick"));
+        }
+    }
+
+    @Test
+    public void testInvalidateAllDropsEveryResult() {
+        Source bob = player("bob");
+        Source alice = player("alice");
+        var resolver = CachingPermissionResolver.of(delegate, Duration.ofHours(1));
+        try (PermissionScope ignored = resolver.openScope()) {
+            resolver.hasPermission(bob, "kick");
+            resolver.hasPermission(alice, "kick");
+
+            resolver.invalidateAll();
+            resolver.hasPermission(bob, "kick");
+            resolver.hasPermission(alice, "kick");
+        }
+        Assertions.assertEquals(2, delegate.lookups("bob", "kick"));
+        Assertions.assertEquals(2, delegate.lookups("alice", "kick"));
+    }
+
+    //grants everything unless told otherwise, counting the lookups of each source and permission
+    private static final class CountingResolver implements PermissionResolver<Source> {
+
+        private final Map<String, Integer> lookups = new HashMap<>();
+        private final Map<String, Boolean> grants = new HashMap<>();
+
+        @Override
+        public boolean hasPermission(Source source, String permission) {
+            String key = source.name() + ":" + permission;
+            lookups.merge(key, 1, Integer::sum);
+            return grants.getOrDefault(key, true);
+        }
+
+        int lookups(String source, String permission) {
+            return lookups.getOrDefault(source + ":" + permission, 0);
+        }
+
+        void grant(String source, String permission, boolean granted) {
+            grants.put(source + ":" + permission, granted);
+        }
+    }
+}
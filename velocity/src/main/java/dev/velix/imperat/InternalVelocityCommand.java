@@ -8,6 +8,7 @@ import dev.velix.imperat.command.Command;
 import dev.velix.imperat.util.StringUtils;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 final class InternalVelocityCommand implements SimpleCommand {
 
@@ -47,7 +48,16 @@ final class InternalVelocityCommand implements SimpleCommand {
 
     @Override
     public List<String> suggest(Invocation invocation) {
-        return imperat.autoComplete(command, imperat.wrapSender(invocation.source()), invocation.alias(), invocation.arguments()).join();
+        return suggestAsync(invocation).join();
+    }
+
+    /**
+     * Completes on the suggestion executor of the config, velocity calls this
+     * from its network threads, which must not wait for the suggestions.
+     */
+    @Override
+    public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
+        return imperat.autoComplete(command, imperat.wrapSender(invocation.source()), invocation.alias(), invocation.arguments());
     }
 
     @Override